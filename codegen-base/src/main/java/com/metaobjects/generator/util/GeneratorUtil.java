@@ -1,6 +1,7 @@
 package com.metaobjects.generator.util;
 
 import com.metaobjects.MetaData;
+import com.metaobjects.cache.PatternCache;
 import com.metaobjects.generator.MetaDataFilters;
 import com.metaobjects.loader.MetaDataLoader;
 import com.metaobjects.object.MetaObject;
@@ -9,7 +10,6 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 public class GeneratorUtil {
@@ -119,28 +119,28 @@ public class GeneratorUtil {
     }
 
     public static boolean filterByName( String metaDataName, String nameFilter) {
-        return Pattern.compile(createRegexFromGlob(nameFilter)).matcher( metaDataName ).matches();
+        return PatternCache.compile(createRegexFromGlob(nameFilter)).matcher( metaDataName ).matches();
     }
 
     private static String createRegexFromGlob(String glob)
     {
-        String out = "^";
+        StringBuilder out = new StringBuilder(glob.length() + 8).append('^');
         for(int i = 0; i < glob.length(); ++i)
         {
             final char c = glob.charAt(i);
             switch(c)
             {
-                case '*': out += ".*"; break;
-                case '@': out += "[^:]+"; break;
-                case '?': out += "."; break;
-                case '.': out += "\\."; break;
-                case ':': out += "\\:"; break;      // TODO:  This doesn't seem to work on enforcing the ::'s as a separator for *
-                case '\\': out += "\\\\"; break;
-                default: out += c;
+                case '*': out.append(".*"); break;
+                case '@': out.append("[^:]+"); break;
+                case '?': out.append('.'); break;
+                case '.': out.append("\\."); break;
+                case ':': out.append("\\:"); break;      // TODO:  This doesn't seem to work on enforcing the ::'s as a separator for *
+                case '\\': out.append("\\\\"); break;
+                default: out.append(c);
             }
         }
-        out += '$';
-        return out;
+        out.append('$');
+        return out.toString();
     }
 
     public static String toRelativePackage( String p1, String p2 ) {
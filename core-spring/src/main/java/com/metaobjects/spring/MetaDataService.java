@@ -55,7 +55,8 @@ public class MetaDataService {
     }
     
     /**
-     * Find MetaObject by name across all registered loaders.
+     * Find MetaObject by name across all registered loaders, using the name index
+     * of the registry.
      * 
      * @param name Fully qualified metadata name (e.g., "com.example::User")
      * @return MetaObject instance
@@ -72,11 +73,7 @@ public class MetaDataService {
      * @return Optional containing MetaObject if found
      */
     public Optional<MetaObject> findMetaObjectByNameOptional(String name) {
-        try {
-            return Optional.of(findMetaObjectByName(name));
-        } catch (MetaDataNotFoundException e) {
-            return Optional.empty();
-        }
+        return registry.findMetaObjectByNameOptional(name);
     }
     
     /**
@@ -97,11 +94,7 @@ public class MetaDataService {
      * @return Optional containing MetaObject if found
      */
     public Optional<MetaObject> findMetaObjectOptional(Object obj) {
-        try {
-            return Optional.of(findMetaObject(obj));
-        } catch (MetaDataNotFoundException e) {
-            return Optional.empty();
-        }
+        return registry.findMetaObjectOptional(obj);
     }
     
     /**
@@ -1,5 +1,6 @@
 package com.metaobjects.loader.file;
 
+import com.metaobjects.cache.CacheStrategyType;
 import com.metaobjects.loader.LoaderOptions;
 
 import java.util.*;
@@ -28,6 +29,9 @@ public class FileLoaderOptions<T extends FileLoaderOptions> extends LoaderOption
     public T setShouldRegister(boolean shouldRegister ) { return super.setShouldRegister( shouldRegister ); }
     public T setVerbose(boolean verbose) { return super.setVerbose( verbose ); }
     public T setStrict(boolean strict) { return super.setStrict( strict ); }
+    public T setCacheStrategy(CacheStrategyType cacheStrategy) { return super.setCacheStrategy( cacheStrategy ); }
+    public T setCacheMaxSize(int cacheMaxSize) { return super.setCacheMaxSize( cacheMaxSize ); }
+    public T setCacheStatsEnabled(boolean cacheStatsEnabled) { return super.setCacheStatsEnabled( cacheStatsEnabled ); }
 
     ///////////////////////////////////////////////////////////////////////////
     // MetaData Sources
@@ -87,6 +91,9 @@ public class FileLoaderOptions<T extends FileLoaderOptions> extends LoaderOption
                 "shouldRegister=" + shouldRegister() +
                 ", verbose=" + isVerbose() +
                 ", strict=" + isStrict() +
+                ", cacheStrategy=" + getCacheStrategy() +
+                ", cacheMaxSize=" + getCacheMaxSize() +
+                ", cacheStatsEnabled=" + isCacheStatsEnabled() +
                 ", allowAutoAttrs=" + allowAutoAttrs +
                 ", sources=" + sources +
                 '}';
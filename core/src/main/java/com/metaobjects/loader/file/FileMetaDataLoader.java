@@ -138,11 +138,15 @@ public class FileMetaDataLoader extends MetaDataLoader {
 
         super.init();
 
-        loadSourceFiles();
-
         return this;
     }
 
+    /** Load the MetaData from the source files */
+    @Override
+    protected void loadMetaData() {
+        loadSourceFiles();
+    }
+
     protected void loadSourceFiles() {
 
         AtomicInteger i = new AtomicInteger();
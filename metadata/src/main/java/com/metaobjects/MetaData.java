@@ -15,10 +15,14 @@ import com.metaobjects.view.MetaView;
 import com.metaobjects.loader.MetaDataLoader;
 // Using unified registry instead
 import com.metaobjects.registry.MetaDataRegistry;
+import com.metaobjects.registry.TypeOrdinals;
 import com.metaobjects.constraint.ConstraintEnforcer;
 import com.metaobjects.constraint.PlacementConstraint;
+import com.metaobjects.cache.CacheKey;
+import com.metaobjects.cache.CacheStatistics;
 import com.metaobjects.cache.CacheStrategy;
 import com.metaobjects.cache.HybridCache;
+import com.metaobjects.cache.StatisticsRecordingCache;
 import com.metaobjects.collections.IndexedMetaDataCollection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +31,8 @@ import java.io.Serializable;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -236,16 +242,40 @@ public class MetaData implements Cloneable, Serializable {
             log.error("Failed to register root MetaData type during class loading", e);
         }
     }
-    // Unified caching strategy
-    private final CacheStrategy cache = new HybridCache();
+    // Unified caching strategy, created on first use from the owning loader's options
+    private transient volatile CacheStrategy cache = null;
+
+    // Whether the cache was created before this MetaData was attached to a loader
+    private transient boolean cacheDetached = false;
     
-    // Indexed collection for O(1) child lookups
+    // Indexed collection for O(1) child lookups, its lists and indices are allocated on the first add
     private final IndexedMetaDataCollection children = new IndexedMetaDataCollection();
+
+    // Sequence used to stamp structural changes to children, shared by all MetaData
+    private static final AtomicLong childVersionSequence = new AtomicLong();
+
+    // Stamp of the last change to the children or super data of this MetaData
+    private transient volatile long childVersion = childVersionSequence.incrementAndGet();
+
+    // Lazily built, immutable child views keyed by query type or class
+    private transient ChildViews childViews = null;
+
+    // Set once the MetaData has been frozen and can no longer be modified
+    private boolean frozen = false;
+
+    // All children fixed when frozen, read without version checks or view lookups.
+    // The inherited list is built on first use once the super data chain is frozen too
+    private transient List<MetaData> frozenChildren = null;
+    private transient List<MetaData> frozenInheritedChildren = null;
     
 
     // NEW v6.0: Type/subtype as first-class concept  
     private final MetaDataTypeId typeId;
 
+    // Dense ordinals of the type and of the type/subType pair, see TypeOrdinals
+    private final int typeOrdinal;
+    private final int typeIdOrdinal;
+
     // LEGACY: Keep for backward compatibility during transition
     private final String type;
     private final String subType;
@@ -258,6 +288,9 @@ public class MetaData implements Cloneable, Serializable {
 
     private MetaData superData = null;
 
+    // MetaData that use this as their superData, so cache invalidation can reach them
+    private transient List<WeakReference<MetaData>> subDataRefs = null;
+
     // WeakReference prevents circular references and memory leaks in parent-child relationships
     private WeakReference<MetaData> parentRef = null;
     private MetaDataLoader loader = null;
@@ -302,6 +335,10 @@ public class MetaData implements Cloneable, Serializable {
         this.subType = subType;
         this.name = name;
 
+        // Ordinal of the type as given, so isType(int) matches exactly like isType(String)
+        this.typeOrdinal = TypeOrdinals.ofType( type );
+        this.typeIdOrdinal = ( typeId != null ) ? typeId.ordinal() : TypeOrdinals.NONE;
+
         // v6.0.0: Validate name during construction
         if (name != null && type != null) {
             validateName(name);
@@ -427,46 +464,83 @@ public class MetaData implements Cloneable, Serializable {
 
     // ========== UNIFIED CACHING ==========
 
+    /**
+     * Get the cache for this MetaData, creating it on first use.  Lookups that only
+     * read the cache do not call this, so MetaData that never store a value, such as
+     * most leaf attributes, never allocate one.
+     */
+    protected CacheStrategy getCache() {
+        CacheStrategy c = cache;
+        if (c == null) {
+            c = createCache();
+            cacheDetached = getLoader() == null;
+            cache = c;
+        }
+        return c;
+    }
+
+    /**
+     * Create the cache using the strategy configured in the owning loader's LoaderOptions,
+     * or a HybridCache if this MetaData is not attached to a loader.  If the loader has
+     * cache statistics enabled the cache records into them.
+     *
+     * <p>The strategy is chosen when the cache is first used.  Caches created while this
+     * MetaData, or the subtree it belongs to, was not attached to a loader are dropped when
+     * it is attached, so they are created again with the loader's strategy.</p>
+     */
+    protected CacheStrategy createCache() {
+        MetaDataLoader l = getLoader();
+        if (l != null && l.getLoaderOptions() != null) {
+            CacheStrategy c = l.getLoaderOptions().newCache();
+            CacheStatistics stats = l.getCacheStatistics();
+            return stats != null ? new StatisticsRecordingCache(c, stats) : c;
+        }
+        return new HybridCache();
+    }
+
     /**
      * Get cached value with type safety
      */
     public <T> Optional<T> getCacheValue(String key, Class<T> type) {
-        return cache.get(key, type);
+        CacheStrategy c = cache;
+        return c != null ? c.get(key, type) : Optional.empty();
     }
 
     /**
      * Set cache value
      */
     public void setCacheValue(String key, Object value) {
-        cache.put(key, value);
+        getCache().put(key, value);
     }
 
     /**
      * Compute cache value if absent
      */
     public <T> T computeCacheValue(String key, Class<T> type, java.util.function.Supplier<T> supplier) {
-        return cache.computeIfAbsent(key, type, supplier);
+        return getCache().computeIfAbsent(key, type, supplier);
     }
 
     /**
      * Check if cache contains key
      */
     public boolean hasCacheValue(String key) {
-        return cache.containsKey(key);
+        CacheStrategy c = cache;
+        return c != null && c.containsKey(key);
     }
 
     /**
      * Remove cached value
      */
     public Object removeCacheValue(String key) {
-        return cache.remove(key);
+        CacheStrategy c = cache;
+        return c != null ? c.remove(key) : null;
     }
 
     /**
      * Get cache statistics
      */
     public Optional<Object> getCacheStats() {
-        return cache.getStats().map(stats -> (Object) stats);
+        return getCache().getStats().map(stats -> (Object) stats);
     }
 
 
@@ -517,6 +591,50 @@ public class MetaData implements Cloneable, Serializable {
         return this.type.equals( type );
     }
 
+    /**
+     * Checks if this MetaData has the type with the specified ordinal, an int comparison
+     * for filters that resolve the ordinal once with {@link TypeOrdinals#findType(String)}
+     *
+     * @param typeOrdinal the type ordinal to check against
+     * @return true if this MetaData has the specified type, false otherwise
+     * @since 6.0.0
+     */
+    public boolean isType( int typeOrdinal ) {
+        return typeOrdinal != TypeOrdinals.NONE && this.typeOrdinal == typeOrdinal;
+    }
+
+    /**
+     * Checks if the type of this MetaData is in a set of type ordinals
+     *
+     * @param typeOrdinals the type ordinals to check against
+     * @return true if this MetaData has one of the types, false otherwise
+     * @since 6.0.0
+     */
+    public boolean isAnyType( BitSet typeOrdinals ) {
+        return typeOrdinal != TypeOrdinals.NONE && typeOrdinals.get( typeOrdinal );
+    }
+
+    /**
+     * Get the dense ordinal of the type of this MetaData
+     *
+     * @return The type ordinal, or TypeOrdinals.NONE if the type is null
+     * @since 6.0.0
+     */
+    public int getTypeOrdinal() {
+        return typeOrdinal;
+    }
+
+    /**
+     * Get the dense ordinal of the type and subtype of this MetaData, which indexes
+     * {@link MetaDataRegistry#getTypeDefinition(int)}
+     *
+     * @return The typeId ordinal, or TypeOrdinals.NONE if the type or subtype is null
+     * @since 6.0.0
+     */
+    public int getTypeIdOrdinal() {
+        return typeIdOrdinal;
+    }
+
 
     // ========== NEW v6.0 TYPE SYSTEM METHODS ==========
 
@@ -773,6 +891,37 @@ public class MetaData implements Cloneable, Serializable {
      */
     protected void attachParent(MetaData parent) {
         parentRef = new WeakReference<>(parent);
+
+        // The owning loader may have changed, so pick up its cache strategy on next use
+        cache = null;
+        for ( MetaData child : children ) {
+            child.dropDetachedCaches();
+        }
+    }
+
+    /**
+     * Wrap the caches of this MetaData and its children that were created before the
+     * cache statistics of the loader were enabled, so they record into them as well
+     */
+    protected void recordCacheStatistics( CacheStatistics stats ) {
+        CacheStrategy c = cache;
+        if ( c != null && !( c instanceof StatisticsRecordingCache )) {
+            cache = new StatisticsRecordingCache( c, stats );
+        }
+        for ( MetaData child : children ) {
+            child.recordCacheStatistics( stats );
+        }
+    }
+
+    /** Drop the caches created before this subtree was attached to a loader */
+    private void dropDetachedCaches() {
+        if ( cacheDetached ) {
+            cache = null;
+            cacheDetached = false;
+        }
+        for ( MetaData child : children ) {
+            child.dropDetachedCaches();
+        }
     }
 
     /**
@@ -793,7 +942,39 @@ public class MetaData implements Cloneable, Serializable {
      * @param superData the super metadata to set
      */
     public void setSuperData(MetaData superData) {
+        checkNotFrozen();
+        MetaData old = this.superData;
+        if ( old != null ) old.removeSubData( this );
         this.superData = superData;
+        if ( superData != null ) superData.addSubData( this );
+
+        childVersion = childVersionSequence.incrementAndGet();
+        invalidateDependents( null );
+    }
+
+    /** Track a MetaData that uses this as its superData */
+    private synchronized void addSubData( MetaData sub ) {
+        if ( subDataRefs == null ) subDataRefs = new ArrayList<>( 2 );
+        subDataRefs.removeIf( ref -> ref.get() == null );
+        subDataRefs.add( new WeakReference<>( sub ));
+    }
+
+    /** Stop tracking a MetaData that no longer uses this as its superData */
+    private synchronized void removeSubData( MetaData sub ) {
+        if ( subDataRefs != null ) {
+            subDataRefs.removeIf( ref -> ref.get() == null || ref.get() == sub );
+        }
+    }
+
+    /** Get the MetaData that currently use this as their superData */
+    private synchronized List<MetaData> getSubData() {
+        if ( subDataRefs == null || subDataRefs.isEmpty() ) return Collections.emptyList();
+        List<MetaData> subs = new ArrayList<>( subDataRefs.size() );
+        for ( WeakReference<MetaData> ref : subDataRefs ) {
+            MetaData sub = ref.get();
+            if ( sub != null && sub.superData == this ) subs.add( sub );
+        }
+        return subs;
     }
 
     /**
@@ -861,11 +1042,11 @@ public class MetaData implements Cloneable, Serializable {
      * @throws MetaDataNotFoundException if the attribute is not found
      */
     public MetaAttribute getMetaAttr(String name, boolean includeParentData) throws MetaDataNotFoundException {
-        try {
-            return (MetaAttribute) getChild( name, MetaAttribute.class, includeParentData);
-        } catch (MetaDataNotFoundException e) {
+        MetaAttribute attr = resolveChild( null, name, MetaAttribute.class, includeParentData );
+        if ( attr == null ) {
             throw MetaDataNotFoundException.forAttribute(name, this);
         }
+        return attr;
     }
 
 
@@ -886,13 +1067,7 @@ public class MetaData implements Cloneable, Serializable {
      * @return true if the attribute exists, false otherwise
      */
     public boolean hasMetaAttr(String name, boolean includeParentData) {
-        try {
-            if (getChild(name, MetaAttribute.class, includeParentData, false) != null) {
-                return true;
-            }
-        } catch (MetaDataNotFoundException ignored) {}
-        
-        return false;
+        return resolveChild( null, name, MetaAttribute.class, includeParentData ) != null;
     }
 
     /**
@@ -947,12 +1122,8 @@ public class MetaData implements Cloneable, Serializable {
      * @return true if a child of the specified type and name exists, false otherwise
      */
     protected boolean hasChildOfType(String type, String name) {
-        try {
-            getChildOfType( type, name );
-            return true;
-        } catch (MetaDataNotFoundException e) {
-            return false;
-        }
+        if ( type == null ) throw new IllegalArgumentException( "The 'type' field was null" );
+        return resolveChild( type, name, MetaData.class, true ) != null;
     }
 
     /**
@@ -962,12 +1133,7 @@ public class MetaData implements Cloneable, Serializable {
      * @return true if a child with the specified name and type exists, false otherwise
      */
     public boolean hasChild(String name, Class<? extends MetaData> c) {
-        try {
-            getChild(name, c);
-            return true;
-        } catch (MetaDataNotFoundException e) {
-            return false;
-        }
+        return resolveChild( null, name, c, true ) != null;
     }
 
     /**
@@ -1011,19 +1177,17 @@ public class MetaData implements Cloneable, Serializable {
      */
     public void addChild(MetaData data, boolean checkExists)  throws InvalidMetaDataException {
 
+        checkNotFrozen();
         checkValidChild( data );
 
         if (checkExists) {
-            try {
-                MetaData d = getChildOfType( data.getType(), data.getName() );
-                if (d.getParent() == this) {
-                    if (deleteOnAdd( d )) {
-                        deleteChild(d);
-                    } else {
-                        throw new InvalidMetaDataException(data, "MetaData already exists in [" + toString() + "] as [" + d + "]");
-                    }
+            MetaData d = findLocalChild( data.getType(), data.getName(), null );
+            if (d != null && d.getParent() == this) {
+                if (deleteOnAdd( d )) {
+                    deleteChild(d);
+                } else {
+                    throw new InvalidMetaDataException(data, "MetaData already exists in [" + toString() + "] as [" + d + "]");
                 }
-            } catch (MetaDataNotFoundException ignored) {
             }
         }
         
@@ -1048,7 +1212,7 @@ public class MetaData implements Cloneable, Serializable {
         if (children.add(data)) {
             
             // Flush caches
-            flushCaches();
+            childrenChanged( data.getName() );
         }
     }
 
@@ -1058,11 +1222,12 @@ public class MetaData implements Cloneable, Serializable {
      * @param name the name of the child to delete
      */
     public void deleteChildOfType(String type, String name ) {
+        checkNotFrozen();
         MetaData d = getChildOfType(type, name);
         if (d.getParent() == this) {
             if (children.remove(d)) {
                 
-                flushCaches();
+                childrenChanged( name );
             }
         } else {
             throw new MetaDataNotFoundException("You cannot delete MetaData with type [" + type +"] and name [" + name + "] from SuperData of [" + toString() + "]", name );
@@ -1075,11 +1240,12 @@ public class MetaData implements Cloneable, Serializable {
      * @param c the class type of the child to delete
      */
     public void deleteChild(String name, Class<? extends MetaData> c) {
+        checkNotFrozen();
         MetaData d = getChild(name, c);
         if (d.getParent() == this) {
             if (children.remove(d)) {
                 
-                flushCaches();
+                childrenChanged( name );
             }
         } else {
             throw new MetaDataNotFoundException("You cannot delete MetaData with name [" + name + "] from a SuperData of [" + toString() + "]", name );
@@ -1091,13 +1257,14 @@ public class MetaData implements Cloneable, Serializable {
      * @param data the child metadata to delete
      */
     public void deleteChild(MetaData data) {
+        checkNotFrozen();
         if (data.getParent() != this) {
             throw new IllegalArgumentException("MetaData [" + data.toString() + "] is not a child of [" + toString() + "]");
         }
         
         if (children.remove(data)) {
             
-            flushCaches();
+            childrenChanged( data.getName() );
         }
     }
     
@@ -1106,7 +1273,7 @@ public class MetaData implements Cloneable, Serializable {
      * @return list of all child metadata objects
      */
     public List<MetaData> getChildren() {
-        return children.getAll();
+        return addChildren( null, MetaData.class, false );
     }
 
     /**
@@ -1140,104 +1307,138 @@ public class MetaData implements Cloneable, Serializable {
         return addChildren(null, c, includeParentData );
     }
 
-    /** Retrieve the first matching child metadata */
-    /*private <T extends MetaData> T firstChild( String type, Class<T> c, boolean includeParentData ) {
+    /**
+     * Retrieve all matching child metadata.  The result is built once per query type or class
+     * and kept as an immutable list until the children of this MetaData, or of any of its
+     * super data when includeParentData is true, are changed.
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends MetaData> List<T> addChildren( String type, Class<T> c, boolean includeParentData ) {
 
-        List<String> keys = new ArrayList<>();
-        List<T> items = new ArrayList<>();
-        addChildren( keys, items, type, c, includeParentData, false, true );
-        return items.iterator().next();
-    }*/
+        // Leaves share the empty list rather than allocating views
+        if ( isLeaf( includeParentData )) return List.of();
 
-    /** Retrieve all matching child metadata */
-    private <T extends MetaData> List<T> addChildren( String type, Class<T> c, boolean includeParentData ) {
+        // Frozen metadata returns its fixed lists for queries of all children
+        if ( frozen && type == null && ( c == null || c == MetaData.class )) {
+            List<MetaData> all = includeParentData ? getFrozenInheritedChildren() : frozenChildren;
+            if ( all != null ) return (List<T>) all;
+        }
 
-        List<String> keys = new ArrayList<>();
-        List<T> items = new ArrayList<>();
-        addChildren( keys, items, type, c, includeParentData, false, false );
-        return items;
-    }
+        ChildViews views = childViews;
+        if ( views == null ) {
+            views = new ChildViews();
+            childViews = views;
+        }
 
-    /** Add all the matching children to the map - refactored for better maintainability */
-    @SuppressWarnings("unchecked")
-    private <T extends MetaData> void addChildren( List<String> keys, List<T> items, String type, Class<T> c, boolean includeParentData, boolean isParent, boolean firstOnly ) {
-        addLocalChildren(keys, items, type, c, isParent, firstOnly);
-        addParentChildren(keys, items, type, c, includeParentData, firstOnly);
+        Map<Object, ChildView> map = includeParentData ? views.inherited : views.local;
+        Object key = ( type != null ) ? type : ( c != null ) ? c : MetaData.class;
+        long version = includeParentData ? getInheritedChildVersion() : childVersion;
+
+        ChildView view = map.get( key );
+        if ( view == null || view.version != version ) {
+            view = new ChildView( version, collectChildren( type, c, includeParentData ));
+            map.put( key, view );
+        }
+
+        return (List<T>) view.items;
     }
-    
+
     /**
-     * Adds matching local children to the results
+     * All children including those of the super data, or null if the super data chain is
+     * not frozen.  The list is immutable, so racing to build it is harmless.
      */
-    @SuppressWarnings("unchecked")
-    private <T extends MetaData> void addLocalChildren(List<String> keys, List<T> items, String type, Class<T> c, boolean isParent, boolean firstOnly) {
-        children.stream()
-            .filter(child -> !shouldStopEarly(firstOnly, items))
-            .filter(child -> matchesSearchCriteria(child, type, c))
-            .filter(child -> shouldIncludeChild(child, isParent, keys))
-            .forEach(child -> addChildToResults(child, keys, items));
+    private List<MetaData> getFrozenInheritedChildren() {
+        List<MetaData> all = frozenInheritedChildren;
+        if ( all == null ) {
+            for ( MetaData d = superData; d != null; d = d.superData ) {
+                if ( !d.frozen ) return null;
+            }
+            all = collectChildren( null, MetaData.class, true );
+            frozenInheritedChildren = all;
+        }
+        return all;
     }
-    
-    /**
-     * Recursively adds children from parent metadata
-     */
-    private <T extends MetaData> void addParentChildren(List<String> keys, List<T> items, String type, Class<T> c, boolean includeParentData, boolean firstOnly) {
-        if (getSuperData() != null && includeParentData) {
-            getSuperData().addChildren(keys, items, type, c, true, true, firstOnly);
+
+    /** Collect the matching children into an immutable list */
+    private List<MetaData> collectChildren( String type, Class<?> c, boolean includeParentData ) {
+        Set<String> keys = new HashSet<>();
+        List<MetaData> items = new ArrayList<>();
+        int typeOrd = ( type != null ) ? TypeOrdinals.findType( type ) : TypeOrdinals.NONE;
+        addChildren( keys, items, type, typeOrd, c, includeParentData, false );
+        return List.copyOf( items );
+    }
+
+    /** Whether there are no children here, nor in the super data when includeParentData is true */
+    private boolean isLeaf( boolean includeParentData ) {
+        if ( !children.isEmpty() ) return false;
+        if ( includeParentData ) {
+            for ( MetaData d = superData; d != null; d = d.superData ) {
+                if ( !d.children.isEmpty() ) return false;
+            }
         }
+        return true;
     }
-    
+
     /**
-     * Checks if we should stop processing early (for firstOnly queries)
+     * Returns the most recent change stamp across this MetaData and its super data chain
      */
-    private <T extends MetaData> boolean shouldStopEarly(boolean firstOnly, List<T> items) {
-        return firstOnly && !items.isEmpty();
+    private long getInheritedChildVersion() {
+        long version = childVersion;
+        for ( MetaData d = superData; d != null; d = d.superData ) {
+            if ( d.childVersion > version ) version = d.childVersion;
+        }
+        return version;
+    }
+
+    /** Add all the matching children to the results, local children first and then super data */
+    private void addChildren( Set<String> keys, List<MetaData> items, String type, int typeOrd, Class<?> c, boolean includeParentData, boolean isParent ) {
+
+        for ( MetaData child : children ) {
+            if ( matchesSearchCriteria( child, type, typeOrd, c )
+                    && !( isParent && filterWhenParentData( child ))
+                    && keys.add( child.getType() + "-" + child.getName() )) {
+                items.add( child );
+            }
+        }
+
+        if ( includeParentData && superData != null ) {
+            superData.addChildren( keys, items, type, typeOrd, c, true, true );
+        }
     }
     
     /**
-     * Checks if a child matches the search criteria
+     * Checks if a child matches the search criteria, comparing the type by its ordinal
      */
-    private <T extends MetaData> boolean matchesSearchCriteria(MetaData child, String type, Class<T> c) {
+    private boolean matchesSearchCriteria(MetaData child, String type, int typeOrd, Class<?> c) {
         // Match all if no criteria specified
         if (type == null && c == null) {
             return true;
         }
         
         // Match by type and optionally by class
-        if (type != null && child.isType(type)) {
-            return c == null || c.isInstance(child);
+        if (type != null) {
+            return child.isType(typeOrd) && (c == null || c.isInstance(child));
         }
         
         // Match by class only
-        return type == null && c != null && c.isInstance(child);
+        return c.isInstance(child);
     }
-    
-    /**
-     * Determines if a child should be included based on parent filtering and uniqueness
-     */
-    private boolean shouldIncludeChild(MetaData child, boolean isParent, List<String> keys) {
-        if (isParent && filterWhenParentData(child)) {
-            return false;
+
+    /** Immutable snapshot of matching children and the change stamp it was built from */
+    private static final class ChildView {
+        private final long version;
+        private final List<MetaData> items;
+
+        private ChildView( long version, List<MetaData> items ) {
+            this.version = version;
+            this.items = items;
         }
-        
-        String key = createChildKey(child);
-        return !keys.contains(key);
-    }
-    
-    /**
-     * Creates a unique key for a child MetaData object
-     */
-    private String createChildKey(MetaData child) {
-        return String.format("%s-%s", child.getType(), child.getName());
     }
-    
-    /**
-     * Adds a child to the results collections
-     */
-    @SuppressWarnings("unchecked")
-    private <T extends MetaData> void addChildToResults(MetaData child, List<String> keys, List<T> items) {
-        String key = createChildKey(child);
-        keys.add(key);
-        items.add((T) child);
+
+    /** Child views for local-only and inherited queries */
+    private static final class ChildViews {
+        private final Map<Object, ChildView> local = new ConcurrentHashMap<>();
+        private final Map<Object, ChildView> inherited = new ConcurrentHashMap<>();
     }
 
     /**
@@ -1318,50 +1519,77 @@ public class MetaData implements Cloneable, Serializable {
         return (T) getChildOfTypeOrClass( null, name, c, includeParentData, shouldThrow );
     }
 
-    @SuppressWarnings("unchecked")
     private final <T extends MetaData> T getChildOfTypeOrClass( String type, String name, Class<T> c, boolean includeParentData, boolean shouldThrow) throws MetaDataNotFoundException {
 
-        for (MetaData d : children.getAll()) {
+        T d = resolveChild( type, name, c, includeParentData );
+        if ( d == null && shouldThrow ) {
+            throw MetaDataNotFoundException.of( "MetaData child of class [" + c + "] with name [" + name + "] not found in [" + toString() + "]", name );
+        }
+        return d;
+    }
 
-            // Make sure the types match if not null
-            if ( type != null && !d.isType(type)) continue;
+    /**
+     * Resolves a child using the local indexes first and then the super data chain.
+     * Named lookups are answered by the name and (type, name) indexes, so no level of
+     * the chain scans its children list.  Inherited matches are still filtered through
+     * {@link #filterWhenParentData(MetaData)}.
+     *
+     * @param <T> the type of metadata to return
+     * @param type the type to match, or null for any type
+     * @param name the name to match, or null for the first matching child
+     * @param c the class to match, or null for any class
+     * @param includeParentData true to search the super data chain
+     * @return the matching child, or null if none was found
+     */
+    @SuppressWarnings("unchecked")
+    protected <T extends MetaData> T resolveChild( String type, String name, Class<T> c, boolean includeParentData ) {
 
-            // Make sure the class matches if not null
-            if ( c != null && !c.isInstance(d)) continue;
+        MetaData d = findLocalChild( type, name, c );
+        if ( d != null ) return (T) d;
 
-            // Make sure the name matches if it's not null
-            if ( name != null && !d.getName().equals(name)) continue;
+        // If it wasn't found locally, see if it exists in the super data
+        if ( includeParentData && superData != null ) {
+            MetaData md = superData.resolveChild( type, name, c, true );
 
-            // If we made it this far, then return the child
-            return (T) d;
+            // Filter out Attributes that are prefixed with _ as they do not get inherited
+            if ( md != null && !filterWhenParentData( md )) return (T) md;
         }
 
-        // If it wasn't found above, see if it exists in the parent class
-        if (getSuperData() != null && includeParentData) {
+        return null;
+    }
 
-            try {
-                T md = (T) getSuperData().getChildOfTypeOrClass( type, name, c, true, shouldThrow);
+    /**
+     * Finds the first local child matching the type, name and class criteria
+     */
+    private MetaData findLocalChild( String type, String name, Class<?> c ) {
 
-                // Filter out Attributes that are prefixed with _ as they do not get inherited
-                if (md != null && !filterWhenParentData(md)) return md;
-            }
-            catch (MetaDataNotFoundException ignore ) {}
+        if ( name != null ) {
+            MetaData d = ( type != null ) ? children.getByTypeAndName( type, name ) : children.getByName( name );
+            if ( d == null ) return null;
+            if ( type != null && !d.isType( type )) return null;
+            if ( c != null && !c.isInstance( d )) return null;
+            return d;
         }
-        
-        if (shouldThrow) {
-            throw new MetaDataNotFoundException( "MetaData child of class [" + c + "] with name [" + name + "] not found in [" + toString() + "]", name );
-        } else {
-            return null;
+
+        // No name, so return the first child in insertion order that matches
+        Iterable<MetaData> candidates = ( type != null ) ? children.findByType( type ) : children;
+        int typeOrd = ( type != null ) ? TypeOrdinals.findType( type ) : TypeOrdinals.NONE;
+        for ( MetaData d : candidates ) {
+            if ( type != null && !d.isType( typeOrd )) continue;
+            if ( c != null && !c.isInstance( d )) continue;
+            return d;
         }
+        return null;
     }
 
     /**
      * Clears all children
      */
     public void clearChildren() {
+        checkNotFrozen();
         if ( !children.isEmpty() ) {
             children.clear();
-            flushCaches();
+            childrenChanged( null );
         }
     }
 
@@ -1370,9 +1598,11 @@ public class MetaData implements Cloneable, Serializable {
      * @param type the type of children to clear, null to clear all children
      */
     public void clearChildrenOfType( String type ) {
+        checkNotFrozen();
         boolean removed = false;
+        int typeOrd = ( type != null ) ? TypeOrdinals.findType( type ) : TypeOrdinals.NONE;
         List<MetaData> toRemove = children.stream()
-            .filter(d -> type == null || d.isType(type))
+            .filter(d -> type == null || d.isType(typeOrd))
             .toList();
         
         for (MetaData child : toRemove) {
@@ -1381,7 +1611,7 @@ public class MetaData implements Cloneable, Serializable {
             }
         }
         
-        if (removed) flushCaches();
+        if (removed) childrenChanged( null );
     }
 
     /**
@@ -1389,6 +1619,7 @@ public class MetaData implements Cloneable, Serializable {
      * @param c the class type of children to clear, null to clear all children
      */
     public void clearChildren(Class<? extends MetaData> c) {
+        checkNotFrozen();
         boolean removed = false;
         List<MetaData> toRemove = children.stream()
             .filter(d -> c == null || c.isInstance(d))
@@ -1400,7 +1631,7 @@ public class MetaData implements Cloneable, Serializable {
             }
         }
         
-        if (removed) flushCaches();
+        if (removed) childrenChanged( null );
     }
 
     ////////////////////////////////////////////////////
@@ -1429,6 +1660,7 @@ public class MetaData implements Cloneable, Serializable {
         MetaData v = newInstanceFromClass( getClass(), type, subType, name );
 
         v.superData = superData;
+        if ( superData != null ) superData.addSubData( v );
         v.parentRef = parentRef;
         v.loader = loader;
         // Used to provide support for OSGi and Maven Mojos
@@ -1541,13 +1773,124 @@ public class MetaData implements Cloneable, Serializable {
         return cacheValue;
     }
 
+    /**
+     * Uses the cache slot for the typed key, calling the getter on a miss.  A null
+     * result is cached as well, so the getter is only called once.
+     * @param <T> the type of value to cache and return
+     * @param key the preallocated cache key
+     * @param getter the function to call if cache miss occurs
+     * @return the cached value or result from getter function
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T useCache( CacheKey<T> key, GetValueForCache<T> getter ) {
+        Object o = getCache().get( key );
+        if ( o == null ) {
+            T value = getter.get();
+            getCache().put( key, value != null ? value : CACHE_NULL );
+            return value;
+        }
+        return ( o == CACHE_NULL ) ? null : (T) o;
+    }
+
+    /**
+     * Uses the cache slot for the typed key and argument, calling the getter on a miss.
+     * The argument object itself is the secondary key, so no key String is built and a
+     * cache hit does not allocate.  A null result is cached as well.
+     * @param <T> the type of value to cache and return
+     * @param <A> the type of argument passed to the getter
+     * @param key the preallocated cache key
+     * @param arg the argument to pass to the getter and to key the cached value by
+     * @param getter the function to call if cache miss occurs
+     * @return the cached value or result from getter function
+     */
+    @SuppressWarnings("unchecked")
+    public <T,A> T useCache( CacheKey<T> key, A arg, GetValueForCacheWithArg<T,A> getter ) {
+        Object o = getCache().get( key, arg );
+        if ( o == null ) {
+            T value = getter.get( arg );
+            getCache().put( key, arg, value != null ? value : CACHE_NULL );
+            return value;
+        }
+        return ( o == CACHE_NULL ) ? null : (T) o;
+    }
+
+    /**
+     * Uses the cache slot for the typed key and argument, calling the getter on a miss.
+     * Unlike {@link #useCache(CacheKey, Object, GetValueForCacheWithArg)} a null result
+     * is not cached, so probing for arbitrary missing names does not grow the cache.
+     * @param <T> the type of value to cache and return
+     * @param <A> the type of argument passed to the getter
+     * @param key the preallocated cache key
+     * @param arg the argument to pass to the getter and to key the cached value by
+     * @param getter the function to call if cache miss occurs
+     * @return the cached value or result from getter function
+     */
+    @SuppressWarnings("unchecked")
+    public <T,A> T useCacheIfFound( CacheKey<T> key, A arg, GetValueForCacheWithArg<T,A> getter ) {
+        Object o = getCache().get( key, arg );
+        if ( o == null || o == CACHE_NULL ) {
+            T value = getter.get( arg );
+            if ( value != null ) getCache().put( key, arg, value );
+            return value;
+        }
+        return (T) o;
+    }
+
+    /**
+     * Retrieves a cache value for a typed key
+     * @param <T> the type of the cached value
+     * @param key the cache key
+     * @return the cached value, or null if not found
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getCacheValue(CacheKey<T> key) {
+        CacheStrategy c = cache;
+        Object o = ( c != null ) ? c.get(key) : null;
+        return ( o == CACHE_NULL ) ? null : (T) o;
+    }
+
+    /**
+     * Sets a cache value for a typed key
+     * @param <T> the type of the cached value
+     * @param key the cache key
+     * @param value the value to cache
+     */
+    public <T> void setCacheValue(CacheKey<T> key, T value) {
+        getCache().put(key, value);
+    }
+
+    /**
+     * Retrieves a cache value for a typed key and argument
+     * @param <T> the type of the cached value
+     * @param key the cache key
+     * @param arg the argument the value was cached for
+     * @return the cached value, or null if not found
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getCacheValue(CacheKey<T> key, Object arg) {
+        CacheStrategy c = cache;
+        Object o = ( c != null ) ? c.get(key, arg) : null;
+        return ( o == CACHE_NULL ) ? null : (T) o;
+    }
+
+    /**
+     * Sets a cache value for a typed key and argument
+     * @param <T> the type of the cached value
+     * @param key the cache key
+     * @param arg the argument the value was computed for
+     * @param value the value to cache
+     */
+    public <T> void setCacheValue(CacheKey<T> key, Object arg, T value) {
+        getCache().put(key, arg, value);
+    }
+
     /**
      * Sets a cache value for this piece of MetaData (legacy method)
      * @param key the cache key
      * @param value the value to cache
      */
     public void setCacheValue(Object key, Object value) {
-        cache.put(key, value);
+        getCache().put(key, value);
     }
 
     /**
@@ -1556,19 +1899,128 @@ public class MetaData implements Cloneable, Serializable {
      * @return the cached value, or null if not found
      */
     public Object getCacheValue(Object key) {
-        return cache.get(key);
+        CacheStrategy c = cache;
+        return c != null ? c.get(key) : null;
+    }
+
+    /**
+     * Freezes this MetaData and all of its children into a compact, immutable form.
+     * The child collections are replaced by immutable lists and lookup tables, and any
+     * attempt to add, delete or clear children, or to change the super data, is rejected
+     * with an IllegalStateException.  The list of all children is fixed when frozen and
+     * read as a plain field; filtered child views and cached values still fill lazily
+     * through their concurrent caches on first access.
+     *
+     * <p>Freezing is normally driven by {@link MetaDataLoader#freeze()} once loading
+     * has completed, and must happen before the MetaData is shared with other threads.</p>
+     * @return This MetaData
+     */
+    public MetaData freeze() {
+        if ( frozen ) return this;
+
+        for ( MetaData child : children ) {
+            child.freeze();
+        }
+        children.freeze();
+        frozenChildren = collectChildren( null, MetaData.class, false );
+        frozen = true;
+        return this;
+    }
+
+    /**
+     * Returns whether this MetaData has been frozen
+     * @return true if frozen and no longer modifiable
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Rejects modification of a frozen MetaData
+     * @throws IllegalStateException if this MetaData is frozen
+     */
+    protected void checkNotFrozen() {
+        if ( frozen ) {
+            throw new IllegalStateException( "MetaData [" + toString() + "] is frozen and cannot be modified" );
+        }
     }
 
     /**
-     * This is called when the MetaData is modified
+     * Called when children are added or removed, invalidating any child views
+     * built from this MetaData and the cached values that depend on the child
+     * @param childName the name of the added or removed child, or null if several changed
+     */
+    private void childrenChanged( String childName ) {
+        childVersion = childVersionSequence.incrementAndGet();
+        invalidateDependents( childName );
+    }
+
+    /**
+     * This is called when the MetaData is modified, invalidating all cached values
+     * of this MetaData and of the MetaData that inherit from it
      */
     protected void flushCaches() {
+        invalidateDependents( null );
+    }
+
+    /**
+     * This is called when the value of this MetaData changed in place, such as that of
+     * an attribute, invalidating the cached values of the parent that depend on it as
+     * replacing this child would
+     */
+    protected void valueChanged() {
+        MetaData p = getParent();
+        if ( p != null ) p.invalidateDependents( getName() );
+    }
 
-        // Clear unified cache
-        cache.clear();
+    /**
+     * Invalidate the cached values that depend on the named child, on this MetaData
+     * and on every MetaData that inherits from it through superData, since their
+     * inherited lookups were derived from these children.  Cached values that do
+     * not depend on the child are kept, see {@link CacheKey#byChildName(String)}.
+     * @param childName the name of the changed child, or null to invalidate all cached values
+     */
+    private void invalidateDependents( String childName ) {
+        if ( getSubData().isEmpty() ) {
+            invalidateCachesAndNotifyParent( childName );
+            return;
+        }
 
-        // Clear the super data caches
-        if ( getSuperData() != null ) getSuperData().flushCaches();
+        Set<MetaData> visited = Collections.newSetFromMap( new IdentityHashMap<>() );
+        Deque<MetaData> pending = new ArrayDeque<>();
+        pending.push( this );
+        while ( !pending.isEmpty() ) {
+            MetaData d = pending.pop();
+            if ( !visited.add( d )) continue;
+            d.invalidateCachesAndNotifyParent( childName );
+            d.getSubData().forEach( pending::push );
+        }
+    }
+
+    private void invalidateCachesAndNotifyParent( String childName ) {
+        invalidateCaches( childName );
+        MetaData p = getParent();
+        if ( p != null ) p.childChanged( this, childName );
+    }
+
+    /**
+     * Called when the cached values of a child were invalidated because its own children
+     * changed, so a parent holding state derived from them can discard it.
+     * Does nothing by default.
+     * @param child the child whose children changed
+     * @param childName the name of the changed child of the child, or null if several changed
+     */
+    protected void childChanged( MetaData child, String childName ) {
+    }
+
+    /**
+     * Invalidate the cached values of this MetaData only that depend on the named child.
+     * Subclasses holding derived state outside the cache should override this.
+     * @param childName the name of the changed child, or null to invalidate all cached values
+     */
+    protected void invalidateCaches( String childName ) {
+        CacheStrategy c = cache;
+        if ( c != null ) c.invalidate( childName );
     }
 
     //////////////////////////////////////////////////////////////////////////////
@@ -84,7 +84,24 @@ public class MetaDataException extends RuntimeException {
      */
     public MetaDataException(String message, MetaData source, String operation,
                            Throwable cause, Map<String, Object> additionalContext) {
-        super(buildEnhancedMessage(message, source, operation, additionalContext), cause);
+        this(message, source, operation, cause, additionalContext, true);
+    }
+
+    /**
+     * Creates a MetaDataException with full context information, optionally without
+     * a stack trace for exceptions that are part of normal control flow.
+     * 
+     * @param message the error message
+     * @param source the MetaData object where the error occurred (may be null)
+     * @param operation the operation being performed when the error occurred (may be null)
+     * @param cause the underlying cause (may be null)
+     * @param additionalContext additional context information (may be empty)
+     * @param writableStackTrace false to skip filling in the stack trace
+     */
+    protected MetaDataException(String message, MetaData source, String operation,
+                           Throwable cause, Map<String, Object> additionalContext,
+                           boolean writableStackTrace) {
+        super(buildEnhancedMessage(message, source, operation, additionalContext), cause, true, writableStackTrace);
 
         this.metaDataPath = source != null ? MetaDataPath.buildPath(source) : null;
         this.operation = operation;
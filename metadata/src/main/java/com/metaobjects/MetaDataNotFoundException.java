@@ -19,6 +19,13 @@ import java.util.Map;
 @SuppressWarnings("serial")
 public class MetaDataNotFoundException extends MetaDataException {
 
+    /**
+     * Whether the factory methods create exceptions without a stack trace.  Off by default;
+     * set -Dmetaobjects.notFound.stackless=true to skip filling in the stack trace where
+     * callers probe for missing items with get*() in hot paths.
+     */
+    private static final boolean STACKLESS = Boolean.getBoolean("metaobjects.notFound.stackless");
+
     private final String name;
 
     /**
@@ -33,6 +40,26 @@ public class MetaDataNotFoundException extends MetaDataException {
         this.name = name;
     }
 
+    /**
+     * Creates a MetaDataNotFoundException with a message and name, optionally without a stack trace.
+     */
+    private MetaDataNotFoundException(String msg, String name, boolean writableStackTrace) {
+        super(msg, null, null, null, null, writableStackTrace);
+        this.name = name;
+    }
+
+    /**
+     * Factory method for not found exceptions with a plain message, stackless only if
+     * enabled.
+     * 
+     * @param msg the error message
+     * @param name the name of the item that was not found
+     * @return a configured MetaDataNotFoundException
+     */
+    public static MetaDataNotFoundException of(String msg, String name) {
+        return new MetaDataNotFoundException(msg, name, !STACKLESS);
+    }
+
     /**
      * Creates a MetaDataNotFoundException with enhanced context information.
      * 
@@ -47,6 +74,23 @@ public class MetaDataNotFoundException extends MetaDataException {
         this.name = itemName;
     }
 
+    /**
+     * Creates a MetaDataNotFoundException with context information, optionally without a stack trace.
+     */
+    private MetaDataNotFoundException(String itemType, String itemName, MetaData parent, boolean writableStackTrace) {
+        super(ErrorFormatter.formatNotFoundError(itemType, itemName, parent), 
+              parent, "lookup", null, 
+              Map.of("itemType", itemType, "itemName", itemName), writableStackTrace);
+        this.name = itemName;
+    }
+
+    /**
+     * Factory method for not found exceptions, stackless only if enabled
+     */
+    private static MetaDataNotFoundException notFound(String itemType, String itemName, MetaData parent) {
+        return new MetaDataNotFoundException(itemType, itemName, parent, !STACKLESS);
+    }
+
     /**
      * Creates a MetaDataNotFoundException with full context information.
      * 
@@ -71,7 +115,7 @@ public class MetaDataNotFoundException extends MetaDataException {
      * @return a configured MetaDataNotFoundException
      */
     public static MetaDataNotFoundException forField(String fieldName, MetaData parent) {
-        return new MetaDataNotFoundException("field", fieldName, parent);
+        return notFound("field", fieldName, parent);
     }
 
     /**
@@ -82,7 +126,7 @@ public class MetaDataNotFoundException extends MetaDataException {
      * @return a configured MetaDataNotFoundException
      */
     public static MetaDataNotFoundException forValidator(String validatorName, MetaData parent) {
-        return new MetaDataNotFoundException("validator", validatorName, parent);
+        return notFound("validator", validatorName, parent);
     }
 
     /**
@@ -93,7 +137,7 @@ public class MetaDataNotFoundException extends MetaDataException {
      * @return a configured MetaDataNotFoundException
      */
     public static MetaDataNotFoundException forView(String viewName, MetaData parent) {
-        return new MetaDataNotFoundException("view", viewName, parent);
+        return notFound("view", viewName, parent);
     }
 
     /**
@@ -104,7 +148,7 @@ public class MetaDataNotFoundException extends MetaDataException {
      * @return a configured MetaDataNotFoundException
      */
     public static MetaDataNotFoundException forAttribute(String attributeName, MetaData parent) {
-        return new MetaDataNotFoundException("attribute", attributeName, parent);
+        return notFound("attribute", attributeName, parent);
     }
 
     /**
@@ -115,7 +159,7 @@ public class MetaDataNotFoundException extends MetaDataException {
      * @return a configured MetaDataNotFoundException
      */
     public static MetaDataNotFoundException forObject(String objectName, MetaData parent) {
-        return new MetaDataNotFoundException("object", objectName, parent);
+        return notFound("object", objectName, parent);
     }
 
     /**
@@ -126,7 +170,7 @@ public class MetaDataNotFoundException extends MetaDataException {
      * @return a configured MetaDataNotFoundException
      */
     public static MetaDataNotFoundException forRelationship(String relationshipName, MetaData parent) {
-        return new MetaDataNotFoundException("relationship", relationshipName, parent);
+        return notFound("relationship", relationshipName, parent);
     }
 
     /**
@@ -137,7 +181,7 @@ public class MetaDataNotFoundException extends MetaDataException {
      * @return a configured MetaDataNotFoundException
      */
     public static MetaDataNotFoundException forIdentity(String identityName, MetaData parent) {
-        return new MetaDataNotFoundException("identity", identityName, parent);
+        return notFound("identity", identityName, parent);
     }
 
     /**
@@ -1,5 +1,7 @@
 package com.metaobjects;
 
+import com.metaobjects.registry.TypeOrdinals;
+
 import java.io.Serializable;
 import java.util.Objects;
 
@@ -53,6 +55,34 @@ public record MetaDataTypeId(String type, String subType) implements Serializabl
         return type + "." + subType;
     }
     
+    /**
+     * Returns the dense int ordinal of the primary type, see {@link TypeOrdinals}
+     * 
+     * @return The type ordinal, shared by all subtypes of the type
+     */
+    public int typeOrdinal() {
+        return TypeOrdinals.ofType(type);
+    }
+    
+    /**
+     * Returns the dense int ordinal of this type and subtype combination, see {@link TypeOrdinals}
+     * 
+     * @return The typeId ordinal, usable as an array index
+     */
+    public int ordinal() {
+        return TypeOrdinals.ofTypeId(type, subType);
+    }
+
+    /**
+     * Returns the ordinal of this type and subtype combination without assigning one,
+     * so probing for unknown types does not grow the ordinal tables
+     *
+     * @return The typeId ordinal, or {@link TypeOrdinals#NONE} if none was assigned
+     */
+    public int findOrdinal() {
+        return TypeOrdinals.findTypeId(type, subType);
+    }
+    
     /**
      * Check if this type matches a pattern where "*" means any subtype
      * 
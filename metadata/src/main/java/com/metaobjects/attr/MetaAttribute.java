@@ -141,9 +141,10 @@ public class MetaAttribute<T> extends MetaData implements DataTypeAware<T>, Meta
      */
     @Override
     public void setValue( T value ) {
+        checkNotFrozen();
         T oldValue = this.value;
         this.value = value;
-        
+        valueChanged();
         
         log.debug("MetaAttribute {} value changed from {} to {}", getName(), oldValue, value);
     }
@@ -180,11 +181,12 @@ public class MetaAttribute<T> extends MetaData implements DataTypeAware<T>, Meta
      */
     @Override
     public void setValueAsObject(Object value) {
+        checkNotFrozen();
         T oldValue = this.value;
         
         try {
             this.value = DataConverter.toTypeSafe( dataType, value, (Class<T>) dataType.getValueClass() );
-            
+            valueChanged();
             
             log.debug("MetaAttribute {} value converted and set from {} to {}", getName(), oldValue, this.value);
             
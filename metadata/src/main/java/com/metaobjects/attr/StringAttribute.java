@@ -80,6 +80,7 @@ public class StringAttribute extends MetaAttribute<String> {
                 java.lang.reflect.Field valueField = MetaAttribute.class.getDeclaredField("value");
                 valueField.setAccessible(true);
                 valueField.set(this, value);
+                valueChanged();
             } catch (Exception e) {
                 // Fallback to regular setValueAsObject if reflection fails
                 setValueAsObject(value);
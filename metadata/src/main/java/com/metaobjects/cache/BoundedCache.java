@@ -0,0 +1,179 @@
+package com.metaobjects.cache;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Size-bounded cache that evicts with the CLOCK (second chance) approximation of LRU.
+ *
+ * <p>Every stored value carries a referenced bit that is set on each hit.  When the
+ * cache grows past its maximum size, entries are taken from the head of the insertion
+ * queue: referenced entries get their bit cleared and go to the back of the queue,
+ * unreferenced entries are evicted.  A hit only writes one volatile boolean, so reads
+ * stay lock-free and allocation-free, and memory stays predictable for long-running
+ * multi-tenant loaders.</p>
+ *
+ * <p>Replaced, removed and invalidated entries are marked dead and skipped by the clock.
+ * Once the queue holds more than twice the maximum size it is purged of dead entries,
+ * so churn cannot grow the queue or keep dead keys and values reachable.</p>
+ *
+ * <p>Evicted values are simply recomputed by {@code MetaData.useCache()} on the next
+ * lookup, so the bound trades recomputation for memory and never affects results.</p>
+ */
+public class BoundedCache extends ConcurrentCache {
+
+    /** Default maximum number of entries per cache */
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private final int maxSize;
+    private final AtomicInteger entryCount = new AtomicInteger();
+    private final Queue<Entry> clock = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean purging = new AtomicBoolean();
+
+    /**
+     * Stored value with its owning map, key, referenced bit and whether it left the map
+     */
+    private static final class Entry {
+        final Map<Object, Object> owner;
+        final Object key;
+        final Object value;
+        volatile boolean referenced;
+        volatile boolean dead;
+
+        Entry(Map<Object, Object> owner, Object key, Object value) {
+            this.owner = owner;
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Create a bounded cache with the default maximum size
+     */
+    public BoundedCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Create a bounded cache
+     *
+     * @param maxSize Maximum number of entries held before evicting
+     */
+    public BoundedCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Maximum cache size must be greater than zero: " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the maximum number of entries held before evicting
+     *
+     * @return The maximum size
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    protected Object wrap(Map<Object, Object> owner, Object key, Object value) {
+        return new Entry(owner, key, value);
+    }
+
+    @Override
+    protected Object unwrap(Map<Object, Object> owner, Object key, Object stored) {
+        Entry entry = (Entry) stored;
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        return entry.value;
+    }
+
+    @Override
+    protected void stored(Object stored, Object replaced) {
+        if (replaced == null) {
+            entryCount.incrementAndGet();
+        } else {
+            ((Entry) replaced).dead = true;
+        }
+        clock.offer((Entry) stored);
+        queued.incrementAndGet();
+
+        evict();
+        purgeIfNeeded();
+    }
+
+    @Override
+    protected void removed(Object stored) {
+        ((Entry) stored).dead = true;
+        entryCount.decrementAndGet();
+        purgeIfNeeded();
+    }
+
+    /**
+     * Number of entries in the clock queue, including dead entries not yet purged
+     *
+     * @return The queue length
+     */
+    int getQueueLength() {
+        return queued.get();
+    }
+
+    /**
+     * Remove dead entries from the clock once they could make up half of it
+     */
+    private void purgeIfNeeded() {
+        if (queued.get() > 2 * maxSize && purging.compareAndSet(false, true)) {
+            try {
+                clock.removeIf(e -> e.dead);
+                queued.set(clock.size());
+            } finally {
+                purging.set(false);
+            }
+        }
+    }
+
+    /**
+     * Evict unreferenced entries until the cache is within its maximum size.  Every
+     * pass clears the referenced bits it skips, so the loop ends within two passes.
+     */
+    private void evict() {
+        while (entryCount.get() > maxSize) {
+            Entry entry = clock.poll();
+            if (entry == null) {
+                return;
+            }
+            queued.decrementAndGet();
+
+            if (entry.dead) {
+                continue;
+            }
+            if (entry.referenced) {
+                entry.referenced = false;
+                clock.offer(entry);
+                queued.incrementAndGet();
+            }
+            else if (entry.owner.remove(entry.key, entry)) {
+                entryCount.decrementAndGet();
+                recordEviction();
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        clock.clear();
+        queued.set(0);
+        entryCount.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[size=" + size() + ",maxSize=" + maxSize + "]";
+    }
+}
@@ -0,0 +1,92 @@
+package com.metaobjects.cache;
+
+/**
+ * Typed, identity-based key for MetaData caches.
+ *
+ * <p>CacheKeys are meant to be created once and held in static final fields, so
+ * that a cache lookup never builds a key String.  Two keys are only equal if
+ * they are the same instance, which keeps hashing and comparison to a pointer
+ * check.  A key may also be combined with an argument, such as a field name or
+ * a Class, in which case the argument object itself is the secondary key.</p>
+ *
+ * <p>Keys created with {@link #of(String)} depend on all children of the MetaData,
+ * so any added or removed child invalidates them.  Keys created with
+ * {@link #byChildName(String)} take a child name as their argument and only depend
+ * on the child with that name, so their entries survive changes to other children.</p>
+ *
+ * <pre>{@code
+ * private static final CacheKey<MetaField> GET_META_FIELD = CacheKey.of("getMetaField()");
+ *
+ * return useCache( GET_META_FIELD, fieldName, name -> ... );
+ * }</pre>
+ *
+ * @param <T> The type of the cached value
+ */
+public final class CacheKey<T> {
+
+    private final String name;
+    private final boolean childNameScoped;
+
+    private CacheKey(String name, boolean childNameScoped) {
+        if (name == null) {
+            throw new IllegalArgumentException("CacheKey name cannot be null");
+        }
+        this.name = name;
+        this.childNameScoped = childNameScoped;
+    }
+
+    /**
+     * Create a new CacheKey
+     *
+     * @param name Descriptive name of the key, used for debugging and statistics
+     * @return The new CacheKey
+     */
+    public static <T> CacheKey<T> of(String name) {
+        return new CacheKey<>(name, false);
+    }
+
+    /**
+     * Create a new CacheKey whose argument is a child name, for values that only
+     * depend on the child with that name, such as a lookup by name
+     *
+     * @param name Descriptive name of the key, used for debugging and statistics
+     * @return The new CacheKey
+     */
+    public static <T> CacheKey<T> byChildName(String name) {
+        return new CacheKey<>(name, true);
+    }
+
+    /**
+     * Whether the argument of this key is the name of the child its values depend on
+     *
+     * @return true if created with {@link #byChildName(String)}
+     */
+    public boolean isChildNameScoped() {
+        return childNameScoped;
+    }
+
+    /**
+     * Whether a value cached for this key and argument is affected by a change to a child
+     *
+     * @param arg The argument the value was cached for, or null for the key's own slot
+     * @param childName The name of the added or removed child, or null if unknown
+     * @return true if the value must be invalidated
+     */
+    public boolean isAffectedBy(Object arg, String childName) {
+        return !childNameScoped || childName == null || arg == null || childName.equals(arg);
+    }
+
+    /**
+     * Get the descriptive name of the key
+     *
+     * @return The key name
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheKey[" + name + "]";
+    }
+}
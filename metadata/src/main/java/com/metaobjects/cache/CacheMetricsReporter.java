@@ -0,0 +1,31 @@
+package com.metaobjects.cache;
+
+/**
+ * Service provider interface for exporting MetaDataLoader cache statistics to a
+ * metrics system, such as Micrometer or Dropwizard Metrics.
+ *
+ * <p>Implementations are discovered through the
+ * {@link com.metaobjects.registry.ServiceRegistry}, so they are picked up from
+ * {@code META-INF/services} or, under OSGi, from the service registry.  A loader
+ * with cache statistics enabled calls {@link #register(CacheStatistics)} once it is
+ * initialized and {@link #unregister(CacheStatistics)} when it is destroyed.  The
+ * statistics are live, so a reporter can poll them or bind gauges to them.</p>
+ *
+ * @since 6.0.0
+ */
+public interface CacheMetricsReporter {
+
+    /**
+     * Start reporting the statistics of a loader
+     *
+     * @param stats The live statistics of the loader
+     */
+    void register(CacheStatistics stats);
+
+    /**
+     * Stop reporting the statistics of a loader
+     *
+     * @param stats The statistics passed to register
+     */
+    void unregister(CacheStatistics stats);
+}
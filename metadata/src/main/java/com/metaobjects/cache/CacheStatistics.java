@@ -0,0 +1,239 @@
+package com.metaobjects.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Cache statistics aggregated over all MetaData of a MetaDataLoader, broken down by
+ * cache key family.
+ *
+ * <p>The family of a {@link CacheKey} is its name, e.g. "getMetaField()".  The family
+ * of a legacy key is the key up to its first '(' or '{', or up to and including its
+ * first '-', so "getMetaField(name)" and "QuickCache-foo" count towards
+ * "getMetaField()" and "QuickCache-".  Counters are LongAdders, so recording from
+ * many threads does not contend.</p>
+ *
+ * <p>Statistics are only recorded when enabled with
+ * {@link com.metaobjects.loader.LoaderOptions#setCacheStatsEnabled(boolean)}.  They
+ * are then exported through JMX and to any {@link CacheMetricsReporter}.</p>
+ *
+ * @since 6.0.0
+ */
+public class CacheStatistics implements CacheStatisticsMXBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheStatistics.class);
+
+    /** JMX domain the statistics MBeans are registered under */
+    public static final String JMX_DOMAIN = "com.metaobjects";
+
+    /** Counters for one key family */
+    private static final class Family {
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder loads = new LongAdder();
+    }
+
+    private final String loaderName;
+
+    // Families by family name, and by CacheKey so typed keys skip the name lookup
+    private final Map<String, Family> families = new ConcurrentHashMap<>();
+    private final Map<CacheKey<?>, Family> byCacheKey = new ConcurrentHashMap<>();
+
+    private volatile ObjectName objectName = null;
+
+    public CacheStatistics(String loaderName) {
+        this.loaderName = loaderName;
+    }
+
+    /**
+     * Get the family a cache key counts towards
+     *
+     * @param key A CacheKey or a legacy key
+     * @return The family name
+     */
+    public static String familyOf(Object key) {
+        if (key instanceof CacheKey) return ((CacheKey<?>) key).getName();
+        String s = String.valueOf(key);
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '(') return s.substring(0, i) + "()";
+            if (c == '{') return s.substring(0, i);
+            if (c == '-') return s.substring(0, i + 1);
+        }
+        return s;
+    }
+
+    /** Record a cache hit for the key */
+    public void recordHit(Object key) {
+        family(key).hits.increment();
+    }
+
+    /** Record a cache miss for the key */
+    public void recordMiss(Object key) {
+        family(key).misses.increment();
+    }
+
+    /** Record storing a computed value for the key, the miss is recorded by the lookup */
+    public void recordLoad(Object key) {
+        family(key).loads.increment();
+    }
+
+    private Family family(Object key) {
+        if (key instanceof CacheKey) {
+            CacheKey<?> cacheKey = (CacheKey<?>) key;
+            Family f = byCacheKey.get(cacheKey);
+            if (f == null) {
+                f = families.computeIfAbsent(cacheKey.getName(), n -> new Family());
+                byCacheKey.putIfAbsent(cacheKey, f);
+            }
+            return f;
+        }
+        return families.computeIfAbsent(familyOf(key), n -> new Family());
+    }
+
+    /**
+     * Get a snapshot of the statistics of each key family
+     *
+     * @return Statistics keyed by family name, sorted by name
+     */
+    public Map<String, CacheStrategy.CacheStats> getFamilyStats() {
+        Map<String, CacheStrategy.CacheStats> stats = new TreeMap<>();
+        families.forEach((name, f) -> stats.put(name, toStats(f.hits.sum(), f.misses.sum(), f.loads.sum())));
+        return stats;
+    }
+
+    /**
+     * Get a snapshot of the statistics over all key families
+     *
+     * @return The totals
+     */
+    public CacheStrategy.CacheStats getTotalStats() {
+        return toStats(getHitCount(), getMissCount(), getLoadCount());
+    }
+
+    private static CacheStrategy.CacheStats toStats(long hits, long misses, long loads) {
+        long lookups = hits + misses;
+        return new CacheStrategy.CacheStats(hits, misses, loads, 0,
+                lookups == 0 ? 0.0 : (double) hits / lookups,
+                lookups == 0 ? 0.0 : (double) loads / lookups);
+    }
+
+    @Override
+    public String getLoaderName() {
+        return loaderName;
+    }
+
+    @Override
+    public long getHitCount() {
+        return sum(f -> f.hits.sum());
+    }
+
+    @Override
+    public long getMissCount() {
+        return sum(f -> f.misses.sum());
+    }
+
+    @Override
+    public long getLoadCount() {
+        return sum(f -> f.loads.sum());
+    }
+
+    @Override
+    public double getHitRate() {
+        return getTotalStats().hitRate();
+    }
+
+    @Override
+    public Map<String, Long> getHitCountsByFamily() {
+        return counts(f -> f.hits.sum());
+    }
+
+    @Override
+    public Map<String, Long> getMissCountsByFamily() {
+        return counts(f -> f.misses.sum());
+    }
+
+    @Override
+    public void reset() {
+        families.values().forEach(f -> {
+            f.hits.reset();
+            f.misses.reset();
+            f.loads.reset();
+        });
+    }
+
+    private long sum(ToLongFunction<Family> counter) {
+        long total = 0;
+        for (Family f : families.values()) {
+            total += counter.applyAsLong(f);
+        }
+        return total;
+    }
+
+    private Map<String, Long> counts(ToLongFunction<Family> counter) {
+        Map<String, Long> counts = new TreeMap<>();
+        families.forEach((name, f) -> counts.put(name, counter.applyAsLong(f)));
+        return counts;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // JMX
+
+    /**
+     * Get the JMX name the statistics are registered under
+     *
+     * @return The ObjectName, or null if not registered
+     */
+    public ObjectName getObjectName() {
+        return objectName;
+    }
+
+    /**
+     * Register the statistics with the platform MBeanServer.  Failures are logged and
+     * do not affect the loader.
+     */
+    public synchronized void registerMBean() {
+        if (objectName != null) return;
+        try {
+            ObjectName name = new ObjectName(JMX_DOMAIN + ":type=CacheStatistics,loader="
+                    + ObjectName.quote(String.valueOf(loaderName)));
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+                objectName = name;
+            } else {
+                log.warn("Cache statistics MBean [{}] is already registered", name);
+            }
+        } catch (Exception | LinkageError e) {
+            log.warn("Unable to register cache statistics MBean for loader [{}]: {}", loaderName, e.toString());
+        }
+    }
+
+    /**
+     * Unregister the statistics from the platform MBeanServer, if registered
+     */
+    public synchronized void unregisterMBean() {
+        if (objectName == null) return;
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (Exception e) {
+            log.warn("Unable to unregister cache statistics MBean [{}]: {}", objectName, e.toString());
+        } finally {
+            objectName = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics{loader=" + loaderName + ", " + getTotalStats() + "}";
+    }
+}
@@ -0,0 +1,36 @@
+package com.metaobjects.cache;
+
+import java.util.Map;
+
+/**
+ * JMX view of the cache statistics of a MetaDataLoader, registered under
+ * {@code com.metaobjects:type=CacheStatistics,loader=<loader name>}.
+ *
+ * @see CacheStatistics
+ */
+public interface CacheStatisticsMXBean {
+
+    /** Name of the loader the statistics belong to */
+    String getLoaderName();
+
+    /** Total cache hits over all key families */
+    long getHitCount();
+
+    /** Total cache misses over all key families */
+    long getMissCount();
+
+    /** Total values computed and stored after a miss */
+    long getLoadCount();
+
+    /** Ratio of hits to lookups over all key families */
+    double getHitRate();
+
+    /** Hit counts keyed by cache key family */
+    Map<String, Long> getHitCountsByFamily();
+
+    /** Miss counts keyed by cache key family */
+    Map<String, Long> getMissCountsByFamily();
+
+    /** Reset all counters to zero */
+    void reset();
+}
@@ -86,11 +86,58 @@ public interface CacheStrategy {
      */
     boolean containsKey(Object key);
     
+    /**
+     * Get a cached value for a typed cache key
+     * 
+     * @param key The cache key
+     * @return The cached value or null if not present
+     */
+    Object get(CacheKey<?> key);
+    
+    /**
+     * Store a value for a typed cache key
+     * 
+     * @param key The cache key
+     * @param value The value to cache
+     */
+    void put(CacheKey<?> key, Object value);
+    
+    /**
+     * Get a cached value for a typed cache key and argument.  The argument object
+     * itself is used as the secondary key, so it must have stable equals and hashCode.
+     * 
+     * @param key The cache key
+     * @param arg The argument the value was computed for
+     * @return The cached value or null if not present
+     */
+    Object get(CacheKey<?> key, Object arg);
+    
+    /**
+     * Store a value for a typed cache key and argument
+     * 
+     * @param key The cache key
+     * @param arg The argument the value was computed for
+     * @param value The value to cache
+     */
+    void put(CacheKey<?> key, Object arg, Object value);
+    
     /**
      * Clear all cache entries
      */
     void clear();
     
+    /**
+     * Invalidate the entries affected by a change to the named child.  Entries for
+     * typed keys that do not depend on the child are kept, see
+     * {@link CacheKey#isAffectedBy(Object, String)}; all untyped entries are removed.
+     * Unlike {@link #clear()} the statistics are kept.
+     * 
+     * @param childName The name of the added or removed child, or null to invalidate all entries
+     */
+    default void invalidate(String childName) {
+        clear();
+    }
+    
     /**
      * Get the current size of the cache
      * 
@@ -0,0 +1,54 @@
+package com.metaobjects.cache;
+
+/**
+ * The CacheStrategy implementations a MetaDataLoader can use for the caches on its
+ * MetaData.  Selected per loader through {@code LoaderOptions.setCacheStrategy()}.
+ */
+public enum CacheStrategyType {
+
+    /** HybridCache: unbounded, with the legacy WeakHashMap for backward compatibility */
+    HYBRID,
+
+    /** ConcurrentCache: unbounded single-map cache without the legacy map */
+    CONCURRENT,
+
+    /** BoundedCache: size-bounded with CLOCK (approximate LRU) eviction */
+    BOUNDED,
+
+    /** WeakValueCache: values held weakly so OSGi bundles can be unloaded */
+    WEAK;
+
+    /**
+     * Create a new cache of this type
+     *
+     * @param maxSize Maximum entries per cache, only used by BOUNDED
+     * @return The new CacheStrategy
+     */
+    public CacheStrategy newCache(int maxSize) {
+        switch (this) {
+            case CONCURRENT: return new ConcurrentCache();
+            case BOUNDED: return new BoundedCache(maxSize);
+            case WEAK: return new WeakValueCache();
+            default: return new HybridCache();
+        }
+    }
+
+    /**
+     * Parse a cache strategy type from a configuration value, ignoring case
+     *
+     * @param value The configuration value
+     * @return The matching CacheStrategyType
+     * @throws IllegalArgumentException If the value is not a known type
+     */
+    public static CacheStrategyType parse(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Cache strategy cannot be null");
+        }
+        for (CacheStrategyType type : values()) {
+            if (type.name().equalsIgnoreCase(value.trim())) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown cache strategy [" + value + "], expected one of HYBRID, CONCURRENT, BOUNDED or WEAK");
+    }
+}
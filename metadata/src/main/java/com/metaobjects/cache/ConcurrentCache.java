@@ -0,0 +1,280 @@
+package com.metaobjects.cache;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-map cache without the legacy WeakHashMap that {@link HybridCache} keeps
+ * for backward compatibility.  Every value is stored exactly once: String and
+ * Object keys share one ConcurrentHashMap, and {@link CacheKey} arguments are kept
+ * in one map per key.  Keys are used as-is, so a lookup never builds or interns a
+ * String.
+ *
+ * <p>The cache is unbounded.  Subclasses change how values are held through the
+ * {@link #wrap}, {@link #unwrap} and {@link #removed} hooks, which is how the
+ * size-bounded and weak-valued strategies are built.</p>
+ */
+public class ConcurrentCache implements CacheStrategy {
+
+    // Values for String, Object and CacheKey (without argument) keys
+    private final Map<Object, Object> values = new ConcurrentHashMap<>();
+
+    // Values for CacheKey and argument pairs, one map per CacheKey
+    private final Map<CacheKey<?>, Map<Object, Object>> argValues = new ConcurrentHashMap<>();
+
+    // Cache statistics
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Storage hooks
+
+    /**
+     * Wrap a value before it is stored.  The default stores the value itself.
+     *
+     * @param owner The map the value is stored in
+     * @param key The key within the owner map
+     * @param value The value to store
+     * @return The object to store in the owner map
+     */
+    protected Object wrap(Map<Object, Object> owner, Object key, Object value) {
+        return value;
+    }
+
+    /**
+     * Unwrap a stored object into its value
+     *
+     * @param owner The map the value is stored in
+     * @param key The key within the owner map
+     * @param stored The stored object
+     * @return The value, or null if it is no longer available
+     */
+    protected Object unwrap(Map<Object, Object> owner, Object key, Object stored) {
+        return stored;
+    }
+
+    /**
+     * Called after a stored object was stored in a map
+     *
+     * @param stored The stored object
+     * @param replaced The stored object it replaced, or null if the key was new
+     */
+    protected void stored(Object stored, Object replaced) {
+    }
+
+    /**
+     * Called after a stored object was removed from its map
+     *
+     * @param stored The removed stored object
+     */
+    protected void removed(Object stored) {
+    }
+
+    /**
+     * Record that an entry was evicted by the strategy
+     */
+    protected void recordEviction() {
+        evictionCount.increment();
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Core operations
+
+    private Object lookup(Map<Object, Object> owner, Object key) {
+        Object stored = (owner == null || key == null) ? null : owner.get(key);
+        Object value = (stored == null) ? null : unwrap(owner, key, stored);
+        if (value != null) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+        }
+        return value;
+    }
+
+    private void store(Map<Object, Object> owner, Object key, Object value) {
+        Object stored = wrap(owner, key, value);
+        Object replaced = owner.put(key, stored);
+        loadCount.increment();
+        stored(stored, replaced);
+    }
+
+    @Override
+    public Object get(Object key) {
+        return lookup(values, key);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (key == null || value == null) {
+            return;
+        }
+        store(values, key, value);
+    }
+
+    @Override
+    public Object get(CacheKey<?> key) {
+        return lookup(values, key);
+    }
+
+    @Override
+    public void put(CacheKey<?> key, Object value) {
+        put((Object) key, value);
+    }
+
+    @Override
+    public Object get(CacheKey<?> key, Object arg) {
+        return lookup(key == null ? null : argValues.get(key), arg);
+    }
+
+    @Override
+    public void put(CacheKey<?> key, Object arg, Object value) {
+        if (key == null || arg == null || value == null) {
+            return;
+        }
+        store(argValues.computeIfAbsent(key, k -> new ConcurrentHashMap<>()), arg, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (key == null) {
+            return null;
+        }
+        Object stored = values.remove(key);
+        if (stored == null) {
+            return null;
+        }
+        removed(stored);
+        return unwrap(values, key, stored);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key != null && values.containsKey(key);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // String key overloads
+
+    @Override
+    public <T> Optional<T> get(String key, Class<T> type) {
+        Object value = get((Object) key);
+        return type.isInstance(value) ? Optional.of(type.cast(value)) : Optional.empty();
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        put((Object) key, value);
+    }
+
+    @Override
+    public <T> T computeIfAbsent(String key, Class<T> type, Supplier<T> supplier) {
+        Optional<T> existing = get(key, type);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        T value = supplier.get();
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public Object remove(String key) {
+        return remove((Object) key);
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return containsKey((Object) key);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Management
+
+    @Override
+    public void clear() {
+        values.clear();
+        argValues.clear();
+
+        hitCount.reset();
+        missCount.reset();
+        loadCount.reset();
+        evictionCount.reset();
+    }
+
+    @Override
+    public void invalidate(String childName) {
+        values.forEach((key, stored) -> {
+            if (!(key instanceof CacheKey) || ((CacheKey<?>) key).isAffectedBy(null, childName)) {
+                invalidate(values, key, stored);
+            }
+        });
+        argValues.forEach((key, byArg) -> {
+            if (!key.isChildNameScoped() || childName == null) {
+                byArg.forEach((arg, stored) -> invalidate(byArg, arg, stored));
+            } else {
+                Object stored = byArg.get(childName);
+                if (stored != null) invalidate(byArg, childName, stored);
+            }
+        });
+    }
+
+    private void invalidate(Map<Object, Object> owner, Object key, Object stored) {
+        if (owner.remove(key, stored)) {
+            removed(stored);
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = values.size();
+        for (Map<Object, Object> byArg : argValues.values()) {
+            size += byArg.size();
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public Set<String> keySet() {
+        Set<String> keys = new HashSet<>();
+        values.keySet().forEach(key ->
+            keys.add(key instanceof CacheKey ? ((CacheKey<?>) key).getName() : String.valueOf(key)));
+        argValues.forEach((key, byArg) ->
+            byArg.keySet().forEach(arg -> keys.add(key.getName() + "{" + arg + "}")));
+        return keys;
+    }
+
+    @Override
+    public Optional<CacheStats> getStats() {
+        long hits = hitCount.sum();
+        long misses = missCount.sum();
+        long loads = loadCount.sum();
+        long total = hits + misses;
+
+        return Optional.of(new CacheStats(
+            hits,
+            misses,
+            loads,
+            evictionCount.sum(),
+            total > 0 ? (double) hits / total : 0.0,
+            total > 0 ? (double) loads / total : 0.0
+        ));
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[size=" + size() + "]";
+    }
+}
@@ -20,6 +20,7 @@ import java.util.function.Supplier;
  *   <li>String interning for frequently used string keys</li>
  *   <li>Dual cache strategy for OSGI compatibility</li>
  *   <li>Enhanced performance for read-heavy workloads</li>
+ *   <li>Typed {@link CacheKey} slots with per-argument maps that hit without allocating</li>
  * </ul>
  */
 public class HybridCache implements CacheStrategy {
@@ -38,6 +39,12 @@ public class HybridCache implements CacheStrategy {
     // String interning cache for frequently used keys
     private final Map<String, String> internedKeys = new ConcurrentHashMap<>();
     
+    // Typed key slots, compared by key identity
+    private final Map<CacheKey<?>, Object> keyedCache = new ConcurrentHashMap<>();
+    
+    // Per-argument maps for typed keys that take an argument
+    private final Map<CacheKey<?>, Map<Object, Object>> keyedArgCache = new ConcurrentHashMap<>();
+    
     // Cache statistics
     private final AtomicLong hitCount = new AtomicLong();
     private final AtomicLong missCount = new AtomicLong();
@@ -225,6 +232,59 @@ public class HybridCache implements CacheStrategy {
         return value;
     }
     
+    /**
+     * Get cached value for a typed key
+     */
+    @Override
+    public Object get(CacheKey<?> key) {
+        Object value = keyedCache.get(key);
+        if (value != null) {
+            hitCount.incrementAndGet();
+        } else {
+            missCount.incrementAndGet();
+        }
+        return value;
+    }
+    
+    /**
+     * Store value for a typed key
+     */
+    @Override
+    public void put(CacheKey<?> key, Object value) {
+        if (key == null || value == null) {
+            return;
+        }
+        keyedCache.put(key, value);
+        loadCount.incrementAndGet();
+    }
+    
+    /**
+     * Get cached value for a typed key and argument
+     */
+    @Override
+    public Object get(CacheKey<?> key, Object arg) {
+        Map<Object, Object> byArg = keyedArgCache.get(key);
+        Object value = (byArg == null || arg == null) ? null : byArg.get(arg);
+        if (value != null) {
+            hitCount.incrementAndGet();
+        } else {
+            missCount.incrementAndGet();
+        }
+        return value;
+    }
+    
+    /**
+     * Store value for a typed key and argument
+     */
+    @Override
+    public void put(CacheKey<?> key, Object arg, Object value) {
+        if (key == null || arg == null || value == null) {
+            return;
+        }
+        keyedArgCache.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).put(arg, value);
+        loadCount.incrementAndGet();
+    }
+    
     /**
      * Remove from both caches
      */
@@ -275,6 +335,8 @@ public class HybridCache implements CacheStrategy {
         legacyCache.clear();
         identityCache.clear();
         internedKeys.clear();
+        keyedCache.clear();
+        keyedArgCache.clear();
         
         // Reset statistics
         hitCount.set(0);
@@ -286,6 +348,27 @@ public class HybridCache implements CacheStrategy {
         log.debug("Cleared hybrid cache (all cache types)");
     }
     
+    /**
+     * Invalidate the entries affected by a change to the named child, keeping the
+     * typed entries that do not depend on it
+     */
+    @Override
+    public void invalidate(String childName) {
+        modernCache.clear();
+        legacyCache.clear();
+        identityCache.clear();
+        
+        if (childName == null) {
+            keyedCache.clear();
+            keyedArgCache.clear();
+            return;
+        }
+        
+        keyedCache.keySet().removeIf(key -> key.isAffectedBy(null, childName));
+        keyedArgCache.entrySet().removeIf(entry -> !entry.getKey().isChildNameScoped());
+        keyedArgCache.values().forEach(byArg -> byArg.remove(childName));
+    }
+    
     /**
      * Get size (primarily from modern cache)
      */
@@ -296,7 +379,11 @@ public class HybridCache implements CacheStrategy {
         int legacySize = legacyCache.size();
         
         // Return the larger of the two to account for items that may be in one but not the other
-        return Math.max(modernSize, legacySize);
+        int keyedSize = keyedCache.size();
+        for (Map<Object, Object> byArg : keyedArgCache.values()) {
+            keyedSize += byArg.size();
+        }
+        return Math.max(modernSize, legacySize) + keyedSize;
     }
     
     /**
@@ -304,7 +391,8 @@ public class HybridCache implements CacheStrategy {
      */
     @Override
     public boolean isEmpty() {
-        return modernCache.isEmpty() && legacyCache.isEmpty();
+        return modernCache.isEmpty() && legacyCache.isEmpty()
+            && keyedCache.isEmpty() && keyedArgCache.isEmpty();
     }
     
     /**
@@ -317,6 +405,11 @@ public class HybridCache implements CacheStrategy {
         // Add legacy keys converted to strings
         legacyCache.keySet().forEach(key -> keys.add(String.valueOf(key)));
         
+        // Add typed keys by name, with their arguments
+        keyedCache.keySet().forEach(key -> keys.add(key.getName()));
+        keyedArgCache.forEach((key, byArg) ->
+            byArg.keySet().forEach(arg -> keys.add(key.getName() + "{" + arg + "}")));
+        
         return keys;
     }
     
@@ -364,10 +457,11 @@ public class HybridCache implements CacheStrategy {
      * Get detailed cache information for debugging
      */
     public String getCacheInfo() {
-        return String.format("HybridCache[modern=%d, legacy=%d, identity=%d, interned=%d, hitRate=%.2f%%, identityHits=%d, internHits=%d]", 
+        return String.format("HybridCache[modern=%d, legacy=%d, identity=%d, keyed=%d, interned=%d, hitRate=%.2f%%, identityHits=%d, internHits=%d]", 
             modernCache.size(), 
             legacyCache.size(),
             identityCache.size(),
+            keyedCache.size() + keyedArgCache.size(),
             internedKeys.size(),
             getStats().map(s -> s.hitRate() * 100).orElse(0.0),
             identityHitCount.get(),
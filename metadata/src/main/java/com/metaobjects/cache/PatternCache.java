@@ -0,0 +1,52 @@
+package com.metaobjects.cache;
+
+import java.util.regex.Pattern;
+
+/**
+ * Shared, size-bounded cache of compiled regular expressions keyed by the expression,
+ * so metadata with the same mask, such as email or phone validators on many fields,
+ * compiles it only once.  Eviction uses {@link BoundedCache}, so an evicted pattern is
+ * simply compiled again on its next use.
+ *
+ * @since 6.0.0
+ */
+public final class PatternCache {
+
+    /** Maximum number of patterns held before evicting */
+    public static final int MAX_SIZE = 1024;
+
+    private static final BoundedCache patterns = new BoundedCache(MAX_SIZE);
+
+    private PatternCache() {
+    }
+
+    /**
+     * Get the compiled pattern for the expression, compiling it on first use
+     *
+     * @param regex The regular expression
+     * @return The compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the expression is not valid
+     */
+    public static Pattern compile(String regex) {
+        Pattern p = (Pattern) patterns.get(regex);
+        if (p == null) {
+            p = Pattern.compile(regex);
+            patterns.put(regex, p);
+        }
+        return p;
+    }
+
+    /**
+     * Number of patterns in the cache
+     */
+    public static int size() {
+        return patterns.size();
+    }
+
+    /**
+     * Remove all patterns from the cache
+     */
+    public static void clear() {
+        patterns.clear();
+    }
+}
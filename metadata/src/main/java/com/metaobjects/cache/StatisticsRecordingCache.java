@@ -0,0 +1,151 @@
+package com.metaobjects.cache;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * CacheStrategy decorator that records the hits, misses and loads of a MetaData
+ * cache into the CacheStatistics of its loader.
+ *
+ * <p>Lookups count as hits or misses of the key's family, and stores count as loads,
+ * see {@link CacheStatistics#familyOf(Object)}.  Everything else is passed through to
+ * the wrapped cache unchanged.  Only used when cache statistics are enabled for the
+ * loader, so the default configuration pays nothing for them.</p>
+ *
+ * @since 6.0.0
+ */
+public class StatisticsRecordingCache implements CacheStrategy {
+
+    private final CacheStrategy delegate;
+    private final CacheStatistics stats;
+
+    public StatisticsRecordingCache(CacheStrategy delegate, CacheStatistics stats) {
+        if (delegate == null || stats == null) {
+            throw new IllegalArgumentException("Cache and statistics cannot be null");
+        }
+        this.delegate = delegate;
+        this.stats = stats;
+    }
+
+    /** Get the wrapped cache */
+    public CacheStrategy getDelegate() {
+        return delegate;
+    }
+
+    private <V> V record(Object key, V value) {
+        if (value != null) stats.recordHit(key);
+        else stats.recordMiss(key);
+        return value;
+    }
+
+    @Override
+    public <T> Optional<T> get(String key, Class<T> type) {
+        Optional<T> value = delegate.get(key, type);
+        if (value.isPresent()) stats.recordHit(key);
+        else stats.recordMiss(key);
+        return value;
+    }
+
+    @Override
+    public Object get(Object key) {
+        return record(key, delegate.get(key));
+    }
+
+    @Override
+    public Object get(CacheKey<?> key) {
+        return record(key, delegate.get(key));
+    }
+
+    @Override
+    public Object get(CacheKey<?> key, Object arg) {
+        return record(key, delegate.get(key, arg));
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        stats.recordLoad(key);
+        delegate.put(key, value);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        stats.recordLoad(key);
+        delegate.put(key, value);
+    }
+
+    @Override
+    public void put(CacheKey<?> key, Object value) {
+        stats.recordLoad(key);
+        delegate.put(key, value);
+    }
+
+    @Override
+    public void put(CacheKey<?> key, Object arg, Object value) {
+        stats.recordLoad(key);
+        delegate.put(key, arg, value);
+    }
+
+    @Override
+    public <T> T computeIfAbsent(String key, Class<T> type, Supplier<T> supplier) {
+        if (delegate.containsKey(key)) {
+            stats.recordHit(key);
+            return delegate.computeIfAbsent(key, type, supplier);
+        }
+        stats.recordMiss(key);
+        return delegate.computeIfAbsent(key, type, () -> {
+            stats.recordLoad(key);
+            return supplier.get();
+        });
+    }
+
+    @Override
+    public Object remove(String key) {
+        return delegate.remove(key);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return delegate.remove(key);
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return delegate.containsKey(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return delegate.containsKey(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public void invalidate(String childName) {
+        delegate.invalidate(childName);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return delegate.keySet();
+    }
+
+    @Override
+    public Optional<CacheStats> getStats() {
+        return delegate.getStats();
+    }
+}
@@ -0,0 +1,66 @@
+package com.metaobjects.cache;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+
+/**
+ * Cache that only holds its values weakly, for OSGi and other environments where
+ * bundles are loaded and unloaded at runtime.
+ *
+ * <p>Cached values such as resolved Classes, Methods and object factories would
+ * otherwise pin the bundle ClassLoader that defined them.  Here a value is released
+ * as soon as nothing else references it, and the stale entry is purged on the next
+ * write.  A collected value is a plain cache miss and is recomputed on demand.</p>
+ */
+public class WeakValueCache extends ConcurrentCache {
+
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    /**
+     * Weak reference to a value that remembers where it is stored
+     */
+    private static final class WeakValue extends WeakReference<Object> {
+        final Map<Object, Object> owner;
+        final Object key;
+
+        WeakValue(Map<Object, Object> owner, Object key, Object value, ReferenceQueue<Object> queue) {
+            super(value, queue);
+            this.owner = owner;
+            this.key = key;
+        }
+    }
+
+    @Override
+    protected Object wrap(Map<Object, Object> owner, Object key, Object value) {
+        purge();
+        return new WeakValue(owner, key, value, collected);
+    }
+
+    @Override
+    protected Object unwrap(Map<Object, Object> owner, Object key, Object stored) {
+        Object value = ((WeakValue) stored).get();
+        if (value == null) {
+            owner.remove(key, stored);
+        }
+        return value;
+    }
+
+    /**
+     * Remove the entries whose values were garbage collected
+     */
+    private void purge() {
+        WeakValue ref;
+        while ((ref = (WeakValue) collected.poll()) != null) {
+            if (ref.owner.remove(ref.key, ref)) {
+                recordEviction();
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        purge();
+        return super.size();
+    }
+}
@@ -16,22 +16,29 @@ import java.util.stream.Stream;
  * 
  * This replaces the simple CopyOnWriteArrayList with a more sophisticated
  * collection that provides both performance and thread safety.
+ * 
+ * Once {@link #freeze()} is called the concurrent structures are released and
+ * replaced by compact immutable lists and lookup tables.  All reads then go
+ * through the frozen tables without locking and any mutation is rejected.
+ * 
+ * The list and indices are only allocated when the first child is added, so the
+ * many MetaData without children (attributes, most fields) pay for a single empty
+ * object.  Reads on an empty collection return shared immutable empty results.
+ * 
+ * The mutable indices and the frozen tables are each held in a single state object,
+ * which every read takes once, so freezing a collection that is already shared
+ * never exposes a half-released set of indices.
  */
-public class IndexedMetaDataCollection {
+public class IndexedMetaDataCollection implements Iterable<MetaData> {
     
     private static final Logger log = LoggerFactory.getLogger(IndexedMetaDataCollection.class);
     
-    // Main storage - preserves insertion order and provides thread safety
-    private final CopyOnWriteArrayList<MetaData> children = new CopyOnWriteArrayList<>();
-    
-    // Name index for O(1) lookups
-    private final ConcurrentHashMap<String, MetaData> nameIndex = new ConcurrentHashMap<>();
+    // Shared frozen state for collections without any children
+    private static final Frozen EMPTY_FROZEN = new Frozen(List.of(), Map.of(), Map.of(), Map.of());
     
-    // Type index for efficient type-based queries
-    private final ConcurrentHashMap<String, List<MetaData>> typeIndex = new ConcurrentHashMap<>();
-    
-    // Class index for efficient class-based queries
-    private final ConcurrentHashMap<Class<? extends MetaData>, List<MetaData>> classIndex = new ConcurrentHashMap<>();
+    // The mutable list and indices, or the immutable tables once frozen.
+    // Null until the first child is added or the collection is frozen
+    private volatile State state = null;
     
     /**
      * Add a MetaData child to the collection
@@ -43,25 +50,27 @@ public class IndexedMetaDataCollection {
         if (child == null) {
             throw new IllegalArgumentException("Child cannot be null");
         }
+        Mutable m = allocate();
         
         String name = child.getName();
         
         // Check if child with same name already exists
-        if (nameIndex.containsKey(name)) {
+        if (m.nameIndex.containsKey(name)) {
             log.debug("Child with name '{}' already exists", name);
             return false;
         }
         
         // Add to main collection
-        boolean added = children.add(child);
+        boolean added = m.children.add(child);
         
         if (added) {
             // Update indices
-            nameIndex.put(name, child);
-            updateTypeIndex(child, true);
-            updateClassIndex(child, true);
+            m.nameIndex.put(name, child);
+            m.updateTypeIndex(child, true);
+            m.updateClassIndex(child, true);
+            m.updateTypeNameIndex(child, true);
             
-            log.trace("Added child: {} (total: {})", name, children.size());
+            log.trace("Added child: {} (total: {})", name, m.children.size());
         }
         
         return added;
@@ -77,16 +86,17 @@ public class IndexedMetaDataCollection {
         if (child == null) {
             return false;
         }
-        
-        boolean removed = children.remove(child);
+        Mutable m = mutable();
+        boolean removed = m != null && m.children.remove(child);
         
         if (removed) {
             // Update indices
-            nameIndex.remove(child.getName());
-            updateTypeIndex(child, false);
-            updateClassIndex(child, false);
+            m.nameIndex.remove(child.getName());
+            m.updateTypeIndex(child, false);
+            m.updateClassIndex(child, false);
+            m.updateTypeNameIndex(child, false);
             
-            log.trace("Removed child: {} (total: {})", child.getName(), children.size());
+            log.trace("Removed child: {} (total: {})", child.getName(), m.children.size());
         }
         
         return removed;
@@ -99,7 +109,8 @@ public class IndexedMetaDataCollection {
      * @return The removed child, or null if not found
      */
     public MetaData removeByName(String name) {
-        MetaData child = nameIndex.get(name);
+        checkNotFrozen();
+        MetaData child = getByName(name);
         if (child != null && remove(child)) {
             return child;
         }
@@ -116,9 +127,10 @@ public class IndexedMetaDataCollection {
         if (newChild == null) {
             throw new IllegalArgumentException("New child cannot be null");
         }
+        checkNotFrozen();
         
         String name = newChild.getName();
-        MetaData oldChild = nameIndex.get(name);
+        MetaData oldChild = getByName(name);
         
         if (oldChild != null) {
             // Remove old child
@@ -138,7 +150,30 @@ public class IndexedMetaDataCollection {
      * @return Optional containing the child if found
      */
     public Optional<MetaData> findByName(String name) {
-        return Optional.ofNullable(nameIndex.get(name));
+        return Optional.ofNullable(getByName(name));
+    }
+    
+    /**
+     * Get child by name without Optional wrapping - O(1) operation
+     * 
+     * @param name The name to search for
+     * @return The child, or null if not found
+     */
+    public MetaData getByName(String name) {
+        State s = state;
+        return s != null && name != null ? s.byName(name) : null;
+    }
+    
+    /**
+     * Get child by type and name using the composite index - O(1) operation
+     * 
+     * @param typeName The type name to search for
+     * @param name The name to search for
+     * @return The child, or null if not found
+     */
+    public MetaData getByTypeAndName(String typeName, String name) {
+        State s = state;
+        return s != null && typeName != null && name != null ? s.byTypeAndName(typeName, name) : null;
     }
     
     /**
@@ -148,7 +183,8 @@ public class IndexedMetaDataCollection {
      * @return List of children with the specified type
      */
     public List<MetaData> findByType(String typeName) {
-        return typeIndex.getOrDefault(typeName, Collections.emptyList());
+        State s = state;
+        return s != null && typeName != null ? s.byType(typeName) : Collections.emptyList();
     }
     
     /**
@@ -159,8 +195,8 @@ public class IndexedMetaDataCollection {
      */
     @SuppressWarnings("unchecked")
     public <T extends MetaData> List<T> findByClass(Class<T> clazz) {
-        List<MetaData> found = classIndex.getOrDefault(clazz, Collections.emptyList());
-        return (List<T>) found;
+        State s = state;
+        return (List<T>) (s != null && clazz != null ? s.byClass(clazz) : Collections.emptyList());
     }
 
     /**
@@ -170,7 +206,7 @@ public class IndexedMetaDataCollection {
      * @return List of children guaranteed to be of the specified class
      */
     public <T extends MetaData> List<T> findByClassSafe(Class<T> clazz) {
-        List<MetaData> found = classIndex.getOrDefault(clazz, Collections.emptyList());
+        List<T> found = findByClass(clazz);
         return found.stream()
             .filter(clazz::isInstance)
             .map(clazz::cast)
@@ -184,7 +220,7 @@ public class IndexedMetaDataCollection {
      * @return Stream of matching children
      */
     public Stream<MetaData> findMatching(Predicate<MetaData> predicate) {
-        return children.stream().filter(predicate);
+        return stream().filter(predicate);
     }
     
     /**
@@ -194,7 +230,7 @@ public class IndexedMetaDataCollection {
      * @return true if a child with the name exists
      */
     public boolean containsName(String name) {
-        return nameIndex.containsKey(name);
+        return getByName(name) != null;
     }
     
     /**
@@ -204,7 +240,7 @@ public class IndexedMetaDataCollection {
      * @return true if the child exists in the collection
      */
     public boolean contains(MetaData child) {
-        return children.contains(child);
+        return all().contains(child);
     }
     
     /**
@@ -213,7 +249,18 @@ public class IndexedMetaDataCollection {
      * @return Immutable list of all children
      */
     public List<MetaData> getAll() {
-        return List.copyOf(children);
+        State s = state;
+        return s instanceof Frozen f ? f.all : List.copyOf(all(s));
+    }
+    
+    /**
+     * Iterate over a snapshot of the children without copying them
+     * 
+     * @return Iterator over all children in insertion order
+     */
+    @Override
+    public Iterator<MetaData> iterator() {
+        return all().iterator();
     }
     
     /**
@@ -222,7 +269,7 @@ public class IndexedMetaDataCollection {
      * @return Stream of all children
      */
     public Stream<MetaData> stream() {
-        return children.stream();
+        return all().stream();
     }
     
     /**
@@ -231,7 +278,7 @@ public class IndexedMetaDataCollection {
      * @return The size of the collection
      */
     public int size() {
-        return children.size();
+        return all().size();
     }
     
     /**
@@ -240,17 +287,21 @@ public class IndexedMetaDataCollection {
      * @return true if the collection has no children
      */
     public boolean isEmpty() {
-        return children.isEmpty();
+        return all().isEmpty();
     }
     
     /**
      * Clear all children and indices
      */
     public void clear() {
-        children.clear();
-        nameIndex.clear();
-        typeIndex.clear();
-        classIndex.clear();
+        Mutable m = mutable();
+        if (m != null) {
+            m.children.clear();
+            m.nameIndex.clear();
+            m.typeIndex.clear();
+            m.classIndex.clear();
+            m.typeNameIndex.clear();
+        }
         
         log.debug("Cleared indexed collection");
     }
@@ -261,70 +312,290 @@ public class IndexedMetaDataCollection {
      * @return CollectionStats record
      */
     public CollectionStats getStats() {
+        State s = state;
+        if (s instanceof Frozen f) {
+            return new CollectionStats(
+                f.all.size(),
+                f.names.size(),
+                f.types.size(),
+                f.classes.size(),
+                f.types.values().stream().mapToInt(List::size).sum(),
+                f.classes.values().stream().mapToInt(List::size).sum()
+            );
+        }
+        if (s == null) {
+            return new CollectionStats(0, 0, 0, 0, 0, 0);
+        }
+        Mutable m = (Mutable) s;
         return new CollectionStats(
-            children.size(),
-            nameIndex.size(),
-            typeIndex.size(),
-            classIndex.size(),
-            typeIndex.values().stream().mapToInt(List::size).sum(),
-            classIndex.values().stream().mapToInt(List::size).sum()
+            m.children.size(),
+            m.nameIndex.size(),
+            m.typeIndex.size(),
+            m.classIndex.size(),
+            m.typeIndex.values().stream().mapToInt(List::size).sum(),
+            m.classIndex.values().stream().mapToInt(List::size).sum()
         );
     }
     
     /**
-     * Update the type index when adding/removing children
+     * Rebuild indices from the current children list
+     * This can be called if indices become inconsistent
      */
-    private void updateTypeIndex(MetaData child, boolean add) {
-        String typeName = child.getType();
+    public void rebuildIndices() {
+        Mutable m = mutable();
+        if (m == null) return;
+        m.nameIndex.clear();
+        m.typeIndex.clear();
+        m.classIndex.clear();
+        m.typeNameIndex.clear();
         
-        if (add) {
-            typeIndex.computeIfAbsent(typeName, k -> new CopyOnWriteArrayList<>()).add(child);
+        for (MetaData child : m.children) {
+            m.nameIndex.put(child.getName(), child);
+            m.updateTypeIndex(child, true);
+            m.updateClassIndex(child, true);
+            m.updateTypeNameIndex(child, true);
+        }
+        
+        log.debug("Rebuilt indices for {} children", m.children.size());
+    }
+    
+    /**
+     * Freeze the collection, replacing the concurrent list and indices with compact
+     * immutable lists and lookup tables.  Reads no longer take locks and any further
+     * mutation throws an IllegalStateException.  Freezing an already frozen
+     * collection has no effect.
+     * 
+     * <p>The frozen tables replace the mutable indices in one volatile write, so a
+     * collection that is already shared with other threads can be frozen.  It must
+     * not be modified while it is frozen.</p>
+     */
+    public synchronized void freeze() {
+        State s = state;
+        if (s instanceof Frozen) return;
+        
+        Frozen f;
+        if (s == null || ((Mutable) s).children.isEmpty()) {
+            f = EMPTY_FROZEN;
         } else {
-            List<MetaData> typeList = typeIndex.get(typeName);
-            if (typeList != null) {
-                typeList.remove(child);
-                if (typeList.isEmpty()) {
-                    typeIndex.remove(typeName);
+            Mutable m = (Mutable) s;
+            Map<String, List<MetaData>> types = new HashMap<>();
+            m.typeIndex.forEach((k, v) -> types.put(k, List.copyOf(v)));
+            Map<Class<? extends MetaData>, List<MetaData>> classes = new HashMap<>();
+            m.classIndex.forEach((k, v) -> classes.put(k, List.copyOf(v)));
+            
+            f = new Frozen(List.copyOf(m.children), Map.copyOf(m.nameIndex), Map.copyOf(types), Map.copyOf(classes));
+        }
+        
+        // Releases the mutable structures
+        state = f;
+        
+        log.trace("Froze indexed collection with {} children", f.all.size());
+    }
+    
+    /**
+     * Current children in insertion order, or a shared empty list if none were added
+     */
+    private List<MetaData> all() {
+        return all(state);
+    }
+    
+    private static List<MetaData> all(State s) {
+        return s != null ? s.all() : Collections.emptyList();
+    }
+    
+    /**
+     * The mutable list and indices, or null if no child was added yet
+     * @throws IllegalStateException if the collection is frozen
+     */
+    private Mutable mutable() {
+        State s = state;
+        if (s instanceof Frozen) {
+            throw new IllegalStateException("Cannot modify a frozen MetaData collection");
+        }
+        return (Mutable) s;
+    }
+    
+    /**
+     * Allocate the list and indices on the first add
+     */
+    private Mutable allocate() {
+        Mutable m = mutable();
+        if (m == null) {
+            synchronized (this) {
+                m = mutable();
+                if (m == null) {
+                    m = new Mutable();
+                    state = m;
                 }
             }
         }
+        return m;
+    }
+    
+    /**
+     * Check whether the collection has been frozen
+     * 
+     * @return true if the collection is frozen and cannot be modified
+     */
+    public boolean isFrozen() {
+        return state instanceof Frozen;
     }
     
     /**
-     * Update the class index when adding/removing children
+     * Reject mutation once the collection is frozen
      */
-    private void updateClassIndex(MetaData child, boolean add) {
-        Class<? extends MetaData> clazz = child.getClass();
+    private void checkNotFrozen() {
+        mutable();
+    }
+    
+    /**
+     * The lookups shared by the mutable and the frozen state
+     */
+    private interface State {
+        List<MetaData> all();
+        MetaData byName(String name);
+        MetaData byTypeAndName(String typeName, String name);
+        List<MetaData> byType(String typeName);
+        List<MetaData> byClass(Class<?> clazz);
+    }
+    
+    /**
+     * Concurrent list and indices used until the collection is frozen
+     */
+    private static final class Mutable implements State {
         
-        if (add) {
-            classIndex.computeIfAbsent(clazz, k -> new CopyOnWriteArrayList<>()).add(child);
-        } else {
-            List<MetaData> classList = classIndex.get(clazz);
-            if (classList != null) {
-                classList.remove(child);
-                if (classList.isEmpty()) {
-                    classIndex.remove(clazz);
+        // Main storage - preserves insertion order and provides thread safety
+        final CopyOnWriteArrayList<MetaData> children = new CopyOnWriteArrayList<>();
+        
+        // Name index for O(1) lookups
+        final ConcurrentHashMap<String, MetaData> nameIndex = new ConcurrentHashMap<>();
+        
+        // Type index for efficient type-based queries
+        final ConcurrentHashMap<String, List<MetaData>> typeIndex = new ConcurrentHashMap<>();
+        
+        // Class index for efficient class-based queries
+        final ConcurrentHashMap<Class<? extends MetaData>, List<MetaData>> classIndex = new ConcurrentHashMap<>();
+        
+        // Composite (type, name) index for O(1) typed lookups without scanning
+        final ConcurrentHashMap<String, ConcurrentHashMap<String, MetaData>> typeNameIndex = new ConcurrentHashMap<>();
+        
+        @Override
+        public List<MetaData> all() {
+            return children;
+        }
+        
+        @Override
+        public MetaData byName(String name) {
+            return nameIndex.get(name);
+        }
+        
+        @Override
+        public MetaData byTypeAndName(String typeName, String name) {
+            Map<String, MetaData> byName = typeNameIndex.get(typeName);
+            return byName == null ? null : byName.get(name);
+        }
+        
+        @Override
+        public List<MetaData> byType(String typeName) {
+            return typeIndex.getOrDefault(typeName, Collections.emptyList());
+        }
+        
+        @Override
+        public List<MetaData> byClass(Class<?> clazz) {
+            return classIndex.getOrDefault(clazz, Collections.emptyList());
+        }
+        
+        /**
+         * Update the type index when adding/removing children
+         */
+        void updateTypeIndex(MetaData child, boolean add) {
+            String typeName = child.getType();
+            
+            if (add) {
+                typeIndex.computeIfAbsent(typeName, k -> new CopyOnWriteArrayList<>()).add(child);
+            } else {
+                List<MetaData> typeList = typeIndex.get(typeName);
+                if (typeList != null) {
+                    typeList.remove(child);
+                    if (typeList.isEmpty()) {
+                        typeIndex.remove(typeName);
+                    }
+                }
+            }
+        }
+        
+        /**
+         * Update the class index when adding/removing children
+         */
+        void updateClassIndex(MetaData child, boolean add) {
+            Class<? extends MetaData> clazz = child.getClass();
+            
+            if (add) {
+                classIndex.computeIfAbsent(clazz, k -> new CopyOnWriteArrayList<>()).add(child);
+            } else {
+                List<MetaData> classList = classIndex.get(clazz);
+                if (classList != null) {
+                    classList.remove(child);
+                    if (classList.isEmpty()) {
+                        classIndex.remove(clazz);
+                    }
+                }
+            }
+        }
+        
+        /**
+         * Update the composite (type, name) index when adding/removing children
+         */
+        void updateTypeNameIndex(MetaData child, boolean add) {
+            String typeName = child.getType();
+            String name = child.getName();
+            if (typeName == null || name == null) return;
+            
+            if (add) {
+                typeNameIndex.computeIfAbsent(typeName, k -> new ConcurrentHashMap<>()).putIfAbsent(name, child);
+            } else {
+                Map<String, MetaData> byName = typeNameIndex.get(typeName);
+                if (byName != null) {
+                    byName.remove(name, child);
+                    if (byName.isEmpty()) {
+                        typeNameIndex.remove(typeName);
+                    }
                 }
             }
         }
     }
     
     /**
-     * Rebuild indices from the current children list
-     * This can be called if indices become inconsistent
+     * Immutable lists and lookup tables used once the collection is frozen
      */
-    public void rebuildIndices() {
-        nameIndex.clear();
-        typeIndex.clear();
-        classIndex.clear();
-        
-        for (MetaData child : children) {
-            nameIndex.put(child.getName(), child);
-            updateTypeIndex(child, true);
-            updateClassIndex(child, true);
+    private record Frozen(
+        List<MetaData> all,
+        Map<String, MetaData> names,
+        Map<String, List<MetaData>> types,
+        Map<Class<? extends MetaData>, List<MetaData>> classes
+    ) implements State {
+        
+        @Override
+        public MetaData byName(String name) {
+            return names.get(name);
+        }
+        
+        @Override
+        public MetaData byTypeAndName(String typeName, String name) {
+            // Names are unique within the collection, so the name table is sufficient
+            MetaData child = names.get(name);
+            return child != null && typeName.equals(child.getType()) ? child : null;
         }
         
-        log.debug("Rebuilt indices for {} children", children.size());
+        @Override
+        public List<MetaData> byType(String typeName) {
+            return types.getOrDefault(typeName, Collections.emptyList());
+        }
+        
+        @Override
+        public List<MetaData> byClass(Class<?> clazz) {
+            return classes.getOrDefault(clazz, Collections.emptyList());
+        }
     }
     
     /**
@@ -6,7 +6,6 @@ import com.metaobjects.registry.MetaDataRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -70,72 +69,46 @@ public class ConstraintEnforcer {
             return;
         }
         
-        // UNIFIED: Single enforcement path for all constraints
-        List<Constraint> allConstraints = metaDataRegistry.getAllValidationConstraints();
-        
-        if (allConstraints.isEmpty()) {
-            log.trace("No constraints registered - allowing operation");
-            return;
-        }
-        
-        log.debug("Enforcing {} constraints for adding [{}] to [{}]", 
-            allConstraints.size(), child.toString(), parent.toString());
-        
-        // Process placement constraints first (they determine if child can be added)
-        List<PlacementConstraint> applicablePlacementConstraints = new ArrayList<>();
-        for (Constraint constraint : allConstraints) {
-            if (constraint instanceof PlacementConstraint) {
-                PlacementConstraint pc = (PlacementConstraint) constraint;
-                if (pc.appliesTo(parent, child)) {
-                    applicablePlacementConstraints.add(pc);
-                }
-            }
+        // Only the constraints indexed for these types are consulted
+        List<PlacementConstraint> placementConstraints =
+            metaDataRegistry.getPlacementConstraints(parent.getType(), child.getType());
+        List<CustomConstraint> customConstraints =
+            metaDataRegistry.getCustomConstraints(child.getType(), child.getSubType());
+
+        if (log.isTraceEnabled()) {
+            log.trace("Enforcing {} placement and {} custom constraints for adding [{}] to [{}]",
+                placementConstraints.size(), customConstraints.size(), child, parent);
         }
 
-        // Apply placement constraint logic (open policy - allow if any constraint permits)
-        if (!applicablePlacementConstraints.isEmpty()) {
-            boolean placementAllowed = false;
-            for (PlacementConstraint pc : applicablePlacementConstraints) {
-                if (pc.isAllowed()) {
-                    log.trace("Placement constraint allows this placement: {}", pc);
-                    placementAllowed = true;
-                    break;
-                } else {
-                    // FORBIDDEN constraint - check if this applies and fail if it does
-                    log.debug("Placement constraint forbids this placement: {}", pc);
-                    String message = String.format("Placement forbidden: Constraint forbids adding %s.%s to %s.%s",
-                        child.getType(), child.getSubType(), parent.getType(), parent.getSubType());
-                    throw new ConstraintViolationException(message, "placement", child.getName(), parent);
-                }
+        // Process placement constraints first (they determine if child can be added).
+        // Open policy: the first applicable constraint allows or forbids the placement.
+        for (int i = 0; i < placementConstraints.size(); i++) {
+            PlacementConstraint pc = placementConstraints.get(i);
+            if (!pc.appliesTo(parent, child)) {
+                continue;
             }
-
-            if (!placementAllowed) {
-                String message = String.format("Placement not allowed: No constraints permit adding %s.%s to %s.%s (check abstract requirements)",
+            if (pc.isAllowed()) {
+                log.trace("Placement constraint allows this placement: {}", pc);
+                break;
+            } else {
+                // FORBIDDEN constraint - check if this applies and fail if it does
+                log.debug("Placement constraint forbids this placement: {}", pc);
+                String message = String.format("Placement forbidden: Constraint forbids adding %s.%s to %s.%s",
                     child.getType(), child.getSubType(), parent.getType(), parent.getSubType());
                 throw new ConstraintViolationException(message, "placement", child.getName(), parent);
             }
-        } else {
-            log.trace("No placement constraints apply to this parent-child relationship - allowing placement");
         }
-        
+
         // Process validation constraints on the child and its attributes
-        for (Constraint constraint : allConstraints) {
-            if (constraint instanceof CustomConstraint) {
-                CustomConstraint vc = (CustomConstraint) constraint;
-                if (vc.appliesTo(child)) {
-                    // For attribute-specific constraints, validate specific attributes
-                    if (vc.getConstraintId().contains(".array") ||
-                        vc.getConstraintId().contains(".set") ||
-                        vc.getConstraintId().contains(".map") ||
-                        vc.getConstraintId().contains(".enum") ||
-                        vc.getConstraintId().contains(".range") ||
-                        vc.getConstraintId().contains(".regex") ||
-                        vc.getConstraintId().contains(".custom")) {
-                        validateAttributeConstraint(vc, child);
-                    } else {
-                        // For other constraints, validate using metadata name
-                        vc.validate(child, child.getName());
-                    }
+        for (int i = 0; i < customConstraints.size(); i++) {
+            CustomConstraint vc = customConstraints.get(i);
+            if (vc.appliesTo(child)) {
+                // For attribute-specific constraints, validate specific attributes
+                if (vc.isAttributeConstraint()) {
+                    validateAttributeConstraint(vc, child);
+                } else {
+                    // For other constraints, validate using metadata name
+                    vc.validate(child, child.getName());
                 }
             }
         }
@@ -149,11 +122,10 @@ public class ConstraintEnforcer {
      */
     private void validateAttributeConstraint(CustomConstraint constraint, MetaData metaData)
             throws ConstraintViolationException {
-        // Extract attribute name from constraint ID (e.g., "identity.primary.fields.array" -> "fields")
+        // Attribute name parsed from the constraint ID (e.g., "identity.primary.fields.array" -> "fields")
         String constraintId = constraint.getConstraintId();
-        String[] parts = constraintId.split("\\.");
-        if (parts.length >= 4) {
-            String attributeName = parts[parts.length - 2]; // Extract attribute name before ".array", ".set", etc.
+        String attributeName = constraint.getAttributeName();
+        if (attributeName != null) {
 
             // Get the attribute value from the metadata
             Object attributeValue = getAttributeValue(metaData, attributeName);
@@ -31,6 +31,14 @@ public class CustomConstraint implements Constraint {
     private final BiPredicate<MetaData, Object> validator;
     private final String logicDescription;
 
+    // The type.subType this applies to, when known, used to index custom constraints
+    private final String targetType;
+    private final String targetSubType;
+
+    // Parsed from the constraint ID, see isAttributeConstraint()
+    private final boolean attributeConstraint;
+    private final String attributeName;
+
     /**
      * Create a custom logic constraint
      * @param constraintId Unique identifier
@@ -43,11 +51,67 @@ public class CustomConstraint implements Constraint {
                                Predicate<MetaData> applicabilityTest,
                                BiPredicate<MetaData, Object> validator,
                                String logicDescription) {
+        this(constraintId, description, null, null, applicabilityTest, validator, logicDescription);
+    }
+
+    /**
+     * Create a custom logic constraint that applies to a specific type and subtype
+     * @param constraintId Unique identifier
+     * @param description Human-readable description
+     * @param targetType Type of the MetaData this applies to
+     * @param targetSubType SubType of the MetaData this applies to
+     * @param validator Predicate to validate values
+     * @param logicDescription Description of the custom logic for documentation
+     */
+    public CustomConstraint(String constraintId, String description,
+                               String targetType, String targetSubType,
+                               BiPredicate<MetaData, Object> validator,
+                               String logicDescription) {
+        this(constraintId, description, requireTarget(targetType), requireTarget(targetSubType),
+            metadata -> targetType.equals(metadata.getType()) && targetSubType.equals(metadata.getSubType()),
+            validator, logicDescription);
+    }
+
+    private CustomConstraint(String constraintId, String description,
+                               String targetType, String targetSubType,
+                               Predicate<MetaData> applicabilityTest,
+                               BiPredicate<MetaData, Object> validator,
+                               String logicDescription) {
         this.constraintId = constraintId;
         this.description = description;
+        this.targetType = targetType;
+        this.targetSubType = targetSubType;
         this.applicabilityTest = applicabilityTest;
         this.validator = validator;
         this.logicDescription = logicDescription != null ? logicDescription : "Custom validation logic";
+        this.attributeConstraint = isAttributeConstraintId(constraintId);
+        this.attributeName = attributeConstraint ? parseAttributeName(constraintId) : null;
+    }
+
+    private static String requireTarget(String target) {
+        if (target == null) {
+            throw new IllegalArgumentException("Target type and subType cannot be null");
+        }
+        return target;
+    }
+
+    private static boolean isAttributeConstraintId(String constraintId) {
+        return constraintId != null && (
+            constraintId.contains(".array") ||
+            constraintId.contains(".set") ||
+            constraintId.contains(".map") ||
+            constraintId.contains(".enum") ||
+            constraintId.contains(".range") ||
+            constraintId.contains(".regex") ||
+            constraintId.contains(".custom"));
+    }
+
+    /**
+     * Extract the attribute name from the constraint ID (e.g., "identity.primary.fields.array" -> "fields")
+     */
+    private static String parseAttributeName(String constraintId) {
+        String[] parts = constraintId.split("\\.");
+        return parts.length >= 4 ? parts[parts.length - 2] : null;
     }
 
     /**
@@ -123,6 +187,39 @@ public class CustomConstraint implements Constraint {
         return logicDescription;
     }
 
+    /**
+     * Get the type this constraint applies to, used to index custom constraints
+     * @return The type, or null if only the applicability test knows
+     */
+    public String getTargetType() {
+        return targetType;
+    }
+
+    /**
+     * Get the subtype this constraint applies to, used to index custom constraints
+     * @return The subtype, or null if only the applicability test knows
+     */
+    public String getTargetSubType() {
+        return targetSubType;
+    }
+
+    /**
+     * Check if this constraint validates an attribute value rather than the metadata name,
+     * as marked by a suffix such as ".array" or ".enum" in the constraint ID
+     * @return True if this validates an attribute value
+     */
+    public boolean isAttributeConstraint() {
+        return attributeConstraint;
+    }
+
+    /**
+     * Get the name of the attribute this constraint validates
+     * @return The attribute name, or null if it could not be extracted from the constraint ID
+     */
+    public String getAttributeName() {
+        return attributeName;
+    }
+
     /**
      * Get the applicability test predicate
      * @return Predicate for testing applicability
@@ -32,6 +32,10 @@ public class PlacementConstraint implements Constraint {
     private final String childPattern;
     private final boolean allowed;
 
+    // Patterns parsed once, see matchesPattern()
+    private final TypePattern parentMatch;
+    private final TypePattern childMatch;
+
     /**
      * Create a placement constraint using string patterns (legacy constructor)
      * @param constraintId Unique identifier
@@ -49,6 +53,8 @@ public class PlacementConstraint implements Constraint {
         this.parentPattern = parentPattern != null ? parentPattern : "*";
         this.childPattern = childPattern != null ? childPattern : "*";
         this.allowed = allowed;
+        this.parentMatch = TypePattern.parse(this.parentPattern);
+        this.childMatch = TypePattern.parse(this.childPattern);
     }
 
     /**
@@ -71,6 +77,8 @@ public class PlacementConstraint implements Constraint {
         this.parentPattern = buildPattern(parentType, parentSubType, null);
         this.childPattern = buildPattern(childType, childSubType, childName);
         this.allowed = allowed;
+        this.parentMatch = TypePattern.parse(this.parentPattern);
+        this.childMatch = TypePattern.parse(this.childPattern);
     }
 
     /**
@@ -177,57 +185,32 @@ public class PlacementConstraint implements Constraint {
      * @return True if this constraint should be checked
      */
     public boolean appliesTo(MetaData parent, MetaData child) {
-        return matchesPattern(parent, parentPattern) && matchesPattern(child, childPattern);
+        return matchesPattern(parent, parentMatch) && matchesPattern(child, childMatch);
     }
 
     /**
-     * Check if a MetaData matches a pattern
-     * Supported patterns:
-     * - "type.*" - any subtype of type
-     * - "type.subtype" - specific type.subtype
-     * - "type.subtype[name]" - specific type.subtype with specific name
-     * - "*" - matches anything
-     *
+     * Check if a MetaData matches a parsed pattern
      * @param metaData MetaData to check
-     * @param pattern Pattern to match
+     * @param pattern Parsed pattern, or null if the pattern is invalid
      * @return True if matches
      */
-    private boolean matchesPattern(MetaData metaData, String pattern) {
-        if ("*".equals(pattern)) return true;
+    private static boolean matchesPattern(MetaData metaData, TypePattern pattern) {
+        if (pattern == TypePattern.ANY) return true;
         if (metaData == null || pattern == null) return false;
 
-        // Extract name constraint if present: "type.subtype[name]"
-        String nameConstraint = null;
-        String typePattern = pattern;
-
-        if (pattern.contains("[") && pattern.endsWith("]")) {
-            int bracketIndex = pattern.indexOf("[");
-            typePattern = pattern.substring(0, bracketIndex);
-            nameConstraint = pattern.substring(bracketIndex + 1, pattern.length() - 1);
-        }
-
-        // Parse type.subtype pattern
-        String[] parts = typePattern.split("\\.");
-        if (parts.length != 2) {
-            return false; // Invalid pattern
-        }
-
-        String patternType = parts[0];
-        String patternSubType = parts[1];
-
         // Check type match
-        if (!"*".equals(patternType) && !patternType.equals(metaData.getType())) {
+        if (!"*".equals(pattern.type()) && !pattern.type().equals(metaData.getType())) {
             return false;
         }
 
         // Check subtype match
-        if (!"*".equals(patternSubType) && !patternSubType.equals(metaData.getSubType())) {
+        if (!"*".equals(pattern.subType()) && !pattern.subType().equals(metaData.getSubType())) {
             return false;
         }
 
         // Check name constraint if present
-        if (nameConstraint != null) {
-            if (!"*".equals(nameConstraint) && !nameConstraint.equals(metaData.getName())) {
+        if (pattern.name() != null) {
+            if (!"*".equals(pattern.name()) && !pattern.name().equals(metaData.getName())) {
                 return false;
             }
         }
@@ -235,6 +218,43 @@ public class PlacementConstraint implements Constraint {
         return true;
     }
 
+    /**
+     * A placement pattern parsed into its type, subtype and optional name.
+     * Supported patterns:
+     * - "type.*" - any subtype of type
+     * - "type.subtype" - specific type.subtype
+     * - "type.subtype[name]" - specific type.subtype with specific name
+     * - "*" - matches anything
+     */
+    private record TypePattern(String type, String subType, String name) {
+
+        static final TypePattern ANY = new TypePattern("*", "*", null);
+
+        /**
+         * @return The parsed pattern, or null if the pattern is invalid and never matches
+         */
+        static TypePattern parse(String pattern) {
+            if ("*".equals(pattern)) return ANY;
+
+            // Extract name constraint if present: "type.subtype[name]"
+            String nameConstraint = null;
+            String typePattern = pattern;
+
+            if (pattern.contains("[") && pattern.endsWith("]")) {
+                int bracketIndex = pattern.indexOf("[");
+                typePattern = pattern.substring(0, bracketIndex);
+                nameConstraint = pattern.substring(bracketIndex + 1, pattern.length() - 1);
+            }
+
+            // Parse type.subtype pattern
+            String[] parts = typePattern.split("\\.");
+            if (parts.length != 2) {
+                return null; // Invalid pattern
+            }
+            return new TypePattern(parts[0], parts[1], nameConstraint);
+        }
+    }
+
     @Override
     public void validate(MetaData metaData, Object value) throws ConstraintViolationException {
         // PlacementConstraints are validated during addChild operations, not during value validation
@@ -276,6 +296,22 @@ public class PlacementConstraint implements Constraint {
         return childPattern;
     }
 
+    /**
+     * Get the type the parent pattern matches, used to index placement constraints
+     * @return The parent type, "*" for any type, or null if the pattern never matches
+     */
+    public String getParentType() {
+        return parentMatch != null ? parentMatch.type() : null;
+    }
+
+    /**
+     * Get the type the child pattern matches, used to index placement constraints
+     * @return The child type, "*" for any type, or null if the pattern never matches
+     */
+    public String getChildType() {
+        return childMatch != null ? childMatch.type() : null;
+    }
+
     /**
      * Check if this placement is allowed
      * @return True if allowed, false if forbidden
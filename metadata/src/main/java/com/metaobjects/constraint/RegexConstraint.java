@@ -1,6 +1,7 @@
 package com.metaobjects.constraint;
 
 import com.metaobjects.MetaData;
+import com.metaobjects.cache.PatternCache;
 
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -53,7 +54,7 @@ public class RegexConstraint extends BaseConstraint {
         this.allowNull = allowNull;
 
         try {
-            this.compiledPattern = Pattern.compile(regexPattern);
+            this.compiledPattern = PatternCache.compile(regexPattern);
         } catch (PatternSyntaxException e) {
             throw new IllegalArgumentException("Invalid regex pattern: " + regexPattern, e);
         }
@@ -7,6 +7,7 @@
 package com.metaobjects.field;
 
 import com.metaobjects.*;
+import com.metaobjects.cache.CacheKey;
 import com.metaobjects.attr.BooleanAttribute;
 import com.metaobjects.attr.MetaAttribute;
 import com.metaobjects.attr.StringAttribute;
@@ -14,6 +15,8 @@ import com.metaobjects.constraint.PlacementConstraint;
 import com.metaobjects.constraint.RegexConstraint;
 import com.metaobjects.loader.MetaDataLoader;
 import com.metaobjects.util.DataConverter;
+import com.metaobjects.validator.CompiledValidator;
+import com.metaobjects.validator.ObjectValidationResult;
 import com.metaobjects.validator.MetaValidator;
 import com.metaobjects.validator.MetaValidatorNotFoundException;
 import com.metaobjects.view.MetaView;
@@ -27,6 +30,7 @@ import org.slf4j.LoggerFactory;
 import java.time.Instant;
 import java.util.*;
 import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.stream.Stream;
 
 /**
@@ -105,6 +109,14 @@ public abstract class MetaField<T> extends MetaData  implements DataTypeAware<T>
     /** Universal array modifier - any field can be an array */
     public static final String ATTR_IS_ARRAY = "isArray";
 
+    /** Name of the source field this field is mapped from, see MetaObjectMapper */
+    public static final String ATTR_MAP_FROM = "mapFrom";
+
+    // Cache keys
+    private static final CacheKey<List<MetaValidator>> CACHE_DEFAULT_VALIDATOR_LIST = CacheKey.of("getDefaultValidatorList()");
+    private static final CacheKey<List<MetaValidator>> CACHE_VALIDATOR_LIST = CacheKey.of("getValidatorList()");
+    private static final CacheKey<MetaValidator> CACHE_GET_VALIDATOR = CacheKey.byChildName("getValidator()");
+
     // === KEY-RELATED ATTRIBUTES DEPRECATED ===
     // These attributes have been moved to MetaIdentity (v6.2.7+)
     // Use MetaIdentity instead of field-level key attributes
@@ -142,6 +154,10 @@ public abstract class MetaField<T> extends MetaData  implements DataTypeAware<T>
                 def.optionalAttributeWithConstraints(ATTR_IS_ARRAY)
                    .ofType(BooleanAttribute.SUBTYPE_BOOLEAN)
                    .asSingle();
+
+                def.optionalAttributeWithConstraints(ATTR_MAP_FROM)
+                   .ofType(StringAttribute.SUBTYPE_STRING)
+                   .asSingle();
             });
 
             log.debug("Registered base MetaField type with unified registry");
@@ -158,6 +174,40 @@ public abstract class MetaField<T> extends MetaData  implements DataTypeAware<T>
     private T defaultValue = null;
     private boolean lookedForDefault = false;
 
+    // Accessors for reading and writing this field on objects, by object Class
+    private transient volatile ClassValue<Object> valueAccessors = null;
+
+    // Default validators compiled for this field, see getDefaultValidatorList()
+    private transient volatile CompiledValidator[] compiledValidators = null;
+
+    // Index assigned by the declaring MetaObject when it builds its field index
+    private static final int INDEX_UNSET = -2;
+
+    // Whether a MetaField class reads and validates its values as MetaField does
+    private static final ClassValue<Boolean> PLAIN_VALIDATION = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> c) {
+            return !overrides(c, "getObjectAttribute", Object.class)
+                    && !overrides(c, "performValidation", Object.class)
+                    && !overrides(c, "performValidation", Object.class, Object.class)
+                    && !overrides(c, "performValidation", Object.class, ObjectValidationResult.class)
+                    && !overrides(c, "performValidation", Object.class, Object.class, ObjectValidationResult.class);
+        }
+    };
+
+    private static boolean overrides(Class<?> c, String name, Class<?>... params) {
+        for (Class<?> k = c; k != MetaField.class; k = k.getSuperclass()) {
+            try {
+                k.getDeclaredMethod(name, params);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // Not declared at this level
+            }
+        }
+        return false;
+    }
+    private transient volatile int index = INDEX_UNSET;
+
     private int length = -1;
 
     private DataTypes dataType;
@@ -194,6 +244,39 @@ public abstract class MetaField<T> extends MetaData  implements DataTypeAware<T>
                 "or MetaDataLoaders as abstracts");
     }
 
+    /**
+     * Index of this field in its declaring MetaObject, which is also its index in every
+     * MetaObject extending that one.  Indexes are assigned when the loader is initialized
+     * and reassigned if the fields of the object change.
+     *
+     * @return the index, or -1 if the field is not declared by a MetaObject
+     * @see MetaObject#getFieldByIndex(int)
+     */
+    public int getIndex() {
+        int i = index;
+        if ( i != INDEX_UNSET ) return i;
+        if ( getParent() instanceof MetaObject ) {
+            return ((MetaObject) getParent()).getFieldIndex(this);
+        }
+        return -1;
+    }
+
+    /**
+     * Called by the declaring MetaObject when it builds its field index, so
+     * {@link #getIndex()} is a field read
+     * @param index the index of this field, or -1 if it has none
+     */
+    public void assignIndex( int index ) {
+        this.index = index;
+    }
+
+    /**
+     * Called by the declaring MetaObject when it discards its field index
+     */
+    public void clearIndex() {
+        this.index = INDEX_UNSET;
+    }
+
     /**
      * Sets the Super Field
      * @param superField the super field to set for this field
@@ -308,11 +391,19 @@ public abstract class MetaField<T> extends MetaData  implements DataTypeAware<T>
         return isPartOfPrimaryIdentity() || isPartOfSecondaryIdentity();
     }
 
-    /** Flush the caches and set local flags to false */
+    /** Invalidate the caches and set local flags to false */
     @Override
-    protected void flushCaches() {
+    protected void invalidateCaches( String childName ) {
         lookedForDefault = false;
-        super.flushCaches();
+        valueAccessors = null;
+        compiledValidators = null;
+        super.invalidateCaches( childName );
+    }
+
+    /** A change to a validator, such as replacing its mask, discards the compiled validators */
+    @Override
+    protected void childChanged( MetaData child, String childName ) {
+        if ( child instanceof MetaValidator ) flushCaches();
     }
 
     /**
@@ -347,7 +438,7 @@ public abstract class MetaField<T> extends MetaData  implements DataTypeAware<T>
             MetaDataRegistry registry = getLoader().getTypeRegistry();
 
             // Get the type definition for this specific field type
-            TypeDefinition typeDef = registry.getTypeDefinition(this.getType(), this.getSubType());
+            TypeDefinition typeDef = registry.getTypeDefinition(getTypeIdOrdinal());
             if (typeDef != null) {
                 // Look up the child requirement for this attribute
                 ChildRequirement attrReq = typeDef.getChildRequirement(attributeName);
@@ -420,6 +511,7 @@ public abstract class MetaField<T> extends MetaData  implements DataTypeAware<T>
      * @param defVal the default value to set for this field
      */
     public void setDefaultValueEnhanced(T defVal) {
+        checkNotFrozen();
         Instant start = Instant.now();
         T oldValue = this.defaultValue;
         
@@ -540,6 +632,41 @@ public abstract class MetaField<T> extends MetaData  implements DataTypeAware<T>
         return val;
     }
 
+    ////////////////////////////////////////////////////
+    // VALUE ACCESSORS
+
+    /**
+     * Get the accessor a MetaObject uses to read and write this field on objects of the
+     * specified class.  Accessors are held in a ClassValue on the field, so after the
+     * first call for a class the lookup is a ClassValue read with no key building or
+     * map lookup.  The factory passed on the first call builds the accessors for all
+     * classes, and they are discarded whenever the caches of this field are invalidated.
+     *
+     * @param <A> the accessor type
+     * @param objClass the class of the objects to access
+     * @param factory creates the accessor for this field and a class
+     * @return the accessor for the class
+     */
+    @SuppressWarnings("unchecked")
+    public <A> A getValueAccessor(Class<?> objClass, BiFunction<? super MetaField, Class<?>, A> factory) {
+        ClassValue<Object> accessors = valueAccessors;
+        if (accessors == null) {
+            synchronized (this) {
+                accessors = valueAccessors;
+                if (accessors == null) {
+                    accessors = new ClassValue<Object>() {
+                        @Override
+                        protected Object computeValue(Class<?> c) {
+                            return factory.apply(MetaField.this, c);
+                        }
+                    };
+                    valueAccessors = accessors;
+                }
+            }
+        }
+        return (A) accessors.get(objClass);
+    }
+
     ////////////////////////////////////////////////////
     // VIEW METHODS
 
@@ -593,11 +720,11 @@ public abstract class MetaField<T> extends MetaData  implements DataTypeAware<T>
     }
 
     public MetaView getView(String name) {
-        try {
-            return (MetaView) getChild(name, MetaView.class);
-        } catch (MetaDataNotFoundException e) {
+        MetaView view = resolveChild(null, name, MetaView.class, true);
+        if (view == null) {
             throw MetaDataNotFoundException.forView(name, this);
         }
+        return view;
     }
 
     /**
@@ -665,9 +792,85 @@ public abstract class MetaField<T> extends MetaData  implements DataTypeAware<T>
         }
     }
 
+    /**
+     * Validates a value of this field already read from the specified object,
+     * as MetaObject validation plans do
+     * @param obj the object containing the field
+     * @param val the value to validate
+     * @throws InvalidValueException if the value is not valid
+     */
+    public final void validateValue(Object obj, Object val) {
+        performValidation(obj, val);
+    }
+
     protected void performValidation(Object obj, Object val)  {
         // Run the default
-        getDefaultValidatorList().forEach(v -> v.validate(obj, val));
+        for (CompiledValidator v : getCompiledValidators()) {
+            v.validate(obj, val);
+        }
+    }
+
+    /**
+     * Validates the value of this field in the specified object, adding any errors
+     * to the result rather than throwing
+     * @param obj the object to validate
+     * @param result receives the errors
+     * @return false if validation should stop, as the result is fail-fast
+     */
+    public boolean performValidation(Object obj, ObjectValidationResult result) {
+        return performValidation(obj, getObjectAttribute(obj), result);
+    }
+
+    /**
+     * Validates the value of this field in the specified object, adding any errors
+     * to the result rather than throwing
+     * @param obj the object containing the field
+     * @param val the value to validate
+     * @param result receives the errors
+     * @return false if validation should stop, as the result is fail-fast
+     */
+    public boolean performValidation(Object obj, Object val, ObjectValidationResult result) {
+        for (CompiledValidator v : getCompiledValidators()) {
+            if (!v.validate(this, obj, val, result)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether this field neither overrides how its value is read from an object nor how
+     * it is validated, so a MetaObject validation plan can read the stored value itself
+     * and skip the field when it has no default validators
+     * @return false if validation must go through performValidation(Object)
+     */
+    public boolean hasPlainValidation() {
+        return PLAIN_VALIDATION.get(getClass());
+    }
+
+    /**
+     * Whether this field has any default validators
+     * @return true if validation checks the values of this field
+     */
+    public boolean hasDefaultValidators() {
+        return getCompiledValidators().length > 0;
+    }
+
+    /**
+     * The default validators compiled for this field, built on first use and
+     * discarded when the children of this field change
+     */
+    private CompiledValidator[] getCompiledValidators() {
+        CompiledValidator[] cv = compiledValidators;
+        if (cv == null) {
+            List<MetaValidator> l = getDefaultValidatorList();
+            cv = new CompiledValidator[l.size()];
+            for (int i = 0; i < cv.length; i++) {
+                cv[i] = l.get(i).compile(this);
+            }
+            compiledValidators = cv;
+        }
+        return cv;
     }
 
     /**
@@ -679,7 +882,7 @@ public abstract class MetaField<T> extends MetaData  implements DataTypeAware<T>
      */
     public List<MetaValidator> getDefaultValidatorList() {
 
-        return useCache( "getDefaultValidatorList()", () -> {
+        return useCache( CACHE_DEFAULT_VALIDATOR_LIST, () -> {
                 // Always use all MetaValidator children - no more attribute-based validation
                 return getValidators();
             });
@@ -711,7 +914,7 @@ public abstract class MetaField<T> extends MetaData  implements DataTypeAware<T>
      */
     public List<MetaValidator> getValidatorList(String listAttr)
     {
-        return useCache( "getValidatorList()", listAttr, list -> {
+        return useCache( CACHE_VALIDATOR_LIST, listAttr, list -> {
 
             List<MetaValidator> validators = new ArrayList<MetaValidator>();
             while (list != null) {
@@ -736,7 +939,7 @@ public abstract class MetaField<T> extends MetaData  implements DataTypeAware<T>
 
 
     public MetaValidator getValidator(String validatorName) {
-        return useCache( "getValidator()", validatorName, name -> {
+        return useCache( CACHE_GET_VALIDATOR, validatorName, name -> {
             return (MetaValidator) getChild(name, MetaValidator.class);
         });
     }
@@ -922,6 +1125,53 @@ public abstract class MetaField<T> extends MetaData  implements DataTypeAware<T>
         return DataConverter.toObjectArray(getObjectAttribute(obj));
     }
 
+    ////////////////////////////////////////////////////
+    // PRIMITIVE GETTER AND SETTER METHODS
+
+    /**
+     * Gets the value from the specified object as an int without boxing when the
+     * declaring MetaObject supports it
+     * @param obj the object to get the value from
+     * @return the value, or 0 if it is null
+     */
+    public int getIntValue(Object obj) {
+        return getDeclaringObject().getIntValue(this, obj);
+    }
+
+    public long getLongValue(Object obj) {
+        return getDeclaringObject().getLongValue(this, obj);
+    }
+
+    public double getDoubleValue(Object obj) {
+        return getDeclaringObject().getDoubleValue(this, obj);
+    }
+
+    public boolean getBooleanValue(Object obj) {
+        return getDeclaringObject().getBooleanValue(this, obj);
+    }
+
+    /**
+     * Sets an int value on the specified object without boxing when the declaring
+     * MetaObject supports it
+     * @param obj the object to set the value on
+     * @param value the value to set
+     */
+    public void setIntValue(Object obj, int value) {
+        getDeclaringObject().setIntValue(this, obj, value);
+    }
+
+    public void setLongValue(Object obj, long value) {
+        getDeclaringObject().setLongValue(this, obj, value);
+    }
+
+    public void setDoubleValue(Object obj, double value) {
+        getDeclaringObject().setDoubleValue(this, obj, value);
+    }
+
+    public void setBooleanValue(Object obj, boolean value) {
+        getDeclaringObject().setBooleanValue(this, obj, value);
+    }
+
     ////////////////////////////////////////////////////
     // MISC METHODS
 
@@ -932,6 +1182,9 @@ public abstract class MetaField<T> extends MetaData  implements DataTypeAware<T>
         mf.defaultValue = defaultValue;
         mf.lookedForDefault = lookedForDefault;
         mf.length = length;
+        mf.valueAccessors = null;
+        mf.compiledValidators = null;
+        mf.index = INDEX_UNSET;
         return mf;
     }
 
@@ -15,6 +15,9 @@ public final class LoaderConfigurationConstants {
     public static final String ARG_REGISTER = "register";
     public static final String ARG_VERBOSE = "verbose";
     public static final String ARG_STRICT = "strict";
+    public static final String ARG_CACHE_STRATEGY = "cacheStrategy";
+    public static final String ARG_CACHE_MAX_SIZE = "cacheMaxSize";
+    public static final String ARG_CACHE_STATS = "cacheStats";
     
     private LoaderConfigurationConstants() {
         // Utility class - no instances
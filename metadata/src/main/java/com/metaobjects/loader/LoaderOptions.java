@@ -1,5 +1,9 @@
 package com.metaobjects.loader;
 
+import com.metaobjects.cache.BoundedCache;
+import com.metaobjects.cache.CacheStrategy;
+import com.metaobjects.cache.CacheStrategyType;
+
 import java.util.Objects;
 
 
@@ -11,6 +15,9 @@ public class LoaderOptions {
     private boolean shouldRegister = false;
     private boolean verbose = true;
     private boolean strict = true;
+    private CacheStrategyType cacheStrategy = CacheStrategyType.HYBRID;
+    private int cacheMaxSize = BoundedCache.DEFAULT_MAX_SIZE;
+    private boolean cacheStatsEnabled = false;
 
     public LoaderOptions() {}
 
@@ -52,6 +59,45 @@ public class LoaderOptions {
         return strict;
     }
 
+    ///////////////////////////////////////////////////////////////////////////
+    // Caching
+
+    public <T extends LoaderOptions>T setCacheStrategy(CacheStrategyType cacheStrategy) {
+        if (cacheStrategy == null) throw new IllegalArgumentException("Cache strategy cannot be null");
+        this.cacheStrategy = cacheStrategy;
+        return (T) this;
+    }
+
+    public CacheStrategyType getCacheStrategy() {
+        return cacheStrategy;
+    }
+
+    /** Maximum entries per MetaData cache, used by the BOUNDED cache strategy */
+    public <T extends LoaderOptions>T setCacheMaxSize(int cacheMaxSize) {
+        if (cacheMaxSize <= 0) throw new IllegalArgumentException("Cache max size must be greater than zero: " + cacheMaxSize);
+        this.cacheMaxSize = cacheMaxSize;
+        return (T) this;
+    }
+
+    public int getCacheMaxSize() {
+        return cacheMaxSize;
+    }
+
+    /** Aggregate cache statistics by key family for the loader and export them through JMX and CacheMetricsReporters */
+    public <T extends LoaderOptions>T setCacheStatsEnabled(boolean cacheStatsEnabled) {
+        this.cacheStatsEnabled = cacheStatsEnabled;
+        return (T) this;
+    }
+
+    public boolean isCacheStatsEnabled() {
+        return cacheStatsEnabled;
+    }
+
+    /** Create a new cache for a MetaData owned by a loader with these options */
+    public CacheStrategy newCache() {
+        return cacheStrategy.newCache(cacheMaxSize);
+    }
+
     ///////////////////////////////////////////////////////////////////////////
     // Misc Functions
 
@@ -62,18 +108,24 @@ public class LoaderOptions {
         LoaderOptions that = (LoaderOptions) o;
         return shouldRegister == that.shouldRegister &&
                 verbose == that.verbose &&
-                strict == that.strict;
+                strict == that.strict &&
+                cacheMaxSize == that.cacheMaxSize &&
+                cacheStatsEnabled == that.cacheStatsEnabled &&
+                cacheStrategy == that.cacheStrategy;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(shouldRegister, verbose);
+        return Objects.hash(shouldRegister, verbose, strict, cacheStrategy, cacheMaxSize, cacheStatsEnabled);
     }
 
     protected String getToStringOptions() {
         return "shouldRegister=" + shouldRegister +
                 ", verbose=" + verbose +
-                ", strict=" + strict;
+                ", strict=" + strict +
+                ", cacheStrategy=" + cacheStrategy +
+                ", cacheMaxSize=" + cacheMaxSize +
+                ", cacheStatsEnabled=" + cacheStatsEnabled;
     }
 
     @Override
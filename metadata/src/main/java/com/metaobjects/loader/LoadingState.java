@@ -18,6 +18,7 @@ public class LoadingState {
         INITIALIZED("Initialization completed"),
         REGISTERING("Currently registering"),
         REGISTERED("Registration completed"),
+        FROZEN("Frozen into an immutable snapshot"),
         DESTROYED("Destroyed and no longer usable");
         
         private final String description;
@@ -205,11 +206,11 @@ public class LoadingState {
     }
     
     /**
-     * Check if the loading process is complete (REGISTERED phase)
+     * Check if the loading process is complete (REGISTERED or FROZEN phase)
      * @return true if loading is complete
      */
     public boolean isLoadingComplete() {
-        return currentPhase == Phase.REGISTERED;
+        return isInPhase(Phase.REGISTERED, Phase.FROZEN);
     }
     
     /**
@@ -221,11 +222,35 @@ public class LoadingState {
     }
     
     /**
-     * Check if the loader is usable (initialized or registered)
+     * Check if the loader is usable (initialized, registered or frozen)
      * @return true if the loader can be used
      */
     public boolean isUsable() {
-        return isInPhase(Phase.INITIALIZED, Phase.REGISTERED);
+        return isInPhase(Phase.INITIALIZED, Phase.REGISTERED, Phase.FROZEN);
+    }
+    
+    /**
+     * Check if the loader has been frozen
+     * @return true if the loader is frozen and its metadata can no longer be modified
+     */
+    public boolean isFrozen() {
+        return currentPhase == Phase.FROZEN;
+    }
+    
+    /**
+     * Transition to the FROZEN phase from either INITIALIZED or REGISTERED
+     * @return true if the transition succeeded, false if the current phase did not allow it
+     */
+    public boolean tryFreeze() {
+        synchronized (stateLock) {
+            if (currentPhase == Phase.INITIALIZED || currentPhase == Phase.REGISTERED) {
+                currentPhase = Phase.FROZEN;
+                stateVersion.incrementAndGet();
+                lastError = null;
+                return true;
+            }
+            return false;
+        }
     }
     
     /**
@@ -7,6 +7,11 @@
 package com.metaobjects.loader;
 
 import com.metaobjects.MetaData;
+import com.metaobjects.cache.CacheKey;
+import com.metaobjects.cache.CacheMetricsReporter;
+import com.metaobjects.cache.CacheStatistics;
+import com.metaobjects.cache.CacheStrategyType;
+import com.metaobjects.MetaDataException;
 import com.metaobjects.MetaDataNotFoundException;
 import com.metaobjects.MetaDataTypeId;
 import com.metaobjects.attr.MetaAttribute;
@@ -14,15 +19,26 @@ import com.metaobjects.registry.MetaDataRegistry;
 import com.metaobjects.registry.MetaDataLoaderRegistry;
 import com.metaobjects.registry.ServiceRegistryFactory;
 import com.metaobjects.object.MetaObject;
+import com.metaobjects.object.MetaObjectAware;
+import com.metaobjects.object.mapped.MappedMetaObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.lang.reflect.Proxy;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
@@ -107,6 +123,10 @@ public class MetaDataLoader extends MetaData implements LoaderConfigurable {
         }
     }
 
+    // Lookup caches for getMetaDataByName(), keyed by MetaData class, and getMetaDataBySuper()
+    private static final CacheKey<Map<String, Object>> CACHE_METADATA_BY_NAME = CacheKey.of("QuickCache");
+    private static final CacheKey<List<MetaObject>> CACHE_METADATA_BY_SUPER = CacheKey.of("QuickCacheDerived");
+
     // TODO:  Allow for custom configurations for overloaded MetaDataLoaders
     private final LoaderOptions loaderOptions;
     
@@ -119,8 +139,18 @@ public class MetaDataLoader extends MetaData implements LoaderConfigurable {
     
     // Legacy state flags for backward compatibility
     private boolean isRegistered = false;
+
+    // Index of the MetaObjects by the class of their objects, see getMetaObjectFor()
+    private transient volatile ObjectIndex objectIndex = null;
+
+    // Run when the children of the loader change, see addChangeListener()
+    private final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
     private boolean isInitialized = false;
     private boolean isDestroyed = false;
+
+    // Aggregated cache statistics, only created when enabled in the LoaderOptions
+    private volatile CacheStatistics cacheStatistics = null;
+    private List<CacheMetricsReporter> metricsReporters = List.of();
     
     /**
      * Constructs a new MetaDataLoader
@@ -419,6 +449,15 @@ public class MetaDataLoader extends MetaData implements LoaderConfigurable {
         if (args.get(LoaderConfigurationConstants.ARG_STRICT) != null) {
             getLoaderOptions().setStrict(Boolean.parseBoolean(args.get(LoaderConfigurationConstants.ARG_STRICT)));
         }
+        if (args.get(LoaderConfigurationConstants.ARG_CACHE_STRATEGY) != null) {
+            getLoaderOptions().setCacheStrategy(CacheStrategyType.parse(args.get(LoaderConfigurationConstants.ARG_CACHE_STRATEGY)));
+        }
+        if (args.get(LoaderConfigurationConstants.ARG_CACHE_MAX_SIZE) != null) {
+            getLoaderOptions().setCacheMaxSize(Integer.parseInt(args.get(LoaderConfigurationConstants.ARG_CACHE_MAX_SIZE).trim()));
+        }
+        if (args.get(LoaderConfigurationConstants.ARG_CACHE_STATS) != null) {
+            getLoaderOptions().setCacheStatsEnabled(Boolean.parseBoolean(args.get(LoaderConfigurationConstants.ARG_CACHE_STATS)));
+        }
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////
@@ -445,7 +484,10 @@ public class MetaDataLoader extends MetaData implements LoaderConfigurable {
      * @throws MetaDataLoadingException if initialization fails
      */
     public MetaDataLoader init() {
-        return initWithConcurrencyProtection(DEFAULT_LOADING_TIMEOUT_MS);
+        initWithConcurrencyProtection(DEFAULT_LOADING_TIMEOUT_MS);
+        loadMetaData();
+        assignFieldIndexes();
+        return this;
     }
     
     /**
@@ -455,7 +497,18 @@ public class MetaDataLoader extends MetaData implements LoaderConfigurable {
      * @throws MetaDataLoadingException if initialization fails or times out
      */
     public MetaDataLoader initWithTimeout(long timeoutMs) {
-        return initWithConcurrencyProtection(timeoutMs);
+        initWithConcurrencyProtection(timeoutMs);
+        loadMetaData();
+        assignFieldIndexes();
+        return this;
+    }
+
+    /**
+     * Loads the metadata from the sources of this loader, called by init() once the
+     * loader is initialized and before the field indexes are assigned.  The default
+     * loads nothing, for loaders whose metadata is added manually.
+     */
+    protected void loadMetaData() {
     }
     
     /**
@@ -511,6 +564,7 @@ public class MetaDataLoader extends MetaData implements LoaderConfigurable {
         try {
             logInitializationStart();
             initializeRegistriesIfNeeded();
+            startCacheStatistics();
             transitionToInitialized(startTime);
             updateCompatibilityFlags();
             registerIfRequested();
@@ -530,7 +584,8 @@ public class MetaDataLoader extends MetaData implements LoaderConfigurable {
     private void validateAndTransitionToInitializing() {
         if (!loadingState.tryTransition(LoadingState.Phase.UNINITIALIZED, LoadingState.Phase.INITIALIZING)) {
             LoadingState.Phase currentPhase = loadingState.getCurrentPhase();
-            if (currentPhase == LoadingState.Phase.INITIALIZED || currentPhase == LoadingState.Phase.REGISTERED) {
+            if (currentPhase == LoadingState.Phase.INITIALIZED || currentPhase == LoadingState.Phase.REGISTERED
+                    || currentPhase == LoadingState.Phase.FROZEN) {
                 throw new IllegalStateException("MetaDataLoader [" + getName() + "] was already initialized");
             } else {
                 throw new IllegalStateException("MetaDataLoader [" + getName() + "] cannot be initialized from phase: " + currentPhase);
@@ -556,6 +611,63 @@ public class MetaDataLoader extends MetaData implements LoaderConfigurable {
         }
     }
     
+    /**
+     * Creates the cache statistics if enabled, before any children are loaded, and
+     * exports them through JMX and the CacheMetricsReporter services.  Caches already
+     * created before init(), such as the loader's own, are wrapped too
+     */
+    private void startCacheStatistics() {
+        if (!loaderOptions.isCacheStatsEnabled() || cacheStatistics != null) return;
+
+        CacheStatistics stats = new CacheStatistics(getName());
+        cacheStatistics = stats;
+        recordCacheStatistics(stats);
+        stats.registerMBean();
+
+        List<CacheMetricsReporter> reporters = new ArrayList<>();
+        try {
+            reporters.addAll(ServiceRegistryFactory.getDefault().getServices(CacheMetricsReporter.class));
+        } catch (Exception e) {
+            log.warn("Unable to discover CacheMetricsReporter services for loader [{}]: {}", getName(), e.toString());
+        }
+        for (CacheMetricsReporter reporter : reporters) {
+            try {
+                reporter.register(stats);
+            } catch (RuntimeException e) {
+                log.warn("CacheMetricsReporter [{}] failed to register loader [{}]: {}", reporter, getName(), e.toString());
+            }
+        }
+        metricsReporters = reporters;
+    }
+
+    /**
+     * Stops exporting the cache statistics
+     */
+    private void stopCacheStatistics() {
+        CacheStatistics stats = cacheStatistics;
+        if (stats == null) return;
+
+        for (CacheMetricsReporter reporter : metricsReporters) {
+            try {
+                reporter.unregister(stats);
+            } catch (RuntimeException e) {
+                log.warn("CacheMetricsReporter [{}] failed to unregister loader [{}]: {}", reporter, getName(), e.toString());
+            }
+        }
+        metricsReporters = List.of();
+        stats.unregisterMBean();
+        cacheStatistics = null;
+    }
+
+    /**
+     * Get the cache statistics aggregated over all MetaData of this loader, by cache
+     * key family.  Only MetaData caches created after init() record into them.
+     * @return The statistics, or null if not enabled with LoaderOptions.setCacheStatsEnabled()
+     */
+    public CacheStatistics getCacheStatistics() {
+        return cacheStatistics;
+    }
+
     /**
      * Transitions to initialized state with error handling
      */
@@ -615,7 +727,7 @@ public class MetaDataLoader extends MetaData implements LoaderConfigurable {
      */
     public boolean isInitialized() {
         // Use enhanced state checking in addition to legacy flag
-        return isInitialized && loadingState.isInPhase(LoadingState.Phase.INITIALIZED, LoadingState.Phase.REGISTERED);
+        return isInitialized && loadingState.isInPhase(LoadingState.Phase.INITIALIZED, LoadingState.Phase.REGISTERED, LoadingState.Phase.FROZEN);
     }
 
     /**
@@ -662,6 +774,63 @@ public class MetaDataLoader extends MetaData implements LoaderConfigurable {
         }
     }
 
+    /**
+     * Freezes the loaded metadata into a compact, immutable snapshot.  Every MetaData in the
+     * loader is compacted into immutable lists and lookup tables, and any later attempt to add
+     * or remove metadata is rejected.  Call this once loading (and registration, if used) has
+     * completed and before the loader is shared with other threads.
+     * @return This MetaDataLoader
+     */
+    public MetaDataLoader freeze() {
+        if (loadingState.isFrozen()) {
+            return this;
+        }
+        checkState();
+
+        long startTime = System.currentTimeMillis();
+        assignFieldIndexes();
+
+        // Move to FROZEN first, so a loader in the wrong phase leaves its metadata modifiable
+        if (!loadingState.tryFreeze()) {
+            throw new IllegalStateException(
+                "Cannot freeze MetaDataLoader [" + getName() + "] from phase: " + loadingState.getCurrentPhase());
+        }
+
+        super.freeze();
+        getObjectIndex();
+
+        if (loaderOptions.isVerbose()) {
+            log.info("Froze MetaDataLoader [" + getName() + "] in " + (System.currentTimeMillis() - startTime) + "ms");
+        }
+
+        return this;
+    }
+
+    /**
+     * Assigns the field indexes of all MetaObjects, including nested ones, see
+     * {@link MetaObject#getFieldByIndex(int)}.  Called by init() once the metadata is
+     * loaded, and by freeze(), so the indexes are in place before the objects are used.
+     */
+    protected void assignFieldIndexes() {
+        assignFieldIndexes(this);
+    }
+
+    private static void assignFieldIndexes(MetaData d) {
+        for (MetaData child : d.getChildren(MetaData.class, false)) {
+            if (child instanceof MetaObject) ((MetaObject) child).getFieldCount();
+            assignFieldIndexes(child);
+        }
+    }
+
+    /**
+     * Returns whether the MetaDataLoader has been frozen
+     * @return true if frozen
+     */
+    @Override
+    public boolean isFrozen() {
+        return loadingState.isFrozen();
+    }
+
     /**
      * Returns whether the MetaDataLoader in the MetaDataRegistry
      */
@@ -726,14 +895,21 @@ public class MetaDataLoader extends MetaData implements LoaderConfigurable {
         return (MetaObject) getChildOfType( MetaObject.TYPE_OBJECT, name );
     }
 
+    /**
+     * Finds the MetaObject with the specified name without throwing if it does not exist
+     */
+    public Optional<MetaObject> findMetaObjectByName(String name ) {
+        checkState();
+        return Optional.ofNullable( resolveChild( MetaObject.TYPE_OBJECT, name, MetaObject.class, true ));
+    }
+
     /**
      * Return the matching object instance
      */
     public <T> T newObjectInstance(Class<T> clazz) throws ClassNotFoundException {
-        for(MetaObject mo : getMetaObjects()) {
-            if (mo.getObjectClass().equals(clazz)) {
-                return (T) mo.newInstance();
-            }
+        List<MetaObject> l = getObjectIndex().byObjectClass.get(clazz);
+        if (l != null) {
+            return (T) l.get(0).newInstance();
         }
         throw new ClassNotFoundException("Could not find MetaObject for class ["+clazz.getName()+"]");
     }
@@ -743,13 +919,113 @@ public class MetaDataLoader extends MetaData implements LoaderConfigurable {
      */
     public MetaObject getMetaObjectFor(Object obj) {
         checkState();
-        for (MetaObject mc : getChildren( MetaObject.class, true )) {
-            if (mc.produces(obj)) {
-                return mc;
+        if (obj == null) return null;
+        return getObjectIndex().getMetaObjectFor(obj);
+    }
+
+    /**
+     * The index of the MetaObjects by object class, built when the loader is frozen or on
+     * first use and rebuilt when the children of the loader or the @object attribute of
+     * a MetaObject change
+     */
+    private ObjectIndex getObjectIndex() {
+        ObjectIndex index = objectIndex;
+        if (index == null) {
+            index = new ObjectIndex(getChildren(MetaObject.class, true));
+            objectIndex = index;
+        }
+        return index;
+    }
+
+    @Override
+    protected void invalidateCaches(String childName) {
+        objectIndex = null;
+        super.invalidateCaches(childName);
+        for (Runnable listener : changeListeners) {
+            listener.run();
+        }
+    }
+
+    /**
+     * Adds a listener that is run whenever the children of this loader change, so that
+     * state built from them elsewhere, such as the index of a MetaDataLoaderRegistry,
+     * can be discarded
+     */
+    public void addChangeListener(Runnable listener) {
+        changeListeners.add(Objects.requireNonNull(listener, "Listener cannot be null"));
+    }
+
+    /**
+     * Removes a listener added with {@link #addChangeListener(Runnable)}
+     */
+    public void removeChangeListener(Runnable listener) {
+        changeListeners.remove(listener);
+    }
+
+    /** Rebuild the object index if the object class of a MetaObject may have changed */
+    @Override
+    protected void childChanged(MetaData child, String childName) {
+        if (child instanceof MetaObject && (childName == null || MetaObject.ATTR_OBJECT.equals(childName))) {
+            objectIndex = null;
+        }
+    }
+
+    /**
+     * MetaObjects by the class of the objects they produce.  MetaObjectAware objects and
+     * maps holding their MetaObject resolve to it directly, any other object by its class.
+     * Proxy classes resolve by their interfaces.  A candidate is always confirmed with
+     * {@link MetaObject#produces(Object)}, as several MetaObjects can share a class.
+     */
+    private static final class ObjectIndex {
+
+        private final Set<MetaObject> metaObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Map<Class<?>, List<MetaObject>> byObjectClass = new HashMap<>();
+        private final Set<String> mapKeys = new HashSet<>();
+
+        private final ClassValue<List<MetaObject>> candidates = new ClassValue<>() {
+            @Override
+            protected List<MetaObject> computeValue(Class<?> type) {
+                List<MetaObject> l = byObjectClass.get(type);
+                if (l == null && Proxy.isProxyClass(type)) {
+                    l = new ArrayList<>();
+                    for (Class<?> i : type.getInterfaces()) {
+                        l.addAll(byObjectClass.getOrDefault(i, Collections.emptyList()));
+                    }
+                }
+                return l == null ? Collections.emptyList() : l;
+            }
+        };
+
+        ObjectIndex(List<MetaObject> children) {
+            for (MetaObject mo : children) {
+                metaObjects.add(mo);
+                if (mo instanceof MappedMetaObject) {
+                    mapKeys.add(((MappedMetaObject) mo).getMetaObjectKey());
+                }
+                try {
+                    byObjectClass.computeIfAbsent(mo.getObjectClass(), c -> new ArrayList<>(1)).add(mo);
+                } catch (ClassNotFoundException | MetaDataException e) {
+                    // No object class, so only found through its objects
+                }
             }
         }
 
-        return null;
+        MetaObject getMetaObjectFor(Object obj) {
+            if (obj instanceof MetaObjectAware) {
+                MetaObject mo = ((MetaObjectAware) obj).getMetaData();
+                if (mo != null && metaObjects.contains(mo)) return mo;
+            }
+            if (obj instanceof Map) {
+                for (String key : mapKeys) {
+                    Object mo = ((Map<?,?>) obj).get(key);
+                    if (mo instanceof MetaObject && metaObjects.contains(mo)) return (MetaObject) mo;
+                }
+            }
+            for (MetaObject mo : candidates.get(obj.getClass())) {
+                if (mo.produces(obj)) return mo;
+            }
+            return null;
+        }
     }
 
 
@@ -774,35 +1050,49 @@ public class MetaDataLoader extends MetaData implements LoaderConfigurable {
      */
     public <N extends MetaData> N getMetaDataByName( Class<N> c, String metaDataName) throws MetaDataNotFoundException {
 
+        N mc = resolveMetaDataByName( c, metaDataName );
+        if (mc == null) {
+            throw MetaDataNotFoundException.of( "MetaData with name [" + metaDataName + "] not found in MetaDataLoader [" + toString() + "]", metaDataName );
+        }
+        return mc;
+    }
+
+    /**
+     * Finds the MetaData with the specified Class type and name without throwing if it does not exist
+     */
+    public <N extends MetaData> Optional<N> findMetaDataByName( Class<N> c, String metaDataName) {
+        return Optional.ofNullable( resolveMetaDataByName( c, metaDataName ));
+    }
+
+    /**
+     * Resolves the MetaData with the specified Class type and name, or null if it does not
+     * exist.  Only found MetaData is cached, so probing for arbitrary missing names does
+     * not grow the by-name map.
+     */
+    @SuppressWarnings("unchecked")
+    protected <N extends MetaData> N resolveMetaDataByName( Class<N> c, String metaDataName) {
+
         checkState();
 
-        String KEY = "QuickCache-"+c.getName()+"-"+metaDataName;
+        Map<String, Object> byName = useCache( CACHE_METADATA_BY_NAME, c, cl -> new ConcurrentHashMap<>() );
 
-        MetaData mc = (MetaData) getCacheValue(KEY);
+        Object mc = byName.get(metaDataName);
         if (mc == null) {
             synchronized( this ) {
 
-                mc = (MetaData) getCacheValue(KEY);
+                mc = byName.get(metaDataName);
                 if (mc == null) {
                     for (MetaData mc2 : getMetaData( c )) {
                         if (mc2.getName().equals(metaDataName)) {
                             mc = mc2;
+                            byName.put(metaDataName, mc);
                             break;
                         }
                     }
-
-                    if (mc != null) {
-                        setCacheValue(KEY, mc);
-                    }
                 }
             }
-
-            if (mc == null) {
-                throw new MetaDataNotFoundException( "MetaData with name [" + metaDataName + "] not found in MetaDataLoader [" + toString() + "]", metaDataName );
-            }
         }
 
-
         return (N) mc;
     }
 
@@ -815,11 +1105,10 @@ public class MetaDataLoader extends MetaData implements LoaderConfigurable {
 
         checkState();
 
-        String KEY = "QuickCacheDerived-" + metaDataName;
-        List<MetaObject> result = (List<MetaObject>) getCacheValue(KEY);
+        List<MetaObject> result = getCacheValue(CACHE_METADATA_BY_SUPER, metaDataName);
         if (result == null) {
             synchronized (this) {
-                result = (List<MetaObject>) getCacheValue(KEY);
+                result = getCacheValue(CACHE_METADATA_BY_SUPER, metaDataName);
                 if (result == null) {
                     result = new ArrayList<>();
 
@@ -831,7 +1120,7 @@ public class MetaDataLoader extends MetaData implements LoaderConfigurable {
                             }
                         }
                     }
-                    setCacheValue(KEY, result);  // Build the sub-trees as we go
+                    setCacheValue(CACHE_METADATA_BY_SUPER, metaDataName, result);  // Build the sub-trees as we go
                 }
             }
         }
@@ -847,12 +1136,11 @@ public class MetaDataLoader extends MetaData implements LoaderConfigurable {
 
         checkState();
 
-        String KEY = "QuickCacheDerived-" + metaDataName;
         List<MetaObject> result;
-        result = (List<MetaObject>) getCacheValue(KEY);
+        result = getCacheValue(CACHE_METADATA_BY_SUPER, metaDataName);
         if (result == null) {
             synchronized (this) {
-                result = (List<MetaObject>) getCacheValue(KEY);
+                result = getCacheValue(CACHE_METADATA_BY_SUPER, metaDataName);
                 if (result == null) {
                     List<MetaObject> objects = getMetaObjects();
                     // Delegate to a second level, so we don't have to keep retrieving the list of all MetaObjects
@@ -912,8 +1200,12 @@ public class MetaDataLoader extends MetaData implements LoaderConfigurable {
         }
         
         try {
-            // Remove all classes
-            clearChildren();
+            // Remove all classes, unless frozen in which case they are left for garbage collection
+            if (!super.isFrozen()) {
+                clearChildren();
+            }
+
+            stopCacheStatistics();
 
             // Note: Unregistration from MetaDataLoaderRegistry should be handled by the calling code
             // The legacy static registry is not used for OSGi-compatible deployments.
@@ -148,6 +148,13 @@ public class SimpleLoader extends MetaDataLoader
 
         super.init();
 
+        return this;
+    }
+
+    /** Load the MetaData from the source URIs */
+    @Override
+    protected void loadMetaData() {
+
         // Load MetaData using direct JSON parser approach
         for( URI sourceURI : sourceURIs) {
             String filename = sourceURI.toString();
@@ -161,7 +168,5 @@ public class SimpleLoader extends MetaDataLoader
         }
 
         // Validation is now enforced during construction (constraint system)
-
-        return this;
     }
 }
@@ -0,0 +1,90 @@
+package com.metaobjects.object;
+
+import com.metaobjects.field.MetaField;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ObjectAccessor that reads and writes each field through the
+ * {@link MetaObject#getValue(MetaField, Object)} and
+ * {@link MetaObject#setValue(MetaField, Object, Object)} of its declaring MetaObject.
+ * Used by MetaObjects that do not provide a faster accessor.
+ *
+ * @since 6.0.0
+ */
+public class DefaultObjectAccessor implements ObjectAccessor {
+
+    private final List<MetaField> fields;
+    private final MetaField[] fieldArray;
+    private final MetaObject[] declaring;
+
+    public DefaultObjectAccessor(Collection<MetaField> fields) {
+        this.fields = List.copyOf(fields);
+        this.fieldArray = this.fields.toArray(new MetaField[0]);
+        this.declaring = new MetaObject[fieldArray.length];
+        for (int i = 0; i < fieldArray.length; i++) {
+            declaring[i] = fieldArray[i].getDeclaringObject();
+        }
+    }
+
+    @Override
+    public List<MetaField> getMetaFields() {
+        return fields;
+    }
+
+    @Override
+    public int getFieldCount() {
+        return fieldArray.length;
+    }
+
+    @Override
+    public Object get(int fieldIndex, Object obj) {
+        return declaring[fieldIndex].getValue(fieldArray[fieldIndex], obj);
+    }
+
+    @Override
+    public void set(int fieldIndex, Object obj, Object val) {
+        declaring[fieldIndex].setValue(fieldArray[fieldIndex], obj, val);
+    }
+
+    @Override
+    public int getInt(int fieldIndex, Object obj) {
+        return declaring[fieldIndex].getIntValue(fieldArray[fieldIndex], obj);
+    }
+
+    @Override
+    public long getLong(int fieldIndex, Object obj) {
+        return declaring[fieldIndex].getLongValue(fieldArray[fieldIndex], obj);
+    }
+
+    @Override
+    public double getDouble(int fieldIndex, Object obj) {
+        return declaring[fieldIndex].getDoubleValue(fieldArray[fieldIndex], obj);
+    }
+
+    @Override
+    public boolean getBoolean(int fieldIndex, Object obj) {
+        return declaring[fieldIndex].getBooleanValue(fieldArray[fieldIndex], obj);
+    }
+
+    @Override
+    public void setInt(int fieldIndex, Object obj, int val) {
+        declaring[fieldIndex].setIntValue(fieldArray[fieldIndex], obj, val);
+    }
+
+    @Override
+    public void setLong(int fieldIndex, Object obj, long val) {
+        declaring[fieldIndex].setLongValue(fieldArray[fieldIndex], obj, val);
+    }
+
+    @Override
+    public void setDouble(int fieldIndex, Object obj, double val) {
+        declaring[fieldIndex].setDoubleValue(fieldArray[fieldIndex], obj, val);
+    }
+
+    @Override
+    public void setBoolean(int fieldIndex, Object obj, boolean val) {
+        declaring[fieldIndex].setBooleanValue(fieldArray[fieldIndex], obj, val);
+    }
+}
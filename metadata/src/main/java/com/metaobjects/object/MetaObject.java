@@ -1,6 +1,7 @@
 package com.metaobjects.object;
 
 import com.metaobjects.*;
+import com.metaobjects.cache.CacheKey;
 import com.metaobjects.attr.BooleanAttribute;
 import com.metaobjects.attr.MetaAttribute;
 import com.metaobjects.attr.StringAttribute;
@@ -14,12 +15,32 @@ import com.metaobjects.identity.SecondaryIdentity;
 import com.metaobjects.relationship.MetaRelationship;
 import com.metaobjects.registry.MetaDataRegistry;
 import com.metaobjects.validator.MetaValidator;
+import com.metaobjects.validator.ObjectValidationResult;
+import com.metaobjects.validator.ValidationMode;
+import com.metaobjects.util.DataConverter;
 import com.metaobjects.view.MetaView;
 import static com.metaobjects.MetaData.ATTR_IS_ABSTRACT;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
@@ -63,6 +84,39 @@ public abstract class MetaObject extends MetaData {
     /** Object type attribute for composition */
     public static final String ATTR_OBJECT = "object";
 
+    // Cache keys
+    private static final CacheKey<MetaField> CACHE_GET_META_FIELD = CacheKey.byChildName("getMetaField()");
+    private static final CacheKey<Class<?>> CACHE_OBJECT_CLASS = CacheKey.of("getObjectClass()");
+    private static final CacheKey<Class<?>> CACHE_NEW_INSTANCE_CLASS = CacheKey.of("ObjectClassForNewInstance");
+    private static final CacheKey<MetaRelationship> CACHE_GET_RELATIONSHIP = CacheKey.byChildName("getRelationship()");
+    private static final CacheKey<Collection<MetaRelationship>> CACHE_RELATIONSHIPS_BY_CARDINALITY = CacheKey.of("getRelationshipsByCardinality()");
+    private static final CacheKey<Collection<MetaRelationship>> CACHE_RELATIONSHIPS_BY_SEMANTIC_TYPE = CacheKey.of("getRelationshipsBySemanticType()");
+    private static final CacheKey<Collection<MetaRelationship>> CACHE_RELATIONSHIPS_BY_TARGET = CacheKey.of("getRelationshipsByTarget()");
+    private static final CacheKey<PrimaryIdentity> CACHE_PRIMARY_IDENTITY = CacheKey.of("getPrimaryIdentity()");
+    private static final CacheKey<Collection<SecondaryIdentity>> CACHE_SECONDARY_IDENTITIES = CacheKey.of("getSecondaryIdentities()");
+    private static final CacheKey<MetaIdentity> CACHE_GET_IDENTITY = CacheKey.byChildName("getIdentity()");
+
+    // Accessors for all fields by object Class, see getObjectAccessor()
+    private transient volatile ClassValue<ObjectAccessor> objectAccessors = null;
+
+    // Fields by stable index, see getFieldByIndex()
+    private transient volatile FieldIndex fieldIndex = null;
+
+    // Slots of the fields for objects that store values by slot, see getSlotLayout()
+    private transient volatile SlotLayout slotLayout = null;
+
+    // Creates new objects, see getInstanceFactory()
+    private transient volatile Supplier<Object> instanceFactory = null;
+
+    // Fields with a default value and the converted values, see setDefaultValues()
+    private transient volatile DefaultValues defaultValues = null;
+
+    // Fields to validate and their accessor indexes, see performValidation()
+    private transient volatile ValidationPlan validationPlan = null;
+
+    // Compiled mappers to other MetaObjects by identity, replaced on each addition, see getMapper()
+    private transient volatile Map<MetaObject, MetaObjectMapper> mappers = null;
+
     /**
      * Register MetaObject type and constraints with registry.
      * Called by ObjectTypesMetaDataProvider during service discovery.
@@ -260,6 +314,120 @@ public abstract class MetaObject extends MetaData {
         return getChildren(MetaField.class, includeParentData);
     }
 
+    /**
+     * Number of fields, including those of the super objects
+     */
+    public int getFieldCount() {
+        return currentFieldIndex().fields.size();
+    }
+
+    /**
+     * Return the field with the specified index, see {@link MetaField#getIndex()}
+     *
+     * @param index the index of the field
+     * @return the field
+     * @throws IndexOutOfBoundsException if there is no field with that index
+     */
+    public MetaField getFieldByIndex(int index) {
+        return currentFieldIndex().fields.get(index);
+    }
+
+    /**
+     * Return all fields, including those of the super objects, in index order
+     */
+    public List<MetaField> getFieldsByIndex() {
+        return currentFieldIndex().fields;
+    }
+
+    /**
+     * Return the index of the field in this MetaObject
+     *
+     * @param f the field
+     * @return the index, or -1 if the field is not a field of this MetaObject
+     */
+    public int getFieldIndex(MetaField f) {
+        Integer i = currentFieldIndex().positions.get(f);
+        return i == null ? -1 : i;
+    }
+
+    /**
+     * The field index, rebuilt when the fields of this object or a super object changed
+     */
+    private FieldIndex currentFieldIndex() {
+        FieldIndex fi = fieldIndex;
+        if (fi == null || !fi.isCurrent(getSuperObject())) {
+            fi = new FieldIndex(this);
+            fieldIndex = fi;
+        }
+        return fi;
+    }
+
+    /**
+     * Fields in index order.  The fields of the super object keep their index, with a
+     * field overriding one of the super object taking its place, and the fields added by
+     * this object follow.  An index is therefore the same in a MetaObject and all the
+     * MetaObjects that extend it.
+     */
+    private static final class FieldIndex {
+
+        private final MetaObject superObject;
+        private final FieldIndex superIndex;
+        private final List<MetaField> fields;
+        private final Map<MetaField, Integer> positions;
+
+        // The fields declared by the object, whose index is assigned to them
+        private final List<MetaField> declared;
+
+        FieldIndex(MetaObject mo) {
+            superObject = mo.getSuperObject();
+            superIndex = superObject != null ? superObject.currentFieldIndex() : null;
+
+            Map<String, MetaField> byName = new LinkedHashMap<>();
+            for (MetaField f : mo.getMetaFields()) {
+                byName.putIfAbsent(f.getName(), f);
+            }
+
+            List<MetaField> ordered = new ArrayList<>(byName.size());
+            if (superIndex != null) {
+                for (MetaField f : superIndex.fields) {
+                    MetaField own = byName.remove(f.getName());
+                    if (own != null) ordered.add(own);
+                }
+            }
+            ordered.addAll(byName.values());
+
+            fields = List.copyOf(ordered);
+            positions = new IdentityHashMap<>(fields.size() * 2);
+            for (int i = 0; i < fields.size(); i++) {
+                positions.put(fields.get(i), i);
+            }
+
+            declared = List.copyOf(mo.getMetaFields(false));
+            for (MetaField f : declared) {
+                Integer i = positions.get(f);
+                f.assignIndex(i == null ? -1 : i);
+            }
+        }
+
+        void clearIndexes() {
+            for (MetaField f : declared) {
+                f.clearIndex();
+            }
+        }
+
+        boolean hasField(String name) {
+            for (MetaField f : fields) {
+                if (f.getName().equals(name)) return true;
+            }
+            return false;
+        }
+
+        boolean isCurrent(MetaObject currentSuper) {
+            if (currentSuper != superObject) return false;
+            return superObject == null || superObject.fieldIndex == superIndex && superIndex.isCurrent(superObject.getSuperObject());
+        }
+    }
+
     /**
      * Add a field to the MetaObject
      */
@@ -272,31 +440,33 @@ public abstract class MetaObject extends MetaData {
      * Whether the named MetaField exists
      */
     public boolean hasMetaField(String name) {
-        try {
-            getMetaField(name);
-            return true;
-        } catch (MetaDataNotFoundException e) {
-            return false;
-        }
+        return resolveMetaField(name) != null;
     }
 
     /**
      * Return the specified MetaField of the MetaObject
      */
     public MetaField getMetaField(String fieldName) {
+        MetaField f = resolveMetaField(fieldName);
+        if (f == null) {
+            throw MetaDataNotFoundException.forField(fieldName, this);
+        }
+        return f;
+    }
 
-        return useCache( "getMetaField()", fieldName, name -> {
-            MetaField f = null;
-            try {
-                f = (MetaField) getChild(name, MetaField.class);
-            } catch (MetaDataNotFoundException e) {
-                if (getSuperObject() != null) {
-                    try {
-                        f = getSuperObject().getMetaField(name);
-                    } catch (MetaDataNotFoundException ex) {
-                    }
-                }
-                throw MetaDataNotFoundException.forField(name, this);
+    /**
+     * Resolves the named MetaField locally and then through the super object, without
+     * throwing.  Only found fields are cached, so probing for missing names does not
+     * grow the cache.
+     *
+     * @param fieldName the name of the field
+     * @return the MetaField, or null if it does not exist
+     */
+    protected MetaField resolveMetaField(String fieldName) {
+        return useCacheIfFound( CACHE_GET_META_FIELD, fieldName, name -> {
+            MetaField f = resolveChild(null, name, MetaField.class, true);
+            if (f == null && getSuperObject() != null) {
+                f = getSuperObject().resolveMetaField(name);
             }
             return f;
         });
@@ -336,8 +506,7 @@ public abstract class MetaObject extends MetaData {
      */
     public Class<?> getObjectClass() throws ClassNotFoundException {
 
-        final String CACHE_KEY = "getObjectClass()";
-        Class<?> c = (Class<?>) getCacheValue(CACHE_KEY );
+        Class<?> c = getCacheValue( CACHE_OBJECT_CLASS );
         if ( c == null ) {
 
             c = null;
@@ -349,7 +518,7 @@ public abstract class MetaObject extends MetaData {
             if (c == null)
                 c = createClassFromMetaDataName(true);
 
-            setCacheValue( CACHE_KEY, c );
+            setCacheValue( CACHE_OBJECT_CLASS, c );
         }
         return c;
     }
@@ -386,26 +555,89 @@ public abstract class MetaObject extends MetaData {
     }
 
     /**
-     * Sets the default values on an object
+     * Sets the default values on an object.  The fields with a default value and their
+     * values, converted to the data type of the field, are collected on first use.
      *
      * @param o Object to set the default values on
      */
     public void setDefaultValues(Object o) {
+        DefaultValues dv = defaultValues;
+        if (dv == null) {
+            dv = new DefaultValues(getFieldsByIndex());
+            defaultValues = dv;
+        }
+        dv.apply(o);
+    }
+
+    /** Default values of the fields, converted once */
+    private static final class DefaultValues {
 
-        getMetaFields().stream()
-                .filter( f -> f.getDefaultValue()!=null)
-                .forEach( f -> f.setObject( o, f.getDefaultValue() ));
+        private final MetaField[] fields;
+        private final Object[] values;
+        // Whether the converted value can be set directly on the declaring MetaObject
+        private final boolean[] direct;
+
+        DefaultValues(Collection<MetaField> all) {
+            List<MetaField> withDefault = new ArrayList<>();
+            for (MetaField f : all) {
+                if (f.getDefaultValue() != null) withDefault.add(f);
+            }
+            fields = withDefault.toArray(new MetaField[0]);
+            values = new Object[fields.length];
+            direct = new boolean[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                MetaField f = fields[i];
+                Object v = DataConverter.toType(f.getDataType(), f.getDefaultValue());
+                values[i] = v;
+                direct[i] = f.getDeclaringObject() != null && f.getValueClass().isInstance(v);
+            }
+        }
+
+        void apply(Object o) {
+            for (int i = 0; i < fields.length; i++) {
+                MetaField f = fields[i];
+                if (direct[i]) f.getDeclaringObject().setValue(f, o, values[i]);
+                else f.setObject(o, f.getDefaultValue());
+            }
+        }
     }
 
     /**
      * Return a new MetaObject instance from the MetaObject
      */
     public Object newInstance()  {
+        Object o = getInstanceFactory().get();
+
+        // Set the Default Values
+        setDefaultValues(o);
 
-        final String KEY = "ObjectClassForNewInstance";
+        return o;
+    }
 
-        // See if we have this cached already
-        Class<?> oc = (Class<?>) getCacheValue( KEY );
+    /**
+     * Get the factory that constructs new objects for this MetaObject, without default
+     * values.  It is resolved on first use and discarded when this MetaObject changes.
+     *
+     * @return the factory
+     */
+    public Supplier<Object> getInstanceFactory() {
+        Supplier<Object> f = instanceFactory;
+        if (f == null) {
+            f = createInstanceFactory();
+            instanceFactory = f;
+        }
+        return f;
+    }
+
+    /**
+     * Create the factory for new objects.  A constructor taking the MetaObject is
+     * preferred, otherwise the empty constructor is used and the MetaObject attached.
+     *
+     * @return the factory
+     */
+    protected Supplier<Object> createInstanceFactory() {
+
+        Class<?> oc = getCacheValue( CACHE_NEW_INSTANCE_CLASS );
         if ( oc == null ) {
 
             try {
@@ -418,50 +650,106 @@ public abstract class MetaObject extends MetaData {
             }
 
             // Store the resulting Class in the cache
-            setCacheValue( KEY, oc );
+            setCacheValue( CACHE_NEW_INSTANCE_CLASS, oc );
         }
 
-        try {
-            if (oc.isInterface()) {
-                throw new IllegalArgumentException("Could not instantiate an Interface for MetaObject [" + getName() + "]");
-            }
+        if (oc.isInterface()) {
+            throw new IllegalArgumentException("Could not instantiate an Interface for MetaObject [" + getName() + "]");
+        }
 
-            Object o = null;
+        final Class<?> objClass = oc;
+        final String error = "Could not instantiate a new Object of Class [" + objClass + "] for MetaObject [" + getName() + "]: ";
 
-            try {
-                // Construct the object and pass the MetaObject into the constructor
-                Constructor c = oc.getConstructor( MetaObject.class );
-                o = c.newInstance(this);
-            }
-            catch (NoSuchMethodException e) {
-                // Construct with no arguments && attach the metaobject
-                for( Constructor<?> c : oc.getDeclaredConstructors() ) {
-                    if ( c.getParameterCount() == 0 ) {
-                        try {
-                            c.setAccessible(true);
-                            o = c.newInstance();
-                        } catch (InvocationTargetException ex) {
-                            throw new RuntimeException("Could not instantiate a new Object of Class [" + oc + "] for MetaObject [" + getName() + "]: " + e.getMessage(), e);
-                        }
+        try {
+            // Construct the object and pass the MetaObject into the constructor
+            Constructor<?> c = oc.getConstructor( MetaObject.class );
+            Function<Object, Object> ctor = constructorFunction(c, error);
+            return () -> ctor.apply(this);
+        }
+        catch (NoSuchMethodException e) {
+            // Construct with no arguments && attach the metaobject
+            for( Constructor<?> c : oc.getDeclaredConstructors() ) {
+                if ( c.getParameterCount() == 0 ) {
+                    Supplier<Object> ctor = constructorSupplier(c, error);
+                    return () -> {
+                        Object o = ctor.get();
                         attachMetaObject(o);
-                        break;
-                    }
+                        return o;
+                    };
                 }
-                if ( o == null ) throw new RuntimeException("Could not instantiate a new Object of Class [" + oc + "] for MetaObject [" + getName() + "]: No empty constructor existed" );
-            }
-            catch (InvocationTargetException e) {
-                throw new RuntimeException("Could not instantiate a new Object of Class [" + oc + "] for MetaObject [" + getName() + "]: " + e, e);
             }
+            throw new RuntimeException(error + "No empty constructor existed" );
+        }
+    }
 
-            // Set the Default Values
-            setDefaultValues(o);
+    /**
+     * Constructor taking one argument, generated where possible.  Any exception of the
+     * constructor, including checked ones the generated form throws undeclared, is
+     * wrapped once with the error.
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> constructorFunction(Constructor<?> c, String error) {
+        Function<Object, Object> f;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(c.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle mh = lookup.unreflectConstructor(c);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class), MethodType.methodType(Object.class, Object.class), mh,
+                    MethodType.methodType(c.getDeclaringClass(), c.getParameterTypes()[0]));
+            f = (Function<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            c.setAccessible(true);
+            return arg -> {
+                try {
+                    return c.newInstance(arg);
+                } catch (InvocationTargetException ex) {
+                    throw new RuntimeException(error + ex.getCause(), ex.getCause());
+                } catch (ReflectiveOperationException ex) {
+                    throw new RuntimeException(error + ex, ex);
+                }
+            };
+        }
+        return arg -> {
+            try {
+                return f.apply(arg);
+            } catch (Exception ex) {
+                throw new RuntimeException(error + ex, ex);
+            }
+        };
+    }
 
-            return o;
-        } catch (InstantiationException e) {
-            throw new RuntimeException("Could not instantiate a new Object of Class [" + oc.getName() + "] for MetaObject [" + getName() + "]: " + e, e);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException("Illegal Access Exception instantiating a new Object for MetaObject [" + getName() + "]: " + e, e);
+    /**
+     * Empty constructor, generated where possible, wrapping its exceptions once with the error
+     */
+    @SuppressWarnings("unchecked")
+    private static Supplier<Object> constructorSupplier(Constructor<?> c, String error) {
+        Supplier<Object> f;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(c.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle mh = lookup.unreflectConstructor(c);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "get",
+                    MethodType.methodType(Supplier.class), MethodType.methodType(Object.class), mh,
+                    MethodType.methodType(c.getDeclaringClass()));
+            f = (Supplier<Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            c.setAccessible(true);
+            return () -> {
+                try {
+                    return c.newInstance();
+                } catch (InvocationTargetException ex) {
+                    throw new RuntimeException(error + ex.getCause(), ex.getCause());
+                } catch (ReflectiveOperationException ex) {
+                    throw new RuntimeException(error + ex, ex);
+                }
+            };
         }
+        return () -> {
+            try {
+                return f.get();
+            } catch (Exception ex) {
+                throw new RuntimeException(error + ex, ex);
+            }
+        };
     }
 
     ////////////////////////////////////////////////////
@@ -504,33 +792,29 @@ public abstract class MetaObject extends MetaData {
      * Check if a named relationship exists
      */
     public boolean hasRelationship(String name) {
-        try {
-            getRelationship(name);
-            return true;
-        } catch (MetaDataNotFoundException e) {
-            return false;
-        }
+        return resolveRelationship(name) != null;
     }
 
     /**
      * Get a specific relationship by name
      */
     public MetaRelationship getRelationship(String relationshipName) {
-        return useCache("getRelationship()", relationshipName, name -> {
-            MetaRelationship relationship = null;
-            try {
-                relationship = (MetaRelationship) getChild(name, MetaRelationship.class);
-            } catch (MetaDataNotFoundException e) {
-                if (getSuperObject() != null) {
-                    try {
-                        relationship = getSuperObject().getRelationship(name);
-                    } catch (MetaDataNotFoundException ex) {
-                        // Expected - relationship not found in parent either
-                    }
-                }
-                if (relationship == null) {
-                    throw MetaDataNotFoundException.forRelationship(name, this);
-                }
+        MetaRelationship relationship = resolveRelationship(relationshipName);
+        if (relationship == null) {
+            throw MetaDataNotFoundException.forRelationship(relationshipName, this);
+        }
+        return relationship;
+    }
+
+    /**
+     * Resolves the named relationship locally and then through the super object,
+     * without throwing.  Misses are not cached.
+     */
+    protected MetaRelationship resolveRelationship(String relationshipName) {
+        return useCacheIfFound(CACHE_GET_RELATIONSHIP, relationshipName, name -> {
+            MetaRelationship relationship = resolveChild(null, name, MetaRelationship.class, true);
+            if (relationship == null && getSuperObject() != null) {
+                relationship = getSuperObject().resolveRelationship(name);
             }
             return relationship;
         });
@@ -540,18 +824,14 @@ public abstract class MetaObject extends MetaData {
      * Find a relationship by name using Optional-based API
      */
     public Optional<MetaRelationship> findRelationship(String name) {
-        try {
-            return Optional.of(getRelationship(name));
-        } catch (MetaDataNotFoundException e) {
-            return Optional.empty();
-        }
+        return Optional.ofNullable(resolveRelationship(name));
     }
 
     /**
      * Get relationships by cardinality ("one" or "many")
      */
     public Collection<MetaRelationship> getRelationshipsByCardinality(String cardinality) {
-        return useCache("getRelationshipsByCardinality()", cardinality, card -> {
+        return useCache(CACHE_RELATIONSHIPS_BY_CARDINALITY, cardinality, card -> {
             Collection<MetaRelationship> filtered = new ArrayList<>();
             for (MetaRelationship rel : getRelationships()) {
                 if (card.equals(rel.getCardinality())) {
@@ -566,7 +846,7 @@ public abstract class MetaObject extends MetaData {
      * Get relationships by semantic type ("composition", "aggregation", "association")
      */
     public Collection<MetaRelationship> getRelationshipsBySemanticType(String semanticType) {
-        return useCache("getRelationshipsBySemanticType()", semanticType, type -> {
+        return useCache(CACHE_RELATIONSHIPS_BY_SEMANTIC_TYPE, semanticType, type -> {
             Collection<MetaRelationship> filtered = new ArrayList<>();
             for (MetaRelationship rel : getRelationships()) {
                 if (type.equals(rel.getSubType())) {
@@ -581,7 +861,7 @@ public abstract class MetaObject extends MetaData {
      * Get relationships that target a specific object
      */
     public Collection<MetaRelationship> getRelationshipsByTarget(String targetObject) {
-        return useCache("getRelationshipsByTarget()", targetObject, target -> {
+        return useCache(CACHE_RELATIONSHIPS_BY_TARGET, targetObject, target -> {
             Collection<MetaRelationship> filtered = new ArrayList<>();
             for (MetaRelationship rel : getRelationships()) {
                 if (target.equals(rel.getTargetObject())) {
@@ -642,7 +922,7 @@ public abstract class MetaObject extends MetaData {
      * @return the primary identity, or null if none defined
      */
     public PrimaryIdentity getPrimaryIdentity() {
-        return useCache("getPrimaryIdentity()", () -> {
+        return useCache(CACHE_PRIMARY_IDENTITY, () -> {
             Collection<PrimaryIdentity> primaries = getChildren(PrimaryIdentity.class);
             return primaries.isEmpty() ? null : primaries.iterator().next();
         });
@@ -652,7 +932,7 @@ public abstract class MetaObject extends MetaData {
      * Get all secondary identities for this object
      */
     public Collection<SecondaryIdentity> getSecondaryIdentities() {
-        return useCache("getSecondaryIdentities()", () -> {
+        return useCache(CACHE_SECONDARY_IDENTITIES, () -> {
             return getChildren(SecondaryIdentity.class);
         });
     }
@@ -661,33 +941,29 @@ public abstract class MetaObject extends MetaData {
      * Check if a named identity exists
      */
     public boolean hasIdentity(String name) {
-        try {
-            getIdentity(name);
-            return true;
-        } catch (MetaDataNotFoundException e) {
-            return false;
-        }
+        return resolveIdentity(name) != null;
     }
 
     /**
      * Get a specific identity by name
      */
     public MetaIdentity getIdentity(String identityName) {
-        return useCache("getIdentity()", identityName, name -> {
-            MetaIdentity identity = null;
-            try {
-                identity = (MetaIdentity) getChild(name, MetaIdentity.class);
-            } catch (MetaDataNotFoundException e) {
-                if (getSuperObject() != null) {
-                    try {
-                        identity = getSuperObject().getIdentity(name);
-                    } catch (MetaDataNotFoundException ex) {
-                        // Expected - identity not found in parent either
-                    }
-                }
-                if (identity == null) {
-                    throw MetaDataNotFoundException.forIdentity(name, this);
-                }
+        MetaIdentity identity = resolveIdentity(identityName);
+        if (identity == null) {
+            throw MetaDataNotFoundException.forIdentity(identityName, this);
+        }
+        return identity;
+    }
+
+    /**
+     * Resolves the named identity locally and then through the super object,
+     * without throwing.  Misses are not cached.
+     */
+    protected MetaIdentity resolveIdentity(String identityName) {
+        return useCacheIfFound(CACHE_GET_IDENTITY, identityName, name -> {
+            MetaIdentity identity = resolveChild(null, name, MetaIdentity.class, true);
+            if (identity == null && getSuperObject() != null) {
+                identity = getSuperObject().resolveIdentity(name);
             }
             return identity;
         });
@@ -697,41 +973,23 @@ public abstract class MetaObject extends MetaData {
      * Find an identity by name using Optional-based API
      */
     public Optional<MetaIdentity> findIdentity(String name) {
-        try {
-            return Optional.of(getIdentity(name));
-        } catch (MetaDataNotFoundException e) {
-            return Optional.empty();
-        }
+        return Optional.ofNullable(resolveIdentity(name));
     }
 
     /**
      * Find a primary identity by name using Optional-based API
      */
     public Optional<PrimaryIdentity> findPrimaryIdentity(String name) {
-        try {
-            MetaIdentity identity = getIdentity(name);
-            if (identity instanceof PrimaryIdentity) {
-                return Optional.of((PrimaryIdentity) identity);
-            }
-            return Optional.empty();
-        } catch (MetaDataNotFoundException e) {
-            return Optional.empty();
-        }
+        MetaIdentity identity = resolveIdentity(name);
+        return (identity instanceof PrimaryIdentity) ? Optional.of((PrimaryIdentity) identity) : Optional.empty();
     }
 
     /**
      * Find a secondary identity by name using Optional-based API
      */
     public Optional<SecondaryIdentity> findSecondaryIdentity(String name) {
-        try {
-            MetaIdentity identity = getIdentity(name);
-            if (identity instanceof SecondaryIdentity) {
-                return Optional.of((SecondaryIdentity) identity);
-            }
-            return Optional.empty();
-        } catch (MetaDataNotFoundException e) {
-            return Optional.empty();
-        }
+        MetaIdentity identity = resolveIdentity(name);
+        return (identity instanceof SecondaryIdentity) ? Optional.of((SecondaryIdentity) identity) : Optional.empty();
     }
 
     /**
@@ -756,6 +1014,130 @@ public abstract class MetaObject extends MetaData {
     }
 
 
+    ////////////////////////////////////////////////////
+    // OBJECT ACCESSORS
+
+    /**
+     * Get the accessor that reads and writes all fields of objects of the specified
+     * class by field index.  Accessors are built on first use, held in a ClassValue and
+     * discarded when the fields of this MetaObject change.
+     *
+     * @param objClass the class of the objects to access
+     * @return the accessor for the class
+     */
+    public ObjectAccessor getObjectAccessor(Class<?> objClass) {
+        ClassValue<ObjectAccessor> accessors = objectAccessors;
+        if (accessors == null) {
+            synchronized (this) {
+                accessors = objectAccessors;
+                if (accessors == null) {
+                    accessors = new ClassValue<ObjectAccessor>() {
+                        @Override
+                        protected ObjectAccessor computeValue(Class<?> c) {
+                            return createObjectAccessor(c);
+                        }
+                    };
+                    objectAccessors = accessors;
+                }
+            }
+        }
+        return accessors.get(objClass);
+    }
+
+    /**
+     * Create the accessor for objects of the specified class.  The default goes through
+     * getValue() and setValue() of each field's declaring MetaObject.
+     *
+     * @param objClass the class of the objects to access
+     * @return the new accessor
+     */
+    protected ObjectAccessor createObjectAccessor(Class<?> objClass) {
+        return new DefaultObjectAccessor(getFieldsByIndex());
+    }
+
+    /**
+     * Get the slot of each field for objects that keep their values in a
+     * {@link SlotValues}.  The layout is built on first use and replaced when the fields
+     * of this MetaObject change; objects keep the layout they were created with.
+     *
+     * @return the slot layout
+     */
+    public SlotLayout getSlotLayout() {
+        SlotLayout l = slotLayout;
+        if (l == null) {
+            l = new SlotLayout(getFieldsByIndex());
+            slotLayout = l;
+        }
+        return l;
+    }
+
+    /**
+     * Get the mapper that copies objects of this MetaObject to objects of the target.
+     * The mapping plan is compiled on first use and recompiled when the fields of either
+     * MetaObject change.
+     *
+     * @param target The MetaObject to map to
+     * @return The mapper for the pair
+     */
+    public MetaObjectMapper getMapper(MetaObject target) {
+        Map<MetaObject, MetaObjectMapper> m = mappers;
+        MetaObjectMapper mapper = m != null ? m.get(target) : null;
+        if (mapper == null || !mapper.isCurrent()) {
+            mapper = new MetaObjectMapper(this, target);
+            Map<MetaObject, MetaObjectMapper> copy = m != null ? new IdentityHashMap<>(m) : new IdentityHashMap<>();
+            copy.put(target, mapper);
+            mappers = copy;
+        }
+        return mapper;
+    }
+
+    /**
+     * Discard the values derived from the changed child.  The field index, accessors,
+     * slot layout, default values, validation plan and mappers are derived from the
+     * fields, and the instance factory from the object class attributes, so adding
+     * another attribute such as @description keeps them.
+     */
+    @Override
+    protected void invalidateCaches( String childName ) {
+        if ( isFieldChange( childName )) {
+            objectAccessors = null;
+            FieldIndex fi = fieldIndex;
+            fieldIndex = null;
+            if (fi != null) fi.clearIndexes();
+            slotLayout = null;
+            defaultValues = null;
+            validationPlan = null;
+            mappers = null;
+        }
+        if ( childName == null || isObjectClassAttr( childName )) {
+            instanceFactory = null;
+        }
+        super.invalidateCaches( childName );
+    }
+
+    /**
+     * Whether the named child is a field, or was one when the field index was built.
+     * Every value derived from the fields is built through the field index.
+     */
+    private boolean isFieldChange( String childName ) {
+        if ( childName == null ) return true;
+        FieldIndex fi = fieldIndex;
+        if ( fi == null ) return false;
+        return fi.hasField( childName ) || resolveChild( null, childName, MetaField.class, true ) != null;
+    }
+
+    /**
+     * Whether the named attribute determines the class of new objects, see
+     * {@link #createInstanceFactory()}.  Subclasses that read other attributes
+     * for the object class should add them.
+     *
+     * @param childName the name of the changed child
+     * @return true if the instance factory must be rebuilt
+     */
+    protected boolean isObjectClassAttr( String childName ) {
+        return ATTR_OBJECT.equals( childName );
+    }
+
     ////////////////////////////////////////////////////
     // ABSTRACT METHODS
 
@@ -769,19 +1151,230 @@ public abstract class MetaObject extends MetaData {
      */
     public abstract void setValue(MetaField f, Object obj, Object val);
 
+    ////////////////////////////////////////////////////
+    // PRIMITIVE VALUE METHODS
+
+    /**
+     * Retrieves the value from the object as an int, 0 if it is null.  The default
+     * converts the value from getValue(); MetaObjects override these methods to read
+     * and write primitives without boxing.
+     */
+    public int getIntValue(MetaField f, Object obj) {
+        Integer v = DataConverter.toInt(getValue(f, obj));
+        return v == null ? 0 : v;
+    }
+
+    /**
+     * Retrieves the value from the object as a long, 0 if it is null
+     */
+    public long getLongValue(MetaField f, Object obj) {
+        Long v = DataConverter.toLong(getValue(f, obj));
+        return v == null ? 0L : v;
+    }
+
+    /**
+     * Retrieves the value from the object as a double, 0 if it is null
+     */
+    public double getDoubleValue(MetaField f, Object obj) {
+        Double v = DataConverter.toDouble(getValue(f, obj));
+        return v == null ? 0.0 : v;
+    }
+
+    /**
+     * Retrieves the value from the object as a boolean, false if it is null
+     */
+    public boolean getBooleanValue(MetaField f, Object obj) {
+        Boolean v = DataConverter.toBoolean(getValue(f, obj));
+        return v != null && v;
+    }
+
+    /**
+     * Sets an int on the object, converted to the data type of the field
+     */
+    public void setIntValue(MetaField f, Object obj, int val) {
+        setValue(f, obj, DataConverter.toType(f.getDataType(), val));
+    }
+
+    /**
+     * Sets a long on the object, converted to the data type of the field
+     */
+    public void setLongValue(MetaField f, Object obj, long val) {
+        setValue(f, obj, DataConverter.toType(f.getDataType(), val));
+    }
+
+    /**
+     * Sets a double on the object, converted to the data type of the field
+     */
+    public void setDoubleValue(MetaField f, Object obj, double val) {
+        setValue(f, obj, DataConverter.toType(f.getDataType(), val));
+    }
+
+    /**
+     * Sets a boolean on the object, converted to the data type of the field
+     */
+    public void setBooleanValue(MetaField f, Object obj, boolean val) {
+        setValue(f, obj, DataConverter.toType(f.getDataType(), val));
+    }
+
     ////////////////////////////////////////////////////
     // Validation Methods
 
+    /**
+     * Validates the values of all fields of the object with their default validators.
+     * The fields and their accessor indexes are resolved once into a validation plan, so
+     * a valid object is checked without allocating.  Fields overriding how their values
+     * are read or validated are validated through MetaField.performValidation(Object).
+     */
     public void performValidation(Object obj) {
         if ( obj != null ) {
-            for(MetaField mf : getMetaFields()) {
-                mf.performValidation(obj);
+            ValidationPlan plan = currentValidationPlan();
+            ObjectAccessor a = getObjectAccessor( obj.getClass() );
+            MetaField[] fields = plan.fields;
+            for ( int i = 0; i < fields.length; i++ ) {
+                MetaField mf = fields[i];
+                if ( plan.plain[i] && !mf.hasDefaultValidators() ) continue;
+                int index = plan.indexes[i];
+                if ( index >= 0 ) mf.validateValue( obj, toFieldValue( mf, a.get( index, obj )));
+                else mf.performValidation( obj );
             }
         } else {
             throw new InvalidValueException("Cannot perform validation on a null object: "+toString());
         }
     }
 
+    /**
+     * Validates the values of all fields of the object without throwing on invalid values
+     * @param obj the object to validate
+     * @param mode whether to stop at the first invalid value
+     * @return the errors found
+     */
+    public ObjectValidationResult validate(Object obj, ValidationMode mode) {
+        ObjectValidationResult result = new ObjectValidationResult();
+        validate( obj, mode, result );
+        return result;
+    }
+
+    /**
+     * Validates the values of all fields of the object into a reusable result, which is
+     * reset first.  Neither a valid nor an invalid object allocates an exception, and the
+     * messages of the errors are only formatted when asked for.
+     * @param obj the object to validate
+     * @param mode whether to stop at the first invalid value
+     * @param result receives the errors
+     * @return true if the object is valid
+     */
+    public boolean validate(Object obj, ValidationMode mode, ObjectValidationResult result) {
+        if ( obj == null ) {
+            throw new InvalidValueException("Cannot perform validation on a null object: "+toString());
+        }
+        result.reset( mode );
+        ValidationPlan plan = currentValidationPlan();
+        ObjectAccessor a = getObjectAccessor( obj.getClass() );
+        MetaField[] fields = plan.fields;
+        for ( int i = 0; i < fields.length; i++ ) {
+            MetaField mf = fields[i];
+            if ( plan.plain[i] && !mf.hasDefaultValidators() ) continue;
+            int index = plan.indexes[i];
+            boolean more = index >= 0
+                    ? mf.performValidation( obj, toFieldValue( mf, a.get( index, obj )), result )
+                    : mf.performValidation( obj, result );
+            if ( !more ) break;
+        }
+        return result.isValid();
+    }
+
+    /**
+     * Validates each object, collecting all errors, with the work split across the executor
+     * @param objects the objects to validate
+     * @param executor runs the validation, such as a ForkJoinPool or a virtual thread executor
+     * @return the result of each object, in the order of the collection
+     */
+    public List<ObjectValidationResult> validateAll(Collection<?> objects, Executor executor) {
+        return validateAll( objects, executor, 0 );
+    }
+
+    /**
+     * Validates each object, collecting all errors, with the work split across the executor.
+     * Once maxFailures objects are invalid, objects not yet started are skipped and their
+     * results are null; which objects were validated is then up to the scheduling.
+     * @param objects the objects to validate
+     * @param executor runs the validation, such as a ForkJoinPool or a virtual thread executor
+     * @param maxFailures invalid objects after which validation stops, or 0 for no limit
+     * @return the result of each object, in the order of the collection
+     */
+    public List<ObjectValidationResult> validateAll(Collection<?> objects, Executor executor, int maxFailures) {
+        if ( executor == null ) throw new IllegalArgumentException( "Executor cannot be null" );
+        if ( maxFailures < 0 ) throw new IllegalArgumentException( "maxFailures cannot be negative: " + maxFailures );
+
+        Object[] objs = objects.toArray();
+        ObjectValidationResult[] results = new ObjectValidationResult[ objs.length ];
+        int limit = maxFailures == 0 ? Integer.MAX_VALUE : maxFailures;
+        AtomicInteger failures = new AtomicInteger();
+
+        // Build the plan once rather than racing to build it in every task
+        currentValidationPlan();
+
+        int chunks = Math.min( objs.length, Runtime.getRuntime().availableProcessors() * 4 );
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[ chunks ];
+        for ( int c = 0; c < chunks; c++ ) {
+            int from = (int) ((long) objs.length * c / chunks );
+            int to = (int) ((long) objs.length * ( c + 1 ) / chunks );
+            tasks[c] = CompletableFuture.runAsync( () -> {
+                for ( int i = from; i < to && failures.get() < limit; i++ ) {
+                    ObjectValidationResult r = new ObjectValidationResult();
+                    if ( !validate( objs[i], ValidationMode.COLLECT_ALL, r )) failures.incrementAndGet();
+                    results[i] = r;
+                }
+            }, executor );
+        }
+
+        try {
+            CompletableFuture.allOf( tasks ).join();
+        } catch ( CompletionException e ) {
+            if ( e.getCause() instanceof RuntimeException ) throw (RuntimeException) e.getCause();
+            throw e;
+        }
+        return Collections.unmodifiableList( Arrays.asList( results ));
+    }
+
+    /** Converts a stored value to the type of the field, as MetaField.getObjectAttribute() does */
+    private static Object toFieldValue(MetaField mf, Object val) {
+        if ( val == null || mf.getValueClass().isInstance( val )) return val;
+        return DataConverter.toType( mf.getDataType(), val );
+    }
+
+    private ValidationPlan currentValidationPlan() {
+        ValidationPlan p = validationPlan;
+        if ( p == null || p.fieldsByIndex != getFieldsByIndex() ) {
+            p = new ValidationPlan( this );
+            validationPlan = p;
+        }
+        return p;
+    }
+
+    /**
+     * The fields in the order of getMetaFields() with their indexes in the ObjectAccessor,
+     * or -1 for the fields that read or validate their values themselves
+     */
+    private static final class ValidationPlan {
+
+        private final List<MetaField> fieldsByIndex;
+        private final MetaField[] fields;
+        private final boolean[] plain;
+        private final int[] indexes;
+
+        ValidationPlan(MetaObject mo) {
+            fieldsByIndex = mo.getFieldsByIndex();
+            fields = mo.getMetaFields().toArray(new MetaField[0]);
+            plain = new boolean[fields.length];
+            indexes = new int[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                plain[i] = fields[i].hasPlainValidation();
+                indexes[i] = plain[i] ? mo.getFieldIndex(fields[i]) : -1;
+            }
+        }
+    }
+
 
     
     
@@ -792,6 +1385,13 @@ public abstract class MetaObject extends MetaData {
 
     public Object clone() {
         MetaObject mc = (MetaObject) super.clone();
+        mc.objectAccessors = null;
+        mc.fieldIndex = null;
+        mc.slotLayout = null;
+        mc.instanceFactory = null;
+        mc.defaultValues = null;
+        mc.validationPlan = null;
+        mc.mappers = null;
         return mc;
     }
     
@@ -0,0 +1,159 @@
+package com.metaobjects.object;
+
+import com.metaobjects.DataTypes;
+import com.metaobjects.field.MetaField;
+import com.metaobjects.util.DataConverter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Copies the field values of objects of one MetaObject to objects of another, such as
+ * between a DTO and an entity or two versions of the same model.  The plan is compiled
+ * once for the pair, see {@link MetaObject#getMapper(MetaObject)}.
+ *
+ * <p>Each field of the target is mapped from the source field of the same name, or of
+ * the name in its {@link MetaField#ATTR_MAP_FROM} attribute.  Target fields without a
+ * matching source field are left as they are.  Values are converted with
+ * {@link DataConverter} when the data types of the fields differ, and null values are
+ * copied as null.</p>
+ *
+ * @since 6.0.0
+ */
+public final class MetaObjectMapper {
+
+    private final MetaObject source;
+    private final MetaObject target;
+    private final List<MetaField> sourceFields;
+    private final List<MetaField> targetFields;
+
+    private final List<MetaField> mappedFields;
+    private final int[] sourceIndexes;
+    private final int[] targetIndexes;
+    private final Function<Object, Object>[] converters;
+
+    @SuppressWarnings("unchecked")
+    MetaObjectMapper(MetaObject source, MetaObject target) {
+        this.source = source;
+        this.target = target;
+        this.sourceFields = source.getFieldsByIndex();
+        this.targetFields = target.getFieldsByIndex();
+
+        List<MetaField> mapped = new ArrayList<>();
+        List<int[]> indexes = new ArrayList<>();
+        List<Function<Object, Object>> conv = new ArrayList<>();
+
+        for (int i = 0; i < targetFields.size(); i++) {
+            MetaField tf = targetFields.get(i);
+            String name = tf.hasMetaAttr(MetaField.ATTR_MAP_FROM)
+                    ? tf.getMetaAttr(MetaField.ATTR_MAP_FROM).getValueAsString()
+                    : tf.getName();
+            if (!source.hasMetaField(name)) continue;
+
+            MetaField sf = source.getMetaField(name);
+            mapped.add(tf);
+            indexes.add(new int[] { source.getFieldIndex(sf), i });
+            conv.add(converterFor(sf, tf));
+        }
+
+        this.mappedFields = Collections.unmodifiableList(mapped);
+        this.sourceIndexes = new int[mapped.size()];
+        this.targetIndexes = new int[mapped.size()];
+        this.converters = conv.toArray(new Function[0]);
+        for (int i = 0; i < mapped.size(); i++) {
+            sourceIndexes[i] = indexes.get(i)[0];
+            targetIndexes[i] = indexes.get(i)[1];
+        }
+    }
+
+    private static Function<Object, Object> converterFor(MetaField sf, MetaField tf) {
+        DataTypes type = tf.getDataType();
+        if (type == null || type == sf.getDataType()) return null;
+        return v -> DataConverter.toType(type, v);
+    }
+
+    /**
+     * Whether the plan was compiled for the current fields of both MetaObjects
+     */
+    boolean isCurrent() {
+        return source.getFieldsByIndex() == sourceFields && target.getFieldsByIndex() == targetFields;
+    }
+
+    public MetaObject getSource() {
+        return source;
+    }
+
+    public MetaObject getTarget() {
+        return target;
+    }
+
+    /**
+     * The fields of the target that are mapped from a field of the source
+     */
+    public List<MetaField> getMappedFields() {
+        return mappedFields;
+    }
+
+    /**
+     * Map the source object to a new instance of the target MetaObject
+     *
+     * @param from The source object
+     * @return The new target object
+     */
+    public Object map(Object from) {
+        Object to = target.newInstance();
+        map(from, to);
+        return to;
+    }
+
+    /**
+     * Copy the mapped fields of the source object to the target object
+     *
+     * @param from The source object
+     * @param to The target object
+     */
+    public void map(Object from, Object to) {
+        ObjectAccessor in = source.getObjectAccessor(from.getClass());
+        ObjectAccessor out = target.getObjectAccessor(to.getClass());
+        for (int i = 0; i < sourceIndexes.length; i++) {
+            Object v = in.get(sourceIndexes[i], from);
+            Function<Object, Object> c = converters[i];
+            out.set(targetIndexes[i], to, c == null || v == null ? v : c.apply(v));
+        }
+    }
+
+    /**
+     * Map each source object to a new instance of the target MetaObject
+     *
+     * @param from The source objects
+     * @return The target objects, in the order of the source objects
+     */
+    public List<Object> mapAll(List<?> from) {
+        return mapAll(from, false);
+    }
+
+    /**
+     * Map each source object to a new instance of the target MetaObject
+     *
+     * @param from The source objects
+     * @param parallel Whether to map the objects in parallel on the common pool
+     * @return The target objects, in the order of the source objects
+     */
+    public List<Object> mapAll(List<?> from, boolean parallel) {
+        if (!parallel) {
+            List<Object> l = new ArrayList<>(from.size());
+            for (Object o : from) l.add(map(o));
+            return l;
+        }
+        return from.parallelStream().map(this::map).collect(Collectors.toList());
+    }
+
+    @Override
+    public String toString() {
+        return "MetaObjectMapper{" + source.getName() + " -> " + target.getName()
+                + ", fields=" + mappedFields.size() + '}';
+    }
+}
@@ -0,0 +1,99 @@
+package com.metaobjects.object;
+
+import com.metaobjects.field.MetaField;
+
+import java.util.List;
+
+/**
+ * Reads and writes all fields of objects of one class by field index, as returned
+ * by {@link MetaObject#getObjectAccessor(Class)}.
+ *
+ * <p>The index of a field is its position in {@link #getMetaFields()}, which is
+ * {@link MetaField#getIndex()} when the accessor was built.
+ * Copying or serializing a whole object can then run as a loop over indexes without
+ * resolving each MetaField's declaring object or accessor again.</p>
+ *
+ * <p>The typed variants unbox or box the value; implementations may override them to
+ * avoid boxing.  Failures are reported as the declaring MetaObject's getValue() and
+ * setValue() report them; for POJOs unchecked exceptions thrown by the getters and
+ * setters propagate unchanged, while checked exceptions and reflective failures are
+ * wrapped in a RuntimeException.</p>
+ *
+ * @since 6.0.0
+ */
+public interface ObjectAccessor {
+
+    /**
+     * The fields in index order
+     */
+    List<MetaField> getMetaFields();
+
+    /**
+     * Number of fields, one more than the highest index
+     */
+    default int getFieldCount() {
+        return getMetaFields().size();
+    }
+
+    /**
+     * Get the value of the field at the index
+     *
+     * @param fieldIndex Index of the field
+     * @param obj Object to read
+     * @return The value
+     */
+    Object get(int fieldIndex, Object obj);
+
+    /**
+     * Set the value of the field at the index
+     *
+     * @param fieldIndex Index of the field
+     * @param obj Object to write
+     * @param val The value
+     */
+    void set(int fieldIndex, Object obj, Object val);
+
+    default int getInt(int fieldIndex, Object obj) {
+        return ((Number) get(fieldIndex, obj)).intValue();
+    }
+
+    default long getLong(int fieldIndex, Object obj) {
+        return ((Number) get(fieldIndex, obj)).longValue();
+    }
+
+    default double getDouble(int fieldIndex, Object obj) {
+        return ((Number) get(fieldIndex, obj)).doubleValue();
+    }
+
+    default boolean getBoolean(int fieldIndex, Object obj) {
+        return (Boolean) get(fieldIndex, obj);
+    }
+
+    default void setInt(int fieldIndex, Object obj, int val) {
+        set(fieldIndex, obj, val);
+    }
+
+    default void setLong(int fieldIndex, Object obj, long val) {
+        set(fieldIndex, obj, val);
+    }
+
+    default void setDouble(int fieldIndex, Object obj, double val) {
+        set(fieldIndex, obj, val);
+    }
+
+    default void setBoolean(int fieldIndex, Object obj, boolean val) {
+        set(fieldIndex, obj, val);
+    }
+
+    /**
+     * Copy the value of every field from one object to another
+     *
+     * @param from Object to read
+     * @param to Object to write
+     */
+    default void copy(Object from, Object to) {
+        for (int i = 0, n = getFieldCount(); i < n; i++) {
+            set(i, to, get(i, from));
+        }
+    }
+}
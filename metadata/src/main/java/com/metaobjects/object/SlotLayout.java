@@ -0,0 +1,136 @@
+package com.metaobjects.object;
+
+import com.metaobjects.DataTypes;
+import com.metaobjects.field.MetaField;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns each field of a MetaObject a slot index for objects that keep their values
+ * in a {@link SlotValues} instead of a hash table, see
+ * {@link MetaObject#getSlotLayout()}.
+ *
+ * <p>The slot of a field is its {@link MetaField#getIndex()} when the layout was
+ * built, the same index the {@link ObjectAccessor} uses.  Boolean and
+ * numeric fields that are not arrays also get a primitive slot, so their values can
+ * be kept in a long[] without boxing.</p>
+ *
+ * @since 6.0.0
+ */
+public final class SlotLayout {
+
+    static final byte KIND_OBJECT = 0;
+    static final byte KIND_LONG = 1;
+    static final byte KIND_DOUBLE = 2;
+
+    private final List<MetaField> fields;
+    private final MetaField[] fieldArray;
+    private final Map<String, Integer> slotsByName;
+    private final DataTypes[] dataTypes;
+    private final byte[] kinds;
+    private final int[] primitiveSlots;
+    private final int primitiveCount;
+
+    public SlotLayout(Collection<MetaField> fields) {
+        this.fields = List.copyOf(fields);
+        this.fieldArray = this.fields.toArray(new MetaField[0]);
+        this.slotsByName = new HashMap<>(fieldArray.length * 2);
+        this.dataTypes = new DataTypes[fieldArray.length];
+        this.kinds = new byte[fieldArray.length];
+        this.primitiveSlots = new int[fieldArray.length];
+
+        int p = 0;
+        for (int i = 0; i < fieldArray.length; i++) {
+            MetaField f = fieldArray[i];
+            slotsByName.putIfAbsent(f.getName(), i);
+            dataTypes[i] = f.getDataType();
+            kinds[i] = f.isArrayType() ? KIND_OBJECT : kindOf(dataTypes[i]);
+            primitiveSlots[i] = kinds[i] == KIND_OBJECT ? -1 : p++;
+        }
+        this.primitiveCount = p;
+    }
+
+    private static byte kindOf(DataTypes t) {
+        if (t == null) return KIND_OBJECT;
+        switch (t) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+                return KIND_LONG;
+            case FLOAT:
+            case DOUBLE:
+                return KIND_DOUBLE;
+            default:
+                return KIND_OBJECT;
+        }
+    }
+
+    /**
+     * The fields in slot order
+     */
+    public List<MetaField> getMetaFields() {
+        return fields;
+    }
+
+    /**
+     * Number of slots
+     */
+    public int getSlotCount() {
+        return fieldArray.length;
+    }
+
+    /**
+     * Number of slots that keep a primitive value
+     */
+    public int getPrimitiveCount() {
+        return primitiveCount;
+    }
+
+    /**
+     * The field in a slot
+     */
+    public MetaField getMetaField(int slot) {
+        return fieldArray[slot];
+    }
+
+    /**
+     * Slot of the named field
+     *
+     * @param name Name of the field
+     * @return The slot, or -1 if there is no such field
+     */
+    public int indexOf(String name) {
+        Integer i = slotsByName.get(name);
+        return i == null ? -1 : i;
+    }
+
+    /**
+     * Slot of the field, resolved by its index and only by name if the field at that
+     * index is a different one, e.g. an overridden field of a super object
+     *
+     * @param f The field
+     * @return The slot, or -1 if the field is not in this layout
+     */
+    public int indexOf(MetaField f) {
+        int i = f.getIndex();
+        if (i >= 0 && i < fieldArray.length && fieldArray[i] == f) return i;
+        return indexOf(f.getName());
+    }
+
+    DataTypes getDataType(int slot) {
+        return dataTypes[slot];
+    }
+
+    byte getKind(int slot) {
+        return kinds[slot];
+    }
+
+    int getPrimitiveSlot(int slot) {
+        return primitiveSlots[slot];
+    }
+}
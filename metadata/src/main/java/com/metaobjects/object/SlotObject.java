@@ -0,0 +1,15 @@
+package com.metaobjects.object;
+
+/**
+ * Object that keeps its field values in a {@link SlotValues}, so a MetaObject can read
+ * and write them by slot instead of by name.
+ *
+ * @since 6.0.0
+ */
+public interface SlotObject {
+
+    /**
+     * The values of this object
+     */
+    SlotValues getSlotValues();
+}
@@ -0,0 +1,198 @@
+package com.metaobjects.object;
+
+import com.metaobjects.DataTypes;
+import com.metaobjects.util.DataConverter;
+
+import java.util.Arrays;
+
+/**
+ * Values of one object stored by slot, as laid out by a {@link SlotLayout}.
+ *
+ * <p>Values are kept in an Object[] with one entry per field.  A boolean or numeric
+ * field whose value has exactly the field's value class, or that is set through one of
+ * the primitive setters, is kept in a long[] side array instead and boxed only when it
+ * is read as an Object.  A slot that was never set is distinguished from one set to
+ * null, so a Map view over the values behaves like a HashMap.</p>
+ *
+ * <p>Not thread-safe, like the HashMap it replaces.</p>
+ *
+ * @since 6.0.0
+ */
+public final class SlotValues {
+
+    // Markers in the values array
+    private static final Object NULL = new Object();
+    private static final Object PRIMITIVE = new Object();
+
+    private final SlotLayout layout;
+    private final Object[] values;
+    private final long[] primitives;
+
+    public SlotValues(SlotLayout layout) {
+        this.layout = layout;
+        this.values = new Object[layout.getSlotCount()];
+        this.primitives = layout.getPrimitiveCount() > 0 ? new long[layout.getPrimitiveCount()] : null;
+    }
+
+    public SlotLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Whether a value, possibly null, was set in the slot
+     */
+    public boolean isSet(int slot) {
+        return values[slot] != null;
+    }
+
+    /**
+     * Number of slots with a value set
+     */
+    public int getSetCount() {
+        int n = 0;
+        for (Object v : values) {
+            if (v != null) n++;
+        }
+        return n;
+    }
+
+    /**
+     * Get the value in the slot, or null if it is not set
+     */
+    public Object get(int slot) {
+        Object v = values[slot];
+        if (v == PRIMITIVE) return box(slot);
+        if (v == NULL) return null;
+        return v;
+    }
+
+    /**
+     * Set the value in the slot
+     */
+    public void set(int slot, Object val) {
+        if (val != null && layout.getKind(slot) != SlotLayout.KIND_OBJECT
+                && val.getClass() == layout.getDataType(slot).getValueClass()) {
+            primitives[layout.getPrimitiveSlot(slot)] = unbox(slot, val);
+            values[slot] = PRIMITIVE;
+        } else {
+            values[slot] = val == null ? NULL : val;
+        }
+    }
+
+    /**
+     * Clear the slot, as if it was never set
+     */
+    public void remove(int slot) {
+        values[slot] = null;
+    }
+
+    /**
+     * Clear all slots
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+    }
+
+    ////////////////////////////////////////////////////
+    // PRIMITIVE METHODS
+
+    public int getInt(int slot) {
+        if (values[slot] == PRIMITIVE) return Math.toIntExact(getLong(slot));
+        Integer v = DataConverter.toInt(get(slot));
+        return v == null ? 0 : v;
+    }
+
+    public long getLong(int slot) {
+        if (values[slot] == PRIMITIVE) {
+            long bits = primitives[layout.getPrimitiveSlot(slot)];
+            return layout.getKind(slot) == SlotLayout.KIND_LONG ? bits : (long) Double.longBitsToDouble(bits);
+        }
+        Long v = DataConverter.toLong(get(slot));
+        return v == null ? 0L : v;
+    }
+
+    public double getDouble(int slot) {
+        if (values[slot] == PRIMITIVE) {
+            long bits = primitives[layout.getPrimitiveSlot(slot)];
+            return layout.getKind(slot) == SlotLayout.KIND_LONG ? bits : Double.longBitsToDouble(bits);
+        }
+        Double v = DataConverter.toDouble(get(slot));
+        return v == null ? 0.0 : v;
+    }
+
+    public boolean getBoolean(int slot) {
+        if (values[slot] == PRIMITIVE && layout.getDataType(slot) == DataTypes.BOOLEAN) {
+            return primitives[layout.getPrimitiveSlot(slot)] != 0;
+        }
+        Boolean v = DataConverter.toBoolean(get(slot));
+        return v != null && v;
+    }
+
+    /**
+     * Set a long into a primitive slot if it fits the field's data type
+     *
+     * @return false if the value has to be converted and set as an Object
+     */
+    public boolean setLong(int slot, long val) {
+        byte kind = layout.getKind(slot);
+        if (kind == SlotLayout.KIND_DOUBLE) return setDouble(slot, val);
+        if (kind != SlotLayout.KIND_LONG) return false;
+        switch (layout.getDataType(slot)) {
+            case LONG: break;
+            case INT: if (val != (int) val) return false; break;
+            case SHORT: if (val != (short) val) return false; break;
+            case BYTE: if (val != (byte) val) return false; break;
+            default: return false;
+        }
+        primitives[layout.getPrimitiveSlot(slot)] = val;
+        values[slot] = PRIMITIVE;
+        return true;
+    }
+
+    /**
+     * Set a double into a primitive slot if the field is a double or float
+     *
+     * @return false if the value has to be converted and set as an Object
+     */
+    public boolean setDouble(int slot, double val) {
+        if (layout.getKind(slot) != SlotLayout.KIND_DOUBLE) return false;
+        if (layout.getDataType(slot) == DataTypes.FLOAT) val = (float) val;
+        primitives[layout.getPrimitiveSlot(slot)] = Double.doubleToRawLongBits(val);
+        values[slot] = PRIMITIVE;
+        return true;
+    }
+
+    /**
+     * Set a boolean into a primitive slot if the field is a boolean
+     *
+     * @return false if the value has to be converted and set as an Object
+     */
+    public boolean setBoolean(int slot, boolean val) {
+        if (layout.getKind(slot) != SlotLayout.KIND_LONG || layout.getDataType(slot) != DataTypes.BOOLEAN) return false;
+        primitives[layout.getPrimitiveSlot(slot)] = val ? 1L : 0L;
+        values[slot] = PRIMITIVE;
+        return true;
+    }
+
+    private Object box(int slot) {
+        long bits = primitives[layout.getPrimitiveSlot(slot)];
+        switch (layout.getDataType(slot)) {
+            case BOOLEAN: return bits != 0;
+            case BYTE: return (byte) bits;
+            case SHORT: return (short) bits;
+            case INT: return (int) bits;
+            case LONG: return bits;
+            case FLOAT: return (float) Double.longBitsToDouble(bits);
+            default: return Double.longBitsToDouble(bits);
+        }
+    }
+
+    private long unbox(int slot, Object val) {
+        switch (layout.getDataType(slot)) {
+            case BOOLEAN: return (Boolean) val ? 1L : 0L;
+            case FLOAT:
+            case DOUBLE: return Double.doubleToRawLongBits(((Number) val).doubleValue());
+            default: return ((Number) val).longValue();
+        }
+    }
+}
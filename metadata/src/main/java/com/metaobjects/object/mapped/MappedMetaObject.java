@@ -4,6 +4,8 @@ import com.metaobjects.MetaDataException;
 import com.metaobjects.field.MetaField;
 import com.metaobjects.object.MetaObject;
 import com.metaobjects.object.MetaObjectAware;
+import com.metaobjects.object.SlotObject;
+import com.metaobjects.object.SlotValues;
 import com.metaobjects.util.DataConverter;
 import com.metaobjects.registry.MetaDataRegistry;
 import org.slf4j.Logger;
@@ -16,6 +18,10 @@ import java.util.Map;
 /**
  * MappedMetaObject with unified registry registration for Map-based objects.
  *
+ * <p>Objects are {@link MappedObject}s unless the object attribute names another class.
+ * {@link SlotMappedObject} keeps the values in slots instead of a HashMap, which
+ * getValue(), setValue() and the primitive methods access by slot.</p>
+ *
  * @version 6.0
  */
 public class MappedMetaObject extends MetaObject
@@ -145,8 +151,20 @@ public class MappedMetaObject extends MetaObject
         return false;
     }
 
+    /**
+     * Slot of the field in an object that stores its values by slot, or -1
+     */
+    private static int slotOf(MetaField f, SlotValues v) {
+        return v.getLayout().indexOf(f);
+    }
+
     @Override
     public Object getValue(MetaField f, Object obj) {
+        if (obj instanceof SlotObject) {
+            SlotValues v = ((SlotObject) obj).getSlotValues();
+            int slot = slotOf(f, v);
+            if (slot >= 0) return v.get(slot);
+        }
         if (obj instanceof Map) {
             Map m = (Map) obj;
             return m.get(f.getName());
@@ -157,6 +175,14 @@ public class MappedMetaObject extends MetaObject
 
     @Override
     public void setValue(MetaField f, Object obj, Object val) {
+        if (obj instanceof SlotObject) {
+            SlotValues v = ((SlotObject) obj).getSlotValues();
+            int slot = slotOf(f, v);
+            if (slot >= 0) {
+                v.set(slot, val);
+                return;
+            }
+        }
         if (obj instanceof Map) {
             Map m = (Map) obj;
             m.put(f.getName(), val);
@@ -164,4 +190,87 @@ public class MappedMetaObject extends MetaObject
             throw new MetaDataException("Object is not a Map so cannot set value for: " + f);
         }
     }
+
+    ////////////////////////////////////////////////////
+    // PRIMITIVE VALUE METHODS
+
+    @Override
+    public int getIntValue(MetaField f, Object obj) {
+        if (obj instanceof SlotObject) {
+            SlotValues v = ((SlotObject) obj).getSlotValues();
+            int slot = slotOf(f, v);
+            if (slot >= 0) return v.getInt(slot);
+        }
+        return super.getIntValue(f, obj);
+    }
+
+    @Override
+    public long getLongValue(MetaField f, Object obj) {
+        if (obj instanceof SlotObject) {
+            SlotValues v = ((SlotObject) obj).getSlotValues();
+            int slot = slotOf(f, v);
+            if (slot >= 0) return v.getLong(slot);
+        }
+        return super.getLongValue(f, obj);
+    }
+
+    @Override
+    public double getDoubleValue(MetaField f, Object obj) {
+        if (obj instanceof SlotObject) {
+            SlotValues v = ((SlotObject) obj).getSlotValues();
+            int slot = slotOf(f, v);
+            if (slot >= 0) return v.getDouble(slot);
+        }
+        return super.getDoubleValue(f, obj);
+    }
+
+    @Override
+    public boolean getBooleanValue(MetaField f, Object obj) {
+        if (obj instanceof SlotObject) {
+            SlotValues v = ((SlotObject) obj).getSlotValues();
+            int slot = slotOf(f, v);
+            if (slot >= 0) return v.getBoolean(slot);
+        }
+        return super.getBooleanValue(f, obj);
+    }
+
+    @Override
+    public void setIntValue(MetaField f, Object obj, int val) {
+        if (obj instanceof SlotObject) {
+            SlotValues v = ((SlotObject) obj).getSlotValues();
+            int slot = slotOf(f, v);
+            if (slot >= 0 && v.setLong(slot, val)) return;
+        }
+        super.setIntValue(f, obj, val);
+    }
+
+    @Override
+    public void setLongValue(MetaField f, Object obj, long val) {
+        if (obj instanceof SlotObject) {
+            SlotValues v = ((SlotObject) obj).getSlotValues();
+            int slot = slotOf(f, v);
+            if (slot >= 0 && v.setLong(slot, val)) return;
+        }
+        super.setLongValue(f, obj, val);
+    }
+
+    @Override
+    public void setDoubleValue(MetaField f, Object obj, double val) {
+        if (obj instanceof SlotObject) {
+            SlotValues v = ((SlotObject) obj).getSlotValues();
+            int slot = slotOf(f, v);
+            if (slot >= 0 && v.setDouble(slot, val)) return;
+        }
+        super.setDoubleValue(f, obj, val);
+    }
+
+    @Override
+    public void setBooleanValue(MetaField f, Object obj, boolean val) {
+        if (obj instanceof SlotObject) {
+            SlotValues v = ((SlotObject) obj).getSlotValues();
+            int slot = slotOf(f, v);
+            if (slot >= 0 && v.setBoolean(slot, val)) return;
+        }
+        super.setBooleanValue(f, obj, val);
+    }
 }
@@ -0,0 +1,261 @@
+package com.metaobjects.object.mapped;
+
+import com.metaobjects.ValueException;
+import com.metaobjects.field.MetaField;
+import com.metaobjects.loader.MetaDataLoader;
+import com.metaobjects.object.MetaObject;
+import com.metaobjects.object.MetaObjectAware;
+import com.metaobjects.object.SlotLayout;
+import com.metaobjects.object.SlotObject;
+import com.metaobjects.object.SlotValues;
+import com.metaobjects.object.Validatable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Compact alternative to {@link MappedObject} that stores the field values in slots
+ * instead of a HashMap, while still being a {@code Map<String,Object>}.  Keys that are
+ * not fields of the MetaObject are kept in a HashMap created when the first one is put.
+ *
+ * <p>Select it for a MappedMetaObject with the object attribute, e.g.
+ * {@code "@object": "com.metaobjects.object.mapped.SlotMappedObject"}.</p>
+ *
+ * @since 6.0.0
+ */
+public class SlotMappedObject extends AbstractMap<String,Object> implements MetaObjectAware, Validatable, SlotObject {
+
+    private final MetaObject metaObject;
+    private final SlotValues values;
+    private Map<String,Object> extras = null;
+    private transient Set<Map.Entry<String,Object>> entrySet = null;
+
+    public SlotMappedObject( MetaObject metaObject ) {
+        this.metaObject = metaObject;
+        this.values = new SlotValues(metaObject.getSlotLayout());
+    }
+
+    @Override
+    public MetaObject getMetaData() {
+        return metaObject;
+    }
+
+    @Override
+    public void setMetaData(MetaObject metaObject) {
+        throw new IllegalStateException("Cannot set MetaData after newInstance");
+    }
+
+    @Override
+    public SlotValues getSlotValues() {
+        return values;
+    }
+
+    @Override
+    public void validate() throws ValueException {
+        // Do nothing
+    }
+
+    protected MetaDataLoader _getLoader() {
+        return metaObject.getLoader();
+    }
+
+    //////////////////////////////////////////////////////////////////////////////////////////////////
+    // Map Methods
+
+    private int slotOf(Object key) {
+        return key instanceof String ? values.getLayout().indexOf((String) key) : -1;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int slot = slotOf(key);
+        if (slot >= 0) return values.get(slot);
+        return extras == null ? null : extras.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int slot = slotOf(key);
+        if (slot >= 0) return values.isSet(slot);
+        return extras != null && extras.containsKey(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            Object old = values.get(slot);
+            values.set(slot, value);
+            return old;
+        }
+        if (extras == null) extras = new HashMap<>();
+        return extras.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            Object old = values.get(slot);
+            values.remove(slot);
+            return old;
+        }
+        return extras == null ? null : extras.remove(key);
+    }
+
+    @Override
+    public int size() {
+        return values.getSetCount() + (extras == null ? 0 : extras.size());
+    }
+
+    @Override
+    public void clear() {
+        values.clear();
+        extras = null;
+    }
+
+    @Override
+    public Set<Map.Entry<String,Object>> entrySet() {
+        Set<Map.Entry<String,Object>> es = entrySet;
+        if (es == null) {
+            es = new EntrySet();
+            entrySet = es;
+        }
+        return es;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String,Object>> {
+
+        @Override
+        public Iterator<Map.Entry<String,Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return SlotMappedObject.this.size();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String,Object>> {
+
+        private final SlotLayout layout = values.getLayout();
+        private int next = advance(0);
+        private int last = -1;
+        private Iterator<Map.Entry<String,Object>> extraIterator = null;
+        private boolean lastWasExtra = false;
+
+        private int advance(int from) {
+            while (from < layout.getSlotCount() && !values.isSet(from)) from++;
+            return from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next < layout.getSlotCount()) return true;
+            if (extraIterator == null && extras != null) extraIterator = extras.entrySet().iterator();
+            return extraIterator != null && extraIterator.hasNext();
+        }
+
+        @Override
+        public Map.Entry<String,Object> next() {
+            if (next < layout.getSlotCount()) {
+                last = next;
+                lastWasExtra = false;
+                next = advance(next + 1);
+                return new SlotEntry(last);
+            }
+            if (!hasNext()) throw new NoSuchElementException();
+            lastWasExtra = true;
+            return extraIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            if (lastWasExtra) {
+                extraIterator.remove();
+            } else {
+                if (last < 0) throw new IllegalStateException();
+                values.remove(last);
+                last = -1;
+            }
+        }
+    }
+
+    private final class SlotEntry implements Map.Entry<String,Object> {
+
+        private final int slot;
+
+        SlotEntry(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public String getKey() {
+            return values.getLayout().getMetaField(slot).getName();
+        }
+
+        @Override
+        public Object getValue() {
+            return values.get(slot);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Object old = values.get(slot);
+            values.set(slot, value);
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) return false;
+            Map.Entry<?,?> e = (Map.Entry<?,?>) o;
+            return Objects.equals(getKey(), e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+
+    //////////////////////////////////////////////////////////////////////////////////////////////////
+    // Misc Methods
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SlotMappedObject that = (SlotMappedObject) o;
+        for(MetaField f : getMetaData().getMetaFields()) {
+            String n = f.getName();
+            if (!Objects.equals(get(n), that.get(n))) return false;
+        }
+        return Objects.equals(metaObject, that.metaObject);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), metaObject);
+    }
+
+    @Override
+    public String toString() {
+        return "SlotMappedObject{" +
+                "metaObject=" + metaObject +
+                "map=" + super.toString() +
+                '}';
+    }
+}
@@ -7,6 +7,7 @@
 package com.metaobjects.object.pojo;
 
 import com.metaobjects.InvalidMetaDataException;
+import com.metaobjects.cache.CacheKey;
 import com.metaobjects.InvalidValueException;
 import com.metaobjects.MetaData;
 import com.metaobjects.MetaDataException;
@@ -16,12 +17,15 @@ import com.metaobjects.attr.StringAttribute;
 import com.metaobjects.constraint.PlacementConstraint;
 import com.metaobjects.field.MetaField;
 import com.metaobjects.object.MetaObject;
+import com.metaobjects.object.ObjectAccessor;
 import com.metaobjects.registry.MetaDataRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static com.metaobjects.object.MetaObject.SUBTYPE_BASE;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.*;
+import java.util.function.BiFunction;
 
 /**
  * MetaObject that supports POJO objects with unified registry registration.
@@ -40,6 +44,13 @@ public class PojoMetaObject extends MetaObject
     public final static String CACHE_PARAM_GETTER_METHOD = "getterMethod";
     public final static String CACHE_PARAM_SETTER_METHOD = "setterMethod";
 
+    /** Getter and setter Methods are cached on the MetaField, keyed by the object Class */
+    protected static final CacheKey<Method> CACHE_GETTER_METHOD = CacheKey.of(CACHE_PARAM_GETTER_METHOD);
+    protected static final CacheKey<Method> CACHE_SETTER_METHOD = CacheKey.of(CACHE_PARAM_SETTER_METHOD);
+
+    // Builds the PojoValueAccessors each MetaField holds per object Class
+    private transient BiFunction<MetaField, Class<?>, PojoValueAccessor> valueAccessorFactory = null;
+
     /**
      * Register PojoMetaObject type and constraints with registry.
      * Called by ObjectTypesMetaDataProvider during service discovery.
@@ -179,11 +190,11 @@ public class PojoMetaObject extends MetaObject
      */
     protected Method retrieveGetterMethod(MetaField f, Class<?> objClass) //throws MetaException
     {
-        Method method = (Method) f.getCacheValue(CACHE_PARAM_GETTER_METHOD + "." + objClass.getName());
+        Method method = f.getCacheValue(CACHE_GETTER_METHOD, objClass);
         if (method == null) {
             method = findGetterName(objClass, f);
 
-            f.setCacheValue(CACHE_PARAM_GETTER_METHOD + "." + objClass.getName(), method);
+            f.setCacheValue(CACHE_GETTER_METHOD, objClass, method);
         }
 
         return method;
@@ -208,8 +219,13 @@ public class PojoMetaObject extends MetaObject
      */
     protected Method retrieveSetterMethod(MetaField f, Class<?> objClass) //throws MetaException
     {
+        Method method = f.getCacheValue(CACHE_SETTER_METHOD, objClass);
+        if (method != null) {
+            return method;
+        }
+
         synchronized (f) {
-            Method method = (Method) f.getCacheValue(CACHE_PARAM_SETTER_METHOD + "." + objClass.getName());
+            method = f.getCacheValue(CACHE_SETTER_METHOD, objClass);
             if (method == null) {
 
                 String name = getSetterName(f);
@@ -217,10 +233,13 @@ public class PojoMetaObject extends MetaObject
                 try {
                     method = objClass.getMethod( name,f.getValueClass() );
                 } catch (NoSuchMethodException e) {
+                    method = findPrimitiveSetter(objClass, name, f.getValueClass());
+                }
+                if (method == null) {
                     throw new NoSuchMethodError("No setter with a single variable exists named [" + name + "] with argument class [" + f.getValueClass().getSimpleName() + "] on object [" + objClass.getName() + "]");
                 }
 
-                f.setCacheValue(CACHE_PARAM_SETTER_METHOD + "." + objClass.getName(), method);
+                f.setCacheValue(CACHE_SETTER_METHOD, objClass, method);
             }
 
             return method;
@@ -228,7 +247,67 @@ public class PojoMetaObject extends MetaObject
     }
 
     /**
-     * Sets the object attribute represented by this MetaField
+     * Find a setter taking the primitive type of a value class, e.g. setAge(int) for an
+     * Integer field.  Such a field cannot be set to null, setValue() then throws an
+     * IllegalArgumentException.
+     */
+    protected Method findPrimitiveSetter(Class<?> objClass, String name, Class<?> valueClass) {
+        Class<?> p = MethodType.methodType(valueClass).unwrap().returnType();
+        if (!p.isPrimitive()) return null;
+        try {
+            return objClass.getMethod(name, p);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Create the accessor for a MetaField on an object class from its getter and setter
+     * Methods.  A missing getter or setter only fails when it is used.
+     */
+    protected PojoValueAccessor createValueAccessor(MetaField f, Class<?> objClass) {
+        Method getter = null;
+        Method setter = null;
+        NoSuchMethodError getterError = null;
+        NoSuchMethodError setterError = null;
+        try {
+            getter = retrieveGetterMethod(f, objClass);
+        } catch (NoSuchMethodError e) {
+            getterError = e;
+        }
+        try {
+            setter = retrieveSetterMethod(f, objClass);
+        } catch (NoSuchMethodError e) {
+            setterError = e;
+        }
+        return PojoValueAccessor.create(getter, getterError, setter, setterError);
+    }
+
+    /**
+     * Get the accessor for a MetaField on an object class, built on first use and held
+     * by the MetaField
+     */
+    protected PojoValueAccessor getValueAccessor(MetaField f, Class<?> objClass) {
+        BiFunction<MetaField, Class<?>, PojoValueAccessor> factory = valueAccessorFactory;
+        if (factory == null) {
+            factory = this::createValueAccessor;
+            valueAccessorFactory = factory;
+        }
+        return (PojoValueAccessor) f.getValueAccessor(objClass, factory);
+    }
+
+    /**
+     * Create the accessor for all fields of a POJO class from the accessors of its
+     * MetaFields
+     */
+    @Override
+    protected ObjectAccessor createObjectAccessor(Class<?> objClass) {
+        return new PojoObjectAccessor(this, objClass, getFieldsByIndex());
+    }
+
+    /**
+     * Sets the object attribute represented by this MetaField.  Unchecked exceptions
+     * thrown by the setter propagate unchanged.
      */
     @Override
     public void setValue(MetaField f, Object obj, Object val)  {
@@ -240,27 +319,23 @@ public class PojoMetaObject extends MetaObject
         if (obj == null)
             throw new IllegalArgumentException("Cannot set value on a null Object for field [" + f + "]");
 
-        Method method = retrieveSetterMethod(f, obj.getClass());
+        PojoValueAccessor accessor = getValueAccessor(f, obj.getClass());
 
-        Class<?> c = method.getParameterTypes()[ 0];
+        Class<?> c = accessor.getSetterType();
 
-        if (val != null && !c.isAssignableFrom(val.getClass() )) {
+        if (val != null && !accessor.getBoxedSetterType().isInstance(val)) {
             throw new InvalidValueException("Setter expected class [" + c.getName() + "] but value was of type [" + val.getClass() + "]");
         }
-
-        Object[] arglist = new Object[1];
-        arglist[0] = val;
-        try {
-            method.invoke(obj, arglist);
-        } catch (InvocationTargetException e) {
-            throw new RuntimeException("Invocation Target Exception setting field [" + f + "] on object [" + obj.getClass() + "]: " + e.getMessage(), e);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException("Illegal Access Exception setting field [" + f + "] on object [" + obj.getClass() + "]: " + e.getMessage(), e);
+        if (val == null && c.isPrimitive()) {
+            throw new IllegalArgumentException("Cannot set null on primitive field [" + f + "] on object [" + obj.getClass() + "]");
         }
+
+        accessor.set(obj, val);
     }
 
     /**
-     * Gets the object attribute represented by this MetaField
+     * Gets the object attribute represented by this MetaField.  Unchecked exceptions
+     * thrown by the getter propagate unchanged.
      */
     @Override
     public Object getValue(MetaField f, Object obj)  {
@@ -272,15 +347,59 @@ public class PojoMetaObject extends MetaObject
         if (obj == null)
             throw new IllegalArgumentException("Null object found, Object expected for field [" + f + "]");
 
-        Method method = retrieveGetterMethod(f, obj.getClass());
+        return getValueAccessor(f, obj.getClass()).get(obj);
+    }
 
-        try {
-            return method.invoke(obj); //, new Object[0]);
-        } catch (InvocationTargetException e) {
-            throw new RuntimeException("Invocation Target Exception setting field [" + f + "] on object [" + obj.getClass() + "]: " + e.getMessage(), e);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException("Illegal Access Exception setting field [" + f + "] on object [" + obj.getClass() + "]: " + e.getMessage(), e);
-        }
+    ////////////////////////////////////////////////////
+    // PRIMITIVE VALUE METHODS
+
+    // Exceptions of the bean methods keep their type, PojoValueAccessor only wraps
+    // checked and reflective failures
+
+    @Override
+    public int getIntValue(MetaField f, Object obj) {
+        return primitiveAccessor(f, obj).getInt(obj);
+    }
+
+    @Override
+    public long getLongValue(MetaField f, Object obj) {
+        return primitiveAccessor(f, obj).getLong(obj);
+    }
+
+    @Override
+    public double getDoubleValue(MetaField f, Object obj) {
+        return primitiveAccessor(f, obj).getDouble(obj);
+    }
+
+    @Override
+    public boolean getBooleanValue(MetaField f, Object obj) {
+        return primitiveAccessor(f, obj).getBoolean(obj);
+    }
+
+    @Override
+    public void setIntValue(MetaField f, Object obj, int val) {
+        if (!primitiveAccessor(f, obj).setInt(obj, val)) super.setIntValue(f, obj, val);
+    }
+
+    @Override
+    public void setLongValue(MetaField f, Object obj, long val) {
+        if (!primitiveAccessor(f, obj).setLong(obj, val)) super.setLongValue(f, obj, val);
+    }
+
+    @Override
+    public void setDoubleValue(MetaField f, Object obj, double val) {
+        if (!primitiveAccessor(f, obj).setDouble(obj, val)) super.setDoubleValue(f, obj, val);
+    }
+
+    @Override
+    public void setBooleanValue(MetaField f, Object obj, boolean val) {
+        if (!primitiveAccessor(f, obj).setBoolean(obj, val)) super.setBooleanValue(f, obj, val);
+    }
+
+    private PojoValueAccessor primitiveAccessor(MetaField f, Object obj) {
+        if (obj == null)
+            throw new IllegalArgumentException("Null object found, Object expected for field [" + f + "]");
+        return getValueAccessor(f, obj.getClass());
     }
 
     /**
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2002 Doug Mealing LLC dba Meta Objects. All Rights Reserved.
+ *
+ * This software is the proprietary information of Doug Mealing LLC dba Meta Objects.
+ * Use is subject to license terms.
+ */
+package com.metaobjects.object.pojo;
+
+import com.metaobjects.InvalidValueException;
+import com.metaobjects.field.MetaField;
+import com.metaobjects.object.MetaObject;
+import com.metaobjects.object.ObjectAccessor;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ObjectAccessor for one POJO class that holds the {@link PojoValueAccessor} of every
+ * field in an array, so a get or set by index is an array load and a call to the
+ * generated getter or setter.  Fields declared by a MetaObject that is not a
+ * PojoMetaObject go through its getValue() and setValue().
+ */
+public final class PojoObjectAccessor implements ObjectAccessor {
+
+    private final List<MetaField> fields;
+    private final MetaField[] fieldArray;
+    private final PojoValueAccessor[] accessors;
+    private final MetaObject[] declaring;
+
+    PojoObjectAccessor(PojoMetaObject mo, Class<?> objClass, Collection<MetaField> fields) {
+        this.fields = List.copyOf(fields);
+        this.fieldArray = this.fields.toArray(new MetaField[0]);
+        this.accessors = new PojoValueAccessor[fieldArray.length];
+        this.declaring = new MetaObject[fieldArray.length];
+        for (int i = 0; i < fieldArray.length; i++) {
+            MetaObject d = fieldArray[i].getDeclaringObject();
+            declaring[i] = d != null ? d : mo;
+            if (declaring[i] instanceof PojoMetaObject) {
+                accessors[i] = ((PojoMetaObject) declaring[i]).getValueAccessor(fieldArray[i], objClass);
+            }
+        }
+    }
+
+    @Override
+    public List<MetaField> getMetaFields() {
+        return fields;
+    }
+
+    @Override
+    public int getFieldCount() {
+        return fieldArray.length;
+    }
+
+    @Override
+    public Object get(int fieldIndex, Object obj) {
+        PojoValueAccessor a = accessors[fieldIndex];
+        if (a == null) return declaring[fieldIndex].getValue(fieldArray[fieldIndex], obj);
+        return a.get(obj);
+    }
+
+    @Override
+    public void set(int fieldIndex, Object obj, Object val) {
+        PojoValueAccessor a = accessors[fieldIndex];
+        if (a == null) {
+            declaring[fieldIndex].setValue(fieldArray[fieldIndex], obj, val);
+            return;
+        }
+
+        Class<?> c = a.getSetterType();
+        if (val == null) {
+            if (c.isPrimitive()) {
+                throw new IllegalArgumentException("Cannot set null on primitive field [" + fieldArray[fieldIndex] + "] on object [" + obj.getClass() + "]");
+            }
+        } else if (!a.getBoxedSetterType().isInstance(val)) {
+            throw new InvalidValueException("Setter expected class [" + c.getName() + "] but value was of type [" + val.getClass() + "]");
+        }
+        a.set(obj, val);
+    }
+
+    @Override
+    public int getInt(int fieldIndex, Object obj) {
+        PojoValueAccessor a = accessors[fieldIndex];
+        if (a == null) return declaring[fieldIndex].getIntValue(fieldArray[fieldIndex], obj);
+        return a.getInt(obj);
+    }
+
+    @Override
+    public long getLong(int fieldIndex, Object obj) {
+        PojoValueAccessor a = accessors[fieldIndex];
+        if (a == null) return declaring[fieldIndex].getLongValue(fieldArray[fieldIndex], obj);
+        return a.getLong(obj);
+    }
+
+    @Override
+    public double getDouble(int fieldIndex, Object obj) {
+        PojoValueAccessor a = accessors[fieldIndex];
+        if (a == null) return declaring[fieldIndex].getDoubleValue(fieldArray[fieldIndex], obj);
+        return a.getDouble(obj);
+    }
+
+    @Override
+    public boolean getBoolean(int fieldIndex, Object obj) {
+        PojoValueAccessor a = accessors[fieldIndex];
+        if (a == null) return declaring[fieldIndex].getBooleanValue(fieldArray[fieldIndex], obj);
+        return a.getBoolean(obj);
+    }
+
+    @Override
+    public void setInt(int fieldIndex, Object obj, int val) {
+        PojoValueAccessor a = accessors[fieldIndex];
+        if (a == null || !a.setInt(obj, val)) declaring[fieldIndex].setIntValue(fieldArray[fieldIndex], obj, val);
+    }
+
+    @Override
+    public void setLong(int fieldIndex, Object obj, long val) {
+        PojoValueAccessor a = accessors[fieldIndex];
+        if (a == null || !a.setLong(obj, val)) declaring[fieldIndex].setLongValue(fieldArray[fieldIndex], obj, val);
+    }
+
+    @Override
+    public void setDouble(int fieldIndex, Object obj, double val) {
+        PojoValueAccessor a = accessors[fieldIndex];
+        if (a == null || !a.setDouble(obj, val)) declaring[fieldIndex].setDoubleValue(fieldArray[fieldIndex], obj, val);
+    }
+
+    @Override
+    public void setBoolean(int fieldIndex, Object obj, boolean val) {
+        PojoValueAccessor a = accessors[fieldIndex];
+        if (a == null || !a.setBoolean(obj, val)) declaring[fieldIndex].setBooleanValue(fieldArray[fieldIndex], obj, val);
+    }
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright 2002 Doug Mealing LLC dba Meta Objects. All Rights Reserved.
+ *
+ * This software is the proprietary information of Doug Mealing LLC dba Meta Objects.
+ * Use is subject to license terms.
+ */
+package com.metaobjects.object.pojo;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import com.metaobjects.util.DataConverter;
+
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Getter and setter of one MetaField on one POJO class, built once and held by the
+ * MetaField, see {@link com.metaobjects.field.MetaField#getValueAccessor}.
+ *
+ * <p>Accessors are generated with {@link LambdaMetafactory}, so a get or set is a
+ * monomorphic interface call the JIT can inline into the bean method.  If the POJO
+ * class cannot be accessed that way, e.g. because it lives in another module or
+ * class loader, a MethodHandle is used, and {@link Method#invoke} as the last
+ * resort.</p>
+ *
+ * <p>If the getter returns or the setter takes an int, long, double or boolean, a
+ * primitive accessor is generated as well, so {@link #getInt(Object)},
+ * {@link #setInt(Object, int)} and the like do not box.</p>
+ *
+ * <p>A missing getter or setter only fails when it is used, with the same
+ * NoSuchMethodError the reflective lookup throws.  The accessor does not refer to
+ * the MetaField, so holding it in a ClassValue of the POJO class does not pin the
+ * metadata.</p>
+ *
+ * <p>Unchecked exceptions thrown by the bean method propagate unchanged.  Methods
+ * declaring checked exceptions are not generated but called through a MethodHandle,
+ * which wraps those in a RuntimeException, as are reflective access failures.</p>
+ */
+public final class PojoValueAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Function<Object, Object> getter;
+    private final BiConsumer<Object, Object> setter;
+    private final Class<?> setterType;
+    private final Class<?> boxedSetterType;
+    private final NoSuchMethodError getterError;
+    private final NoSuchMethodError setterError;
+
+    // Primitive accessors, null unless the getter or setter has that primitive type
+    private ToIntFunction<Object> intGetter;
+    private ToLongFunction<Object> longGetter;
+    private ToDoubleFunction<Object> doubleGetter;
+    private Predicate<Object> booleanGetter;
+    private ObjIntConsumer<Object> intSetter;
+    private ObjLongConsumer<Object> longSetter;
+    private ObjDoubleConsumer<Object> doubleSetter;
+    private ObjBooleanConsumer<Object> booleanSetter;
+
+    /**
+     * Setter of a boolean, the counterpart of {@link ObjIntConsumer}
+     */
+    @FunctionalInterface
+    public interface ObjBooleanConsumer<T> {
+        void accept(T t, boolean value);
+    }
+
+    private PojoValueAccessor(Function<Object, Object> getter, NoSuchMethodError getterError,
+                              BiConsumer<Object, Object> setter, Class<?> setterType, NoSuchMethodError setterError) {
+        this.getter = getter;
+        this.getterError = getterError;
+        this.setter = setter;
+        this.setterType = setterType;
+        this.boxedSetterType = setterType != null ? wrap(setterType) : null;
+        this.setterError = setterError;
+    }
+
+    /**
+     * Create the accessor from the getter and setter Methods
+     *
+     * @param getter The getter, or null if there is none
+     * @param getterError The error to throw on get if there is no getter
+     * @param setter The setter, or null if there is none
+     * @param setterError The error to throw on set if there is no setter
+     * @return The accessor
+     */
+    public static PojoValueAccessor create(Method getter, NoSuchMethodError getterError,
+                                           Method setter, NoSuchMethodError setterError) {
+        PojoValueAccessor a = new PojoValueAccessor(
+                getter != null ? getterFor(getter) : null, getterError,
+                setter != null ? setterFor(setter) : null,
+                setter != null ? setter.getParameterTypes()[0] : null, setterError);
+        if (getter != null && getter.getReturnType().isPrimitive()) {
+            a.initPrimitiveGetter(getter);
+        }
+        if (setter != null && setter.getParameterTypes()[0].isPrimitive()) {
+            a.initPrimitiveSetter(setter);
+        }
+        return a;
+    }
+
+    /**
+     * Get the value from the object
+     */
+    public Object get(Object obj) {
+        if (getter == null) throw new NoSuchMethodError(getterError.getMessage());
+        return getter.apply(obj);
+    }
+
+    /**
+     * Set the value on the object
+     */
+    public void set(Object obj, Object val) {
+        if (setter == null) throw new NoSuchMethodError(setterError.getMessage());
+        setter.accept(obj, val);
+    }
+
+    /**
+     * The parameter type of the setter
+     */
+    public Class<?> getSetterType() {
+        if (setter == null) throw new NoSuchMethodError(setterError.getMessage());
+        return setterType;
+    }
+
+    /**
+     * The parameter type of the setter, boxed if it is a primitive type
+     */
+    public Class<?> getBoxedSetterType() {
+        if (setter == null) throw new NoSuchMethodError(setterError.getMessage());
+        return boxedSetterType;
+    }
+
+    /**
+     * Get the value as an int, 0 if it is null
+     */
+    public int getInt(Object obj) {
+        if (intGetter != null) return intGetter.applyAsInt(obj);
+        Integer v = DataConverter.toInt(get(obj));
+        return v == null ? 0 : v;
+    }
+
+    /**
+     * Get the value as a long, 0 if it is null
+     */
+    public long getLong(Object obj) {
+        if (longGetter != null) return longGetter.applyAsLong(obj);
+        if (intGetter != null) return intGetter.applyAsInt(obj);
+        Long v = DataConverter.toLong(get(obj));
+        return v == null ? 0L : v;
+    }
+
+    /**
+     * Get the value as a double, 0 if it is null
+     */
+    public double getDouble(Object obj) {
+        if (doubleGetter != null) return doubleGetter.applyAsDouble(obj);
+        if (intGetter != null) return intGetter.applyAsInt(obj);
+        if (longGetter != null) return longGetter.applyAsLong(obj);
+        Double v = DataConverter.toDouble(get(obj));
+        return v == null ? 0.0 : v;
+    }
+
+    /**
+     * Get the value as a boolean, false if it is null
+     */
+    public boolean getBoolean(Object obj) {
+        if (booleanGetter != null) return booleanGetter.test(obj);
+        Boolean v = DataConverter.toBoolean(get(obj));
+        return v != null && v;
+    }
+
+    /**
+     * Set an int through a primitive int, long or double setter
+     *
+     * @return false if the setter is not primitive and the value has to be boxed
+     */
+    public boolean setInt(Object obj, int val) {
+        if (intSetter != null) intSetter.accept(obj, val);
+        else if (longSetter != null) longSetter.accept(obj, val);
+        else if (doubleSetter != null) doubleSetter.accept(obj, val);
+        else return false;
+        return true;
+    }
+
+    /**
+     * Set a long through a primitive long or double setter
+     *
+     * @return false if the setter is not primitive and the value has to be boxed
+     */
+    public boolean setLong(Object obj, long val) {
+        if (longSetter != null) longSetter.accept(obj, val);
+        else if (doubleSetter != null) doubleSetter.accept(obj, val);
+        else return false;
+        return true;
+    }
+
+    /**
+     * Set a double through a primitive double setter
+     *
+     * @return false if the setter is not primitive and the value has to be boxed
+     */
+    public boolean setDouble(Object obj, double val) {
+        if (doubleSetter == null) return false;
+        doubleSetter.accept(obj, val);
+        return true;
+    }
+
+    /**
+     * Set a boolean through a primitive boolean setter
+     *
+     * @return false if the setter is not primitive and the value has to be boxed
+     */
+    public boolean setBoolean(Object obj, boolean val) {
+        if (booleanSetter == null) return false;
+        booleanSetter.accept(obj, val);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void initPrimitiveGetter(Method m) {
+        Class<?> t = m.getReturnType();
+        if (t == int.class) intGetter = (ToIntFunction<Object>) primitive(m, "applyAsInt", ToIntFunction.class,
+                MethodType.methodType(int.class, Object.class));
+        else if (t == long.class) longGetter = (ToLongFunction<Object>) primitive(m, "applyAsLong", ToLongFunction.class,
+                MethodType.methodType(long.class, Object.class));
+        else if (t == double.class) doubleGetter = (ToDoubleFunction<Object>) primitive(m, "applyAsDouble", ToDoubleFunction.class,
+                MethodType.methodType(double.class, Object.class));
+        else if (t == boolean.class) booleanGetter = (Predicate<Object>) primitive(m, "test", Predicate.class,
+                MethodType.methodType(boolean.class, Object.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void initPrimitiveSetter(Method m) {
+        Class<?> t = m.getParameterTypes()[0];
+        if (t == int.class) intSetter = (ObjIntConsumer<Object>) primitive(m, "accept", ObjIntConsumer.class,
+                MethodType.methodType(void.class, Object.class, int.class));
+        else if (t == long.class) longSetter = (ObjLongConsumer<Object>) primitive(m, "accept", ObjLongConsumer.class,
+                MethodType.methodType(void.class, Object.class, long.class));
+        else if (t == double.class) doubleSetter = (ObjDoubleConsumer<Object>) primitive(m, "accept", ObjDoubleConsumer.class,
+                MethodType.methodType(void.class, Object.class, double.class));
+        else if (t == boolean.class) booleanSetter = (ObjBooleanConsumer<Object>) primitive(m, "accept", ObjBooleanConsumer.class,
+                MethodType.methodType(void.class, Object.class, boolean.class));
+    }
+
+    /** Generate a primitive accessor, or null to use the boxed one if that fails */
+    private static Object primitive(Method m, String name, Class<?> iface, MethodType samType) {
+        if (throwsChecked(m)) return null;
+        try {
+            MethodHandles.Lookup lookup = lookupFor(m);
+            MethodHandle mh = lookup.unreflect(m);
+            CallSite site = LambdaMetafactory.metafactory(lookup, name,
+                    MethodType.methodType(iface), samType, mh,
+                    samType.changeParameterType(0, m.getDeclaringClass()));
+            return site.getTarget().invoke();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> getterFor(Method m) {
+        if (throwsChecked(m)) return methodHandleGetter(m);
+        try {
+            MethodHandles.Lookup lookup = lookupFor(m);
+            MethodHandle mh = lookup.unreflect(m);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class), GETTER_TYPE, mh,
+                    MethodType.methodType(wrap(m.getReturnType()), m.getDeclaringClass()));
+            return (Function<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            return methodHandleGetter(m);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> setterFor(Method m) {
+        if (throwsChecked(m)) return methodHandleSetter(m);
+        try {
+            MethodHandles.Lookup lookup = lookupFor(m);
+            MethodHandle mh = lookup.unreflect(m);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+                    MethodType.methodType(BiConsumer.class), SETTER_TYPE, mh,
+                    MethodType.methodType(void.class, m.getDeclaringClass(), wrap(m.getParameterTypes()[0])));
+            return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            return methodHandleSetter(m);
+        }
+    }
+
+    /**
+     * Whether the method declares a checked exception, which a generated accessor would
+     * throw undeclared
+     */
+    private static boolean throwsChecked(Method m) {
+        for (Class<?> e : m.getExceptionTypes()) {
+            if (!RuntimeException.class.isAssignableFrom(e) && !Error.class.isAssignableFrom(e)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Rethrow an unchecked exception of the bean method unchanged, and wrap checked
+     * exceptions and reflective failures
+     */
+    private static RuntimeException rethrow(Method m, Throwable e) {
+        if (e instanceof InvocationTargetException && e.getCause() != null) e = e.getCause();
+        if (e instanceof Error) throw (Error) e;
+        if (e instanceof RuntimeException) return (RuntimeException) e;
+        return new RuntimeException("Exception invoking [" + m + "]: " + e.getMessage(), e);
+    }
+
+    /** A lookup in the declaring class, so the generated class can link against it */
+    private static MethodHandles.Lookup lookupFor(Method m) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(m.getDeclaringClass(), MethodHandles.lookup());
+    }
+
+    /** Fall back to a MethodHandle, or to reflection if the method is not public */
+    private static Function<Object, Object> methodHandleGetter(Method m) {
+        try {
+            MethodHandle mh = MethodHandles.publicLookup().unreflect(m).asType(GETTER_TYPE);
+            return obj -> {
+                try {
+                    return mh.invokeExact(obj);
+                } catch (Throwable e) {
+                    throw rethrow(m, e);
+                }
+            };
+        } catch (IllegalAccessException e) {
+            return obj -> {
+                try {
+                    return m.invoke(obj);
+                } catch (ReflectiveOperationException ex) {
+                    throw rethrow(m, ex);
+                }
+            };
+        }
+    }
+
+    private static BiConsumer<Object, Object> methodHandleSetter(Method m) {
+        try {
+            MethodHandle mh = MethodHandles.publicLookup().unreflect(m).asType(SETTER_TYPE);
+            return (obj, val) -> {
+                try {
+                    mh.invokeExact(obj, val);
+                } catch (Throwable e) {
+                    throw rethrow(m, e);
+                }
+            };
+        } catch (IllegalAccessException e) {
+            return (obj, val) -> {
+                try {
+                    m.invoke(obj, val);
+                } catch (ReflectiveOperationException ex) {
+                    throw rethrow(m, ex);
+                }
+            };
+        }
+    }
+
+    private static Class<?> wrap(Class<?> c) {
+        return MethodType.methodType(c).wrap().returnType();
+    }
+}
@@ -0,0 +1,186 @@
+package com.metaobjects.object.proxy;
+
+import com.metaobjects.field.MetaField;
+import com.metaobjects.object.MetaObject;
+import com.metaobjects.object.SlotLayout;
+import com.metaobjects.object.SlotObject;
+import com.metaobjects.object.SlotValues;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps each method called on a proxy to the action that handles it, so that
+ * {@link ProxyObjectHandler} does no method lookup or name parsing per call.
+ *
+ * <p>A method the proxy object implements itself is delegated to it through a
+ * MethodHandle.  Other getters and setters of a field read and write the slot of the
+ * field when the proxy object is a {@link ProxyObject} that does not override
+ * {@code _getValueByName} or {@code _setValueByName}, and go through
+ * {@link ProxyAccessor} by name otherwise.  The methods of the proxied interfaces are
+ * resolved when the table is built, any other method on first call.</p>
+ *
+ * @since 6.0.0
+ */
+public final class ProxyDispatchTable {
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    // Whether a proxy object class keeps the value access of ProxyObject
+    private static final ClassValue<Boolean> SLOT_ACCESS = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> c) {
+            if (!ProxyObject.class.isAssignableFrom(c)) return false;
+            try {
+                return c.getMethod("_getValueByName", String.class).getDeclaringClass() == ProxyObject.class
+                        && c.getMethod("_setValueByName", String.class, Object.class).getDeclaringClass() == ProxyObject.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    /**
+     * Whether values of a proxy object of this class can be read and written
+     * through its slots without skipping any overridden value access
+     */
+    static boolean usesSlots(Class<?> proxyObjectClass) {
+        return SLOT_ACCESS.get(proxyObjectClass);
+    }
+
+    private final MetaObject metaObject;
+    private final Class<?> proxyObjectClass;
+    private final SlotLayout layout;
+    private final Map<Method, Action> actions = new ConcurrentHashMap<>();
+
+    /**
+     * Build the table for proxies of the interfaces backed by objects of a class
+     *
+     * @param metaObject The MetaObject of the proxies
+     * @param proxyObjectClass Class of the object backing each proxy
+     * @param interfaces The proxied interfaces
+     */
+    public ProxyDispatchTable(MetaObject metaObject, Class<?> proxyObjectClass, Class<?>... interfaces) {
+        this.metaObject = metaObject;
+        this.proxyObjectClass = proxyObjectClass;
+        this.layout = metaObject != null ? metaObject.getSlotLayout() : null;
+        for (Class<?> i : interfaces) {
+            for (Method m : i.getMethods()) {
+                actions.computeIfAbsent(m, this::createAction);
+            }
+        }
+    }
+
+    /**
+     * Whether the table was built for the MetaObject's current fields and the class
+     */
+    public boolean isCurrent(MetaObject mo, Class<?> objClass) {
+        return mo == metaObject && objClass == proxyObjectClass
+                && (mo == null || mo.getSlotLayout() == layout);
+    }
+
+    /**
+     * Invoke the method on the proxy object
+     */
+    Object invoke(Object proxyObject, Method method, Object[] args) throws Throwable {
+        Action a = actions.get(method);
+        if (a == null) a = actions.computeIfAbsent(method, this::createAction);
+        return a.invoke(proxyObject, args == null ? NO_ARGS : args);
+    }
+
+    //////////////////////////////////////////////////////////////////////////////////////////////////
+    // Actions
+
+    private interface Action {
+        Object invoke(Object proxyObject, Object[] args) throws Throwable;
+    }
+
+    private Action createAction(Method method) {
+
+        // Methods the proxy object implements itself
+        try {
+            Method target = proxyObjectClass.getMethod(method.getName(), method.getParameterTypes());
+            return delegate(target);
+        } catch (NoSuchMethodException ignore) {
+        }
+
+        String name = method.getName();
+        int argCount = method.getParameterCount();
+        boolean isGetter = (name.startsWith("get") || name.startsWith("is")) && argCount == 0;
+        boolean isSetter = name.startsWith("set") && argCount == 1;
+
+        if (!isGetter && !isSetter) {
+            return (o, args) -> {
+                throw new NoSuchMethodException(proxyObjectClass.getName() + "." + name);
+            };
+        }
+        if (!ProxyAccessor.class.isAssignableFrom(proxyObjectClass)) {
+            return (o, args) -> {
+                throw new NoSuchMethodException(proxyObjectClass.getName() + "." + name
+                        + " and [" + proxyObjectClass.getName() + "] is not a ProxyAccessor");
+            };
+        }
+
+        String field = fieldName(name);
+        MetaField f = metaObject != null && metaObject.hasMetaField(field) ? metaObject.getMetaField(field) : null;
+        if (f == null) {
+            return (o, args) -> {
+                throw new IllegalArgumentException("MetaField[" + field + "] did not exist for method name [" + name + "] "
+                        + "on proxied object: " + o);
+            };
+        }
+
+        int slot = usesSlots(proxyObjectClass) ? layout.indexOf(f) : -1;
+        if (isGetter) {
+            if (slot >= 0) {
+                return (o, args) -> {
+                    SlotValues v = ((SlotObject) o).getSlotValues();
+                    if (v.getLayout() == layout) return v.get(slot);
+                    return ((ProxyAccessor) o)._getValueByName(field);
+                };
+            }
+            return (o, args) -> ((ProxyAccessor) o)._getValueByName(field);
+        }
+
+        // Array fields are converted by the proxy object
+        if (slot >= 0 && !f.isArrayType()) {
+            return (o, args) -> {
+                SlotValues v = ((SlotObject) o).getSlotValues();
+                if (v.getLayout() == layout) v.set(slot, args[0]);
+                else ((ProxyAccessor) o)._setValueByName(field, args[0]);
+                return null;
+            };
+        }
+        return (o, args) -> {
+            ((ProxyAccessor) o)._setValueByName(field, args[0]);
+            return null;
+        };
+    }
+
+    private static String fieldName(String name) {
+        String f = name.substring(name.startsWith("is") ? 2 : 3);
+        if (f.isEmpty()) return f;
+        return f.substring(0, 1).toLowerCase() + f.substring(1);
+    }
+
+    private static Action delegate(Method target) {
+        try {
+            MethodHandle mh = MethodHandles.publicLookup().unreflect(target);
+            MethodHandle spread = mh.asType(mh.type().generic())
+                    .asSpreader(Object[].class, target.getParameterCount());
+            return (o, args) -> (Object) spread.invokeExact(o, args);
+        } catch (IllegalAccessException e) {
+            return (o, args) -> {
+                try {
+                    return target.invoke(o, args);
+                } catch (InvocationTargetException ex) {
+                    throw ex.getCause();
+                }
+            };
+        }
+    }
+}
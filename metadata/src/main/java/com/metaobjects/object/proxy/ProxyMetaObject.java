@@ -1,6 +1,7 @@
 package com.metaobjects.object.proxy;
 
 import com.metaobjects.InvalidMetaDataException;
+import com.metaobjects.cache.CacheKey;
 import com.metaobjects.MetaDataException;
 import com.metaobjects.attr.MetaAttribute;
 import com.metaobjects.attr.StringAttribute;
@@ -9,6 +10,8 @@ import com.metaobjects.constraint.PlacementConstraint;
 import com.metaobjects.field.MetaField;
 import com.metaobjects.object.MetaObject;
 import com.metaobjects.object.MetaObjectAware;
+import com.metaobjects.object.SlotObject;
+import com.metaobjects.object.SlotValues;
 import com.metaobjects.object.pojo.PojoMetaObject;
 import com.metaobjects.registry.MetaDataRegistry;
 import org.slf4j.Logger;
@@ -16,6 +19,7 @@ import org.slf4j.LoggerFactory;
 
 import static com.metaobjects.object.MetaObject.SUBTYPE_BASE;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Proxy;
 
@@ -32,6 +36,11 @@ public class ProxyMetaObject extends PojoMetaObject
     public final static String ATTR_PROXYOBJECT = "proxyObject";
     public final static String ATTR_INTERFACE_NAME = "interfaceName";
 
+    private static final CacheKey<Class<?>> CACHE_PROXY_OBJECT_CLASS = CacheKey.of("ProxyObjectClass");
+
+    // Actions for the methods of the proxies, see getDispatchTable()
+    private transient volatile ProxyDispatchTable dispatchTable = null;
+
     /**
      * Register ProxyMetaObject type and constraints with registry.
      * Called by ObjectTypesMetaDataProvider during service discovery.
@@ -109,11 +118,12 @@ public class ProxyMetaObject extends PojoMetaObject
     public Object newInstance()  {
 
         Class<?> clazz = getObjectClass();
+        MetaObjectAware proxyObject = newProxyInstance();
 
         Object o = Proxy.newProxyInstance(
                 ProxyObject.class.getClassLoader(),
                 new Class[] { clazz },    // To make this extensible, add the interface here
-                new ProxyObjectHandler( newProxyInstance() ));
+                new ProxyObjectHandler( proxyObject, getDispatchTable( clazz, proxyObject.getClass() )));
 
         //if ( o == null ) {
         //    throw new MetaDataException("Cannot instantiate proxy object ["+clazz.getName()+"], null returned");
@@ -124,6 +134,32 @@ public class ProxyMetaObject extends PojoMetaObject
         return o;
     }
 
+    /**
+     * Get the dispatch table shared by the proxies of this MetaObject, built on first use
+     * and rebuilt when the fields or the classes change
+     */
+    protected ProxyDispatchTable getDispatchTable( Class<?> objectClass, Class<?> proxyObjectClass ) {
+        ProxyDispatchTable table = dispatchTable;
+        if ( table == null || !table.isCurrent( this, proxyObjectClass )) {
+            table = new ProxyDispatchTable( this, proxyObjectClass, objectClass );
+            dispatchTable = table;
+        }
+        return table;
+    }
+
+    @Override
+    protected void invalidateCaches( String childName ) {
+        dispatchTable = null;
+        super.invalidateCaches( childName );
+    }
+
+    @Override
+    public Object clone() {
+        ProxyMetaObject mo = (ProxyMetaObject) super.clone();
+        mo.dispatchTable = null;
+        return mo;
+    }
+
     @Override
     public void attachMetaObject(Object o) {
         if ( o instanceof MetaObjectAware ) {
@@ -161,10 +197,8 @@ public class ProxyMetaObject extends PojoMetaObject
      */
     public Class<?> getProxyObjectClass() {
 
-        final String KEY = "ProxyObjectClass";
-
         // See if we have this cached already
-        Class<?> oc = (Class<?>) getCacheValue( KEY );
+        Class<?> oc = getCacheValue( CACHE_PROXY_OBJECT_CLASS );
         if ( oc == null ) {
 
             if ( hasMetaAttr(ATTR_PROXYOBJECT)) {
@@ -194,7 +228,7 @@ public class ProxyMetaObject extends PojoMetaObject
             if ( oc==null ) oc = ProxyObject.class;
 
             // Store the resulting Class in the cache
-            setCacheValue( KEY, oc );
+            setCacheValue( CACHE_PROXY_OBJECT_CLASS, oc );
         }
 
         return oc;
@@ -231,13 +265,43 @@ public class ProxyMetaObject extends PojoMetaObject
         return false;
     }
 
+    /**
+     * The slot values behind a proxy created by this MetaObject, or null
+     */
+    private SlotValues getSlotValues( Object obj ) {
+        if ( obj != null && Proxy.isProxyClass( obj.getClass() )) {
+            InvocationHandler h = Proxy.getInvocationHandler( obj );
+            if ( h instanceof ProxyObjectHandler ) {
+                Object po = ((ProxyObjectHandler) h).getProxyObject();
+                if ( po != null && ProxyDispatchTable.usesSlots( po.getClass() ))
+                    return ((SlotObject) po).getSlotValues();
+            }
+        }
+        return null;
+    }
+
     @Override
     public Object getValue(MetaField f, Object obj) {
+        SlotValues v = getSlotValues( obj );
+        if ( v != null ) {
+            int slot = v.getLayout().indexOf( f );
+            if ( slot >= 0 ) return v.get( slot );
+        }
         return super.getValue(f,obj);
     }
 
     @Override
     public void setValue(MetaField f, Object obj, Object val) {
+        if ( val != null && !f.isArrayType() && f.getValueClass().isInstance( val )) {
+            SlotValues v = getSlotValues( obj );
+            if ( v != null ) {
+                int slot = v.getLayout().indexOf( f );
+                if ( slot >= 0 ) {
+                    v.set( slot, val );
+                    return;
+                }
+            }
+        }
         super.setValue( f, obj, val );
     }
 }
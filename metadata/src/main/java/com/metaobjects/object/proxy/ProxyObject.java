@@ -4,6 +4,9 @@ import com.metaobjects.ValueException;
 import com.metaobjects.field.MetaField;
 import com.metaobjects.object.MetaObject;
 import com.metaobjects.object.MetaObjectAware;
+import com.metaobjects.object.SlotLayout;
+import com.metaobjects.object.SlotObject;
+import com.metaobjects.object.SlotValues;
 import com.metaobjects.object.Validatable;
 import com.metaobjects.util.DataConverter;
 
@@ -11,13 +14,18 @@ import java.lang.reflect.Method;
 import java.util.*;
 import java.util.List;
 
-public class ProxyObject implements ProxyAccessor, MetaObjectAware, Validatable {
+public class ProxyObject implements ProxyAccessor, MetaObjectAware, Validatable, SlotObject {
 
     private MetaObject metaObject;
-    private Map<String,Object> valueMap = new HashMap<>();
+
+    // Field values by slot, and a map for names that are not fields
+    private final SlotValues values;
+    private Map<String,Object> otherValues = null;
 
     public ProxyObject(MetaObject metaObject ) {
         this.metaObject = metaObject;
+        this.values = new SlotValues(metaObject != null
+                ? metaObject.getSlotLayout() : new SlotLayout(Collections.emptyList()));
     }
 
     @Override
@@ -30,11 +38,45 @@ public class ProxyObject implements ProxyAccessor, MetaObjectAware, Validatable
         throw new IllegalStateException("Cannot set MetaData after newInstance");
     }
 
+    @Override
+    public SlotValues getSlotValues() {
+        return values;
+    }
+
+    private Object getStored(String name) {
+        int slot = values.getLayout().indexOf(name);
+        if (slot >= 0) return values.get(slot);
+        return otherValues == null ? null : otherValues.get(name);
+    }
+
+    private void putStored(String name, Object val) {
+        int slot = values.getLayout().indexOf(name);
+        if (slot >= 0) {
+            values.set(slot, val);
+        } else {
+            if (otherValues == null) otherValues = new HashMap<>();
+            otherValues.put(name, val);
+        }
+    }
+
+    /**
+     * The values that are set, by name
+     */
+    protected Map<String,Object> getValueMap() {
+        Map<String,Object> m = new LinkedHashMap<>();
+        SlotLayout layout = values.getLayout();
+        for (int i = 0; i < layout.getSlotCount(); i++) {
+            if (values.isSet(i)) m.put(layout.getMetaField(i).getName(), values.get(i));
+        }
+        if (otherValues != null) m.putAll(otherValues);
+        return m;
+    }
+
     //////////////////////////////////////////////////////////////////////////////////////////////////
     // Package Protected getter/setter Methods with Array Support
 
     public Object _getValueByName(String name) {
-        Object value = valueMap.get(name);
+        Object value = getStored(name);
 
         // Smart fallback: if field is an array but getter might expect different format
         if (isArrayField(name) && value instanceof List) {
@@ -50,21 +92,21 @@ public class ProxyObject implements ProxyAccessor, MetaObjectAware, Validatable
             // Field is defined as array - ensure proper conversion
             if (val instanceof List) {
                 // Already a list, store directly
-                valueMap.put(name, val);
+                putStored(name, val);
             } else if (val instanceof String) {
                 // Convert string to list using DataConverter
                 List<String> list = DataConverter.toStringArray((String) val);
-                valueMap.put(name, list);
+                putStored(name, list);
             } else if (val != null) {
                 // Single value - convert to single-element list
-                valueMap.put(name, Arrays.asList(val));
+                putStored(name, Arrays.asList(val));
             } else {
                 // Null value
-                valueMap.put(name, null);
+                putStored(name, null);
             }
         } else {
             // Regular field - store as-is
-            valueMap.put(name, val);
+            putStored(name, val);
         }
     }
 
@@ -128,14 +170,14 @@ public class ProxyObject implements ProxyAccessor, MetaObjectAware, Validatable
 
     @Override
     public int hashCode() {
-        return Objects.hash(valueMap.entrySet().hashCode(), metaObject);
+        return Objects.hash(getValueMap().entrySet().hashCode(), metaObject);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName()+"{" +
                 "metaObject=" + metaObject.getName() +
-                ",valueMap=" + valueMap.toString() +
+                ",valueMap=" + getValueMap().toString() +
                 '}';
     }
 }
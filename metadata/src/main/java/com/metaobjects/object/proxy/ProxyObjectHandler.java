@@ -1,20 +1,37 @@
 package com.metaobjects.object.proxy;
 
-import com.metaobjects.field.MetaField;
 import com.metaobjects.object.MetaObject;
 import com.metaobjects.object.MetaObjectAware;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 
+/**
+ * Handles the calls on a proxy by delegating them to its proxy object, or by reading and
+ * writing the fields through a {@link ProxyDispatchTable} shared by all proxies of a
+ * ProxyMetaObject.
+ */
 public class ProxyObjectHandler implements InvocationHandler {
 
     private MetaObject metaObject;
     private Object proxyObject;
+    private ProxyDispatchTable dispatchTable;
 
     public ProxyObjectHandler( MetaObjectAware proxy ) {
+        this( proxy, null );
+    }
+
+    public ProxyObjectHandler( MetaObjectAware proxy, ProxyDispatchTable dispatchTable ) {
         this.metaObject = proxy.getMetaData();
         this.proxyObject = proxy;
+        this.dispatchTable = dispatchTable;
+    }
+
+    /**
+     * The object backing the proxy
+     */
+    public Object getProxyObject() {
+        return proxyObject;
     }
 
     //////////////////////////////////////////////////////////////////////////////////////////////////
@@ -23,32 +40,21 @@ public class ProxyObjectHandler implements InvocationHandler {
     @Override
     public Object invoke(Object o, Method method, Object[] objects) throws Throwable {
 
-        String name = method.getName();
-
-        try {
-            Method proxyMethod = proxyObject.getClass().getMethod(method.getName(), method.getParameterTypes());
-            return proxyMethod.invoke( proxyObject, objects );
+        // Rebuilt if the fields changed since the proxy was created
+        ProxyDispatchTable table = dispatchTable;
+        if ( table == null || !table.isCurrent( metaObject, proxyObject.getClass() )) {
+            table = new ProxyDispatchTable( metaObject, proxyObject.getClass(), o.getClass().getInterfaces() );
+            dispatchTable = table;
         }
-        catch (NoSuchMethodException e) {
-
-            if ( proxyObject instanceof ProxyAccessor ) {
-                ProxyAccessor access = (ProxyAccessor) proxyObject;
 
-                if (( name.startsWith("get") || name.startsWith("is"))
-                        && objects == null) {
-                    return access._getValueByName(getField(name));
-                }
-                else if (name.startsWith("set")
-                        && objects != null && objects.length==1) {
-                    access._setValueByName(getField(name), objects[0]);
-                    return null;
-                }
-            }
-
-            throw e;
-        }
+        return table.invoke( proxyObject, method, objects );
     }
 
+    /**
+     * Get the field name of a getter or setter method name
+     * @deprecated Methods are resolved to fields by the {@link ProxyDispatchTable}
+     */
+    @Deprecated
     protected String getField( String name ) {
 
         int index = 3;
@@ -57,7 +63,7 @@ public class ProxyObjectHandler implements InvocationHandler {
 
         String f = name.substring(index);
         f = f.substring(0,1).toLowerCase() + f.substring(1);
-        if ( metaObject.getMetaField(f) == null ) {
+        if ( !metaObject.hasMetaField(f) ) {
             throw new IllegalArgumentException("MetaField["+f+"] did not exist for method name ["+name+"] "+
                     "on proxied object: "+proxyObject);
         }
@@ -209,8 +209,7 @@ public class AttributeConstraintBuilder {
 
             CustomConstraint arrayConstraint = new CustomConstraint(
                 constraintId, description,
-                (metadata) -> parent.getType().equals(metadata.getType()) &&
-                             parent.getSubType().equals(metadata.getSubType()),
+                parent.getType(), parent.getSubType(),
                 (metadata, value) -> isArrayValue(value),
                 "Array constraint validation"
             );
@@ -228,8 +227,7 @@ public class AttributeConstraintBuilder {
 
             CustomConstraint setConstraint = new CustomConstraint(
                 constraintId, description,
-                (metadata) -> parent.getType().equals(metadata.getType()) &&
-                             parent.getSubType().equals(metadata.getSubType()),
+                parent.getType(), parent.getSubType(),
                 (metadata, value) -> isSetValue(value),
                 "Set constraint validation"
             );
@@ -247,8 +245,7 @@ public class AttributeConstraintBuilder {
 
             CustomConstraint mapConstraint = new CustomConstraint(
                 constraintId, description,
-                (metadata) -> parent.getType().equals(metadata.getType()) &&
-                             parent.getSubType().equals(metadata.getSubType()),
+                parent.getType(), parent.getSubType(),
                 (metadata, value) -> isMapValue(value),
                 "Map constraint validation"
             );
@@ -347,8 +344,7 @@ public class AttributeConstraintBuilder {
 
             CustomConstraint enumConstraint = new CustomConstraint(
                 constraintId, description,
-                (metadata) -> typeBuilder.parent.getType().equals(metadata.getType()) &&
-                             typeBuilder.parent.getSubType().equals(metadata.getSubType()),
+                typeBuilder.parent.getType(), typeBuilder.parent.getSubType(),
                 (metadata, value) -> value == null || Arrays.asList(validValues).contains(value.toString()),
                 "Enum constraint validation"
             );
@@ -363,8 +359,7 @@ public class AttributeConstraintBuilder {
 
             CustomConstraint rangeConstraint = new CustomConstraint(
                 constraintId, description,
-                (metadata) -> typeBuilder.parent.getType().equals(metadata.getType()) &&
-                             typeBuilder.parent.getSubType().equals(metadata.getSubType()),
+                typeBuilder.parent.getType(), typeBuilder.parent.getSubType(),
                 (metadata, value) -> {
                     if (value == null) return true;
                     try {
@@ -387,8 +382,7 @@ public class AttributeConstraintBuilder {
 
             CustomConstraint regexConstraint = new CustomConstraint(
                 constraintId, description,
-                (metadata) -> typeBuilder.parent.getType().equals(metadata.getType()) &&
-                             typeBuilder.parent.getSubType().equals(metadata.getSubType()),
+                typeBuilder.parent.getType(), typeBuilder.parent.getSubType(),
                 (metadata, value) -> value == null || value.toString().matches("^[a-zA-Z][a-zA-Z0-9_]*$"),
                 "Regex constraint validation"
             );
@@ -403,8 +397,7 @@ public class AttributeConstraintBuilder {
 
             CustomConstraint customConstraint = new CustomConstraint(
                 constraintId, description,
-                (metadata) -> typeBuilder.parent.getType().equals(metadata.getType()) &&
-                             typeBuilder.parent.getSubType().equals(metadata.getSubType()),
+                typeBuilder.parent.getType(), typeBuilder.parent.getSubType(),
                 (metadata, value) -> validator.test(value),
                 "Custom validation logic"
             );
@@ -11,6 +11,8 @@ import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Registry for runtime MetaDataLoader management in OSGI and non-OSGI environments.
@@ -36,6 +38,14 @@ public class MetaDataLoaderRegistry {
     private final ServiceRegistry serviceRegistry;
     private final Map<String, MetaDataLoader> loaders = new ConcurrentHashMap<>();
     private volatile boolean initialized = false;
+
+    // Name index across the loaders, discarded when a loader is registered or its children change
+    private final AtomicLong changes = new AtomicLong();
+    private final Runnable loaderChanged = changes::incrementAndGet;
+    private volatile NameIndex nameIndex = NameIndex.EMPTY;
+
+    // The loader last found per object class, kept with the class so it can still be unloaded
+    private volatile ClassValue<AtomicReference<MetaDataLoader>> loadersByClass = newLoadersByClass();
     
     /**
      * Create registry with service discovery
@@ -86,7 +96,9 @@ public class MetaDataLoaderRegistry {
                 "A MetaDataLoader with name [" + loader.getName() + "] is already registered"
             );
         }
-        
+
+        loader.addChangeListener(loaderChanged);
+        changes.incrementAndGet();
         log.debug("Registered MetaDataLoader: {}", loader.getName());
     }
     
@@ -101,10 +113,64 @@ public class MetaDataLoaderRegistry {
         
         boolean removed = loaders.remove(loader.getName(), loader);
         if (removed) {
+            loader.removeChangeListener(loaderChanged);
+            loadersByClass = newLoadersByClass();
+            changes.incrementAndGet();
             log.debug("Unregistered MetaDataLoader: {}", loader.getName());
         }
         return removed;
     }
+
+    /**
+     * The name index, started over if a loader was registered or changed since it was built
+     */
+    private NameIndex nameIndex() {
+        NameIndex index = nameIndex;
+        if (index.version() != changes.get()) {
+            synchronized (this) {
+                index = nameIndex;
+                long version = changes.get();
+                if (index.version() != version) {
+                    // A change made while the index fills counts again, so it is started over
+                    index = new NameIndex(version, new ConcurrentHashMap<>());
+                    nameIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Index the MetaData of a type in the registered loaders by name, the first loader found
+     * for a name wins
+     */
+    private Map<String, MetaData> indexByName(Class<?> type) {
+        Map<String, MetaData> byName = new HashMap<>();
+        for (MetaDataLoader loader : loaders.values()) {
+            try {
+                for (MetaData d : loader.getChildren(type.asSubclass(MetaData.class), true)) {
+                    byName.putIfAbsent(d.getName(), d);
+                }
+            } catch (Exception e) {
+                // Not loaded yet, so it is indexed once its children change
+                log.trace("Loader {} could not be indexed: {}", loader.getName(), e.getMessage());
+            }
+        }
+        return byName;
+    }
+
+    private static ClassValue<AtomicReference<MetaDataLoader>> newLoadersByClass() {
+        return new ClassValue<>() {
+            @Override
+            protected AtomicReference<MetaDataLoader> computeValue(Class<?> type) {
+                return new AtomicReference<>();
+            }
+        };
+    }
+
+    private boolean isRegistered(MetaDataLoader loader) {
+        return loader != null && loaders.get(loader.getName()) == loader;
+    }
     
     /**
      * Get all registered MetaDataLoaders
@@ -147,13 +213,30 @@ public class MetaDataLoaderRegistry {
         Objects.requireNonNull(obj, "Object cannot be null");
         
         ensureInitialized();
-        
+
+        // The loader of the MetaObject of a MetaObjectAware object
+        if (obj instanceof MetaObjectAware aware) {
+            MetaObject mo = aware.getMetaData();
+            MetaDataLoader loader = mo != null ? mo.getLoader() : null;
+            if (isRegistered(loader)) {
+                return loader;
+            }
+        }
+
+        // The loader last found for the class, if it still handles the object
+        AtomicReference<MetaDataLoader> byClass = loadersByClass.get(obj.getClass());
+        MetaDataLoader cached = byClass.get();
+        if (isRegistered(cached) && handles(cached, obj)) {
+            return cached;
+        }
+
         for (MetaDataLoader loader : loaders.values()) {
             try {
                 MetaObject mo = loader.getMetaObjectFor(obj);
                 if (mo != null) {
                     log.debug("Found loader {} for object of type {}", 
                              loader.getName(), obj.getClass().getName());
+                    byClass.set(loader);
                     return loader;
                 }
             } catch (Exception e) {
@@ -166,6 +249,14 @@ public class MetaDataLoaderRegistry {
         log.debug("No loader found for object of type {}", obj.getClass().getName());
         return null;
     }
+
+    private static boolean handles(MetaDataLoader loader, Object obj) {
+        try {
+            return loader.getMetaObjectFor(obj) != null;
+        } catch (Exception e) {
+            return false;
+        }
+    }
     
     /**
      * Find MetaObject for the given object
@@ -175,65 +266,82 @@ public class MetaDataLoaderRegistry {
      * @throws MetaDataNotFoundException if no loader can handle the object
      */
     public MetaObject findMetaObject(Object obj) throws MetaDataNotFoundException {
+        return findMetaObjectOptional(obj).orElseThrow(() -> new MetaDataNotFoundException(
+            "No MetaDataLoader exists for object of class [" + obj.getClass().getName() + "]",
+            obj.getClass().getSimpleName()));
+    }
+
+    /**
+     * Find MetaObject for the given object without throwing if no loader handles it
+     *
+     * <p>The MetaObject of a MetaObjectAware object is used directly when it has no loader
+     * or its loader is registered, otherwise the registered loaders are searched.</p>
+     *
+     * @param obj Object to find MetaObject for
+     * @return Optional containing the MetaObject if found
+     */
+    public Optional<MetaObject> findMetaObjectOptional(Object obj) {
         Objects.requireNonNull(obj, "Object cannot be null");
-        
+
+        ensureInitialized();
+
         // High-performance optimization for MetaObjectAware objects
         if (obj instanceof MetaObjectAware aware) {
             MetaObject mo = aware.getMetaData();
-            if (mo != null) {
+            if (mo != null && (mo.getLoader() == null || isRegistered(mo.getLoader()))) {
                 log.debug("Retrieved cached MetaObject for MetaObjectAware: {}", 
                          obj.getClass().getName());
-                return mo;
+                return Optional.of(mo);
             }
         }
-        
+
         MetaDataLoader loader = findLoader(obj);
-        if (loader == null) {
-            throw new MetaDataNotFoundException(
-                "No MetaDataLoader exists for object of class [" + obj.getClass().getName() + "]", 
-                obj.getClass().getSimpleName());
-        }
-        
-        MetaObject mo = loader.getMetaObjectFor(obj);
-        
+        MetaObject mo = loader != null ? loader.getMetaObjectFor(obj) : null;
+
         // Cache the MetaObject in the object if possible
-        if (obj instanceof MetaObjectAware aware) {
+        if (mo != null && obj instanceof MetaObjectAware aware) {
             aware.setMetaData(mo);
         }
-        
-        return mo;
+
+        return Optional.ofNullable(mo);
     }
     
     /**
      * Find MetaObject by name across all loaders
      * 
-     * <p><strong>Important:</strong> This traverses ALL loaders. Use {@code getMetaDataByName}
-     * if you know the specific loader to use for better performance.</p>
+     * <p>MetaObjects are looked up in an index of all loaders, which is rebuilt when a
+     * loader is registered or unregistered, or when the children of a loader change.</p>
      * 
      * @param name MetaObject name to search for
      * @return MetaObject instance
      * @throws MetaDataNotFoundException if not found in any loader
      */
     public MetaObject findMetaObjectByName(String name) throws MetaDataNotFoundException {
+        return findMetaObjectByNameOptional(name).orElseThrow(() -> new MetaDataNotFoundException(
+            "MetaObject with name [" + name + "] not found in any registered loader", name
+        ));
+    }
+
+    /**
+     * Find MetaObject by name across all loaders without throwing if it does not exist
+     *
+     * @param name MetaObject name to search for
+     * @return Optional containing the MetaObject if found
+     */
+    public Optional<MetaObject> findMetaObjectByNameOptional(String name) {
         Objects.requireNonNull(name, "Name cannot be null");
         
         ensureInitialized();
-        
-        for (MetaDataLoader loader : loaders.values()) {
-            try {
-                MetaObject mo = loader.getMetaObjectByName(name);
-                if (mo != null) {
-                    log.debug("Found MetaObject '{}' in loader '{}'", name, loader.getName());
-                    return mo;
-                }
-            } catch (MetaDataNotFoundException e) {
-                // Continue searching in other loaders
-            }
-        }
-        
-        throw new MetaDataNotFoundException(
-            "MetaObject with name [" + name + "] not found in any registered loader", name
-        );
+
+        return Optional.ofNullable(lookup(MetaObject.class, name));
+    }
+
+    /**
+     * The MetaData of the type with the name in the name index, or null
+     */
+    private <T extends MetaData> T lookup(Class<T> type, String name) {
+        Map<String, MetaData> byName = nameIndex().byType().computeIfAbsent(type, this::indexByName);
+        return type.cast(byName.get(name));
     }
     
     /**
@@ -245,24 +353,15 @@ public class MetaDataLoaderRegistry {
      * @return MetaData instance
      * @throws MetaDataNotFoundException if not found in any loader
      */
-    @SuppressWarnings("unchecked")
     public <T extends MetaData> T findMetaDataByName(Class<T> type, String name) throws MetaDataNotFoundException {
         Objects.requireNonNull(type, "Type cannot be null");
         Objects.requireNonNull(name, "Name cannot be null");
         
         ensureInitialized();
-        
-        for (MetaDataLoader loader : loaders.values()) {
-            try {
-                T data = (T) loader.getChild(name, type);
-                if (data != null) {
-                    log.debug("Found MetaData '{}' of type {} in loader '{}'", 
-                             name, type.getSimpleName(), loader.getName());
-                    return data;
-                }
-            } catch (MetaDataNotFoundException e) {
-                // Continue searching in other loaders
-            }
+
+        T data = lookup(type, name);
+        if (data != null) {
+            return data;
         }
         
         throw new MetaDataNotFoundException(
@@ -275,7 +374,10 @@ public class MetaDataLoaderRegistry {
      * Clear all registered loaders (primarily for testing)
      */
     public void clear() {
+        loaders.values().forEach(loader -> loader.removeChangeListener(loaderChanged));
         loaders.clear();
+        changes.incrementAndGet();
+        loadersByClass = newLoadersByClass();
         initialized = false;
         log.debug("Cleared all registered loaders");
     }
@@ -296,6 +398,14 @@ public class MetaDataLoaderRegistry {
     }
     
     
+    /**
+     * The MetaData of the loaders by type and name, as of a count of loader changes
+     */
+    private record NameIndex(long version, Map<Class<?>, Map<String, MetaData>> byType) {
+
+        static final NameIndex EMPTY = new NameIndex(-1, Map.of());
+    }
+
     /**
      * Registry statistics record
      */
@@ -15,6 +15,7 @@ import org.slf4j.LoggerFactory;
 import java.lang.reflect.Constructor;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.Comparator;
@@ -61,12 +62,16 @@ public class MetaDataRegistry {
     
     private final ServiceRegistry serviceRegistry;
     private final Map<MetaDataTypeId, TypeDefinition> typeDefinitions = new ConcurrentHashMap<>();
+    // TypeDefinitions indexed by TypeOrdinals typeId ordinal, replaced on write
+    private volatile TypeDefinition[] definitionsByOrdinal = new TypeDefinition[0];
     private final Map<String, List<ChildRequirement>> globalRequirements = new ConcurrentHashMap<>();
     private final Set<TypeDefinition> deferredInheritanceTypes = ConcurrentHashMap.newKeySet();
 
     // Integrated constraint system (merged from ConstraintRegistry)
     private final List<Constraint> constraints = Collections.synchronizedList(new ArrayList<>());
     private volatile boolean constraintsInitialized = false;
+    private final AtomicInteger constraintsVersion = new AtomicInteger();
+    private volatile ConstraintIndex constraintIndex = null;
     private volatile boolean strictDuplicateDetection = true; // Enable strict checking by default
 
     private volatile boolean initialized = false;
@@ -161,7 +166,7 @@ public class MetaDataRegistry {
 
         // Update the registered type with extended definition
         TypeDefinition extendedDefinition = builder.build();
-        typeDefinitions.put(typeIdToExtend, extendedDefinition);
+        putTypeDefinition(typeIdToExtend, extendedDefinition);
 
         log.debug("Extended type: {} with additional attributes/children",
                  typeIdToExtend.toQualifiedName());
@@ -190,12 +195,40 @@ public class MetaDataRegistry {
         // Resolve inheritance if this type has a parent
         resolveInheritance(definition);
 
-        typeDefinitions.put(typeId, definition);
+        putTypeDefinition(typeId, definition);
         log.debug("Registered type: {} -> {} (parent: {})", typeId.toQualifiedName(),
                  definition.getImplementationClass().getSimpleName(),
                  definition.hasParent() ? definition.getParentQualifiedName() : "none");
     }
 
+    /**
+     * Store a type definition in the map and in the ordinal-indexed array
+     */
+    private synchronized void putTypeDefinition(MetaDataTypeId typeId, TypeDefinition definition) {
+        typeDefinitions.put(typeId, definition);
+
+        int ordinal = typeId.ordinal();
+        TypeDefinition[] byOrdinal = definitionsByOrdinal;
+        if (ordinal >= byOrdinal.length) {
+            byOrdinal = Arrays.copyOf(byOrdinal, Math.max(ordinal + 1, TypeOrdinals.typeIdCount()));
+        } else {
+            byOrdinal = byOrdinal.clone();
+        }
+        byOrdinal[ordinal] = definition;
+        definitionsByOrdinal = byOrdinal;
+    }
+
+    /**
+     * Get a type definition by its TypeOrdinals typeId ordinal
+     *
+     * @param typeIdOrdinal The ordinal of the type and subtype
+     * @return TypeDefinition or null if none is registered for the ordinal
+     */
+    public TypeDefinition getTypeDefinition(int typeIdOrdinal) {
+        TypeDefinition[] byOrdinal = definitionsByOrdinal;
+        return (typeIdOrdinal >= 0 && typeIdOrdinal < byOrdinal.length) ? byOrdinal[typeIdOrdinal] : null;
+    }
+
     /**
      * Resolve inheritance for a type definition by populating inherited requirements from parent
      *
@@ -281,6 +314,11 @@ public class MetaDataRegistry {
      * @return TypeDefinition if found, null otherwise
      */
     public TypeDefinition getTypeDefinition(String type, String subType) {
+        // Array lookup for the normalized (lowercase) names, which is what MetaData carries
+        TypeDefinition definition = getTypeDefinition(TypeOrdinals.findTypeId(type, subType));
+        if (definition != null) {
+            return definition;
+        }
         return typeDefinitions.get(new MetaDataTypeId(type, subType));
     }
 
@@ -291,7 +329,9 @@ public class MetaDataRegistry {
      * @return TypeDefinition if found, null otherwise
      */
     public TypeDefinition getTypeDefinition(MetaDataTypeId typeId) {
-        return typeDefinitions.get(typeId);
+        // Probing must not assign ordinals to unknown types
+        int ordinal = typeId.findOrdinal();
+        return ordinal != TypeOrdinals.NONE ? getTypeDefinition(ordinal) : null;
     }
     
     /**
@@ -539,8 +579,9 @@ public class MetaDataRegistry {
     /**
      * Clear all registrations (primarily for testing)
      */
-    public void clear() {
+    public synchronized void clear() {
         typeDefinitions.clear();
+        definitionsByOrdinal = new TypeDefinition[0];
         globalRequirements.clear();
         initialized = false;
         log.debug("Cleared all type registrations");
@@ -1574,6 +1615,7 @@ public class MetaDataRegistry {
         }
 
         constraints.add(constraint);
+        constraintsVersion.incrementAndGet();
         log.debug("Added constraint: {} [{}]", constraint.getType(), constraint.getDescription());
     }
 
@@ -1617,6 +1659,125 @@ public class MetaDataRegistry {
         return new ArrayList<>(constraints);
     }
 
+    /**
+     * Get the placement constraints that may apply when adding a child of the child type to
+     * a parent of the parent type, in registration order.  Constraints are indexed by the
+     * types in their patterns, so callers still check appliesTo() for subtypes and names.
+     * @param parentType The type of the parent
+     * @param childType The type of the child
+     * @return The candidate placement constraints
+     */
+    public List<PlacementConstraint> getPlacementConstraints(String parentType, String childType) {
+        return getConstraintIndex().getPlacementConstraints(parentType, childType);
+    }
+
+    /**
+     * Get the custom constraints that may apply to metadata of the type and subtype, in
+     * registration order.  Constraints without a target type are always included, so
+     * callers still check appliesTo().
+     * @param type The type of the metadata
+     * @param subType The subtype of the metadata
+     * @return The candidate custom constraints
+     */
+    public List<CustomConstraint> getCustomConstraints(String type, String subType) {
+        return getConstraintIndex().getCustomConstraints(type, subType);
+    }
+
+    private ConstraintIndex getConstraintIndex() {
+        if (!constraintsInitialized) {
+            loadCoreConstraints();
+        }
+        ConstraintIndex index = constraintIndex;
+        int version = constraintsVersion.get();
+        if (index == null || index.version != version) {
+            index = new ConstraintIndex(version, getAllValidationConstraints());
+            constraintIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Placement constraints by (parent type, child type) and custom constraints by
+     * (type, subType), built from the constraints registered at one version.  The
+     * buckets are filled on first use, keeping the registration order.
+     */
+    private static final class ConstraintIndex {
+
+        private final int version;
+        private final List<PlacementConstraint> placements = new ArrayList<>();
+        private final List<CustomConstraint> customs = new ArrayList<>();
+        private final Map<String, Map<String, List<PlacementConstraint>>> placementsByType = new ConcurrentHashMap<>();
+        private final Map<String, Map<String, List<CustomConstraint>>> customsByType = new ConcurrentHashMap<>();
+
+        ConstraintIndex(int version, List<Constraint> constraints) {
+            this.version = version;
+            for (Constraint c : constraints) {
+                if (c instanceof PlacementConstraint) {
+                    PlacementConstraint pc = (PlacementConstraint) c;
+                    // Invalid patterns never apply
+                    if (pc.getParentType() != null && pc.getChildType() != null) placements.add(pc);
+                } else if (c instanceof CustomConstraint) {
+                    customs.add((CustomConstraint) c);
+                }
+            }
+        }
+
+        List<PlacementConstraint> getPlacementConstraints(String parentType, String childType) {
+            if (parentType == null || childType == null) {
+                return findPlacementConstraints(parentType, childType);
+            }
+            Map<String, List<PlacementConstraint>> byChild = placementsByType.get(parentType);
+            if (byChild == null) {
+                byChild = placementsByType.computeIfAbsent(parentType, k -> new ConcurrentHashMap<>());
+            }
+            List<PlacementConstraint> l = byChild.get(childType);
+            if (l == null) {
+                l = byChild.computeIfAbsent(childType, k -> findPlacementConstraints(parentType, childType));
+            }
+            return l;
+        }
+
+        List<CustomConstraint> getCustomConstraints(String type, String subType) {
+            if (type == null || subType == null) {
+                return findCustomConstraints(type, subType);
+            }
+            Map<String, List<CustomConstraint>> bySubType = customsByType.get(type);
+            if (bySubType == null) {
+                bySubType = customsByType.computeIfAbsent(type, k -> new ConcurrentHashMap<>());
+            }
+            List<CustomConstraint> l = bySubType.get(subType);
+            if (l == null) {
+                l = bySubType.computeIfAbsent(subType, k -> findCustomConstraints(type, subType));
+            }
+            return l;
+        }
+
+        private List<PlacementConstraint> findPlacementConstraints(String parentType, String childType) {
+            List<PlacementConstraint> l = new ArrayList<>();
+            for (PlacementConstraint pc : placements) {
+                if (matchesType(pc.getParentType(), parentType) && matchesType(pc.getChildType(), childType)) {
+                    l.add(pc);
+                }
+            }
+            return Collections.unmodifiableList(l);
+        }
+
+        private List<CustomConstraint> findCustomConstraints(String type, String subType) {
+            List<CustomConstraint> l = new ArrayList<>();
+            for (CustomConstraint cc : customs) {
+                if (cc.getTargetType() == null
+                        || (cc.getTargetType().equals(type) && cc.getTargetSubType().equals(subType))) {
+                    l.add(cc);
+                }
+            }
+            return Collections.unmodifiableList(l);
+        }
+
+        private static boolean matchesType(String patternType, String type) {
+            return "*".equals(patternType) || patternType.equals(type);
+        }
+    }
+
     /**
      * Get placement validation constraints (unified constraint system)
      * @return List of placement constraints
@@ -1697,6 +1858,7 @@ public class MetaDataRegistry {
     public void reloadConstraints() {
         synchronized (this) {
             constraints.clear();
+            constraintsVersion.incrementAndGet();
             constraintsInitialized = false;
             loadCoreConstraints();
         }
@@ -0,0 +1,108 @@
+package com.metaobjects.registry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dense int ordinals for MetaData types and type/subType pairs.
+ *
+ * <p>Every distinct type name (e.g. "field") and every type/subType pair (e.g.
+ * "field.string") is assigned the next free ordinal the first time it is seen,
+ * starting at 0.  Ordinals are process-wide, so a MetaData can carry them as plain
+ * ints and type checks become int comparisons or BitSet membership tests, while
+ * each MetaDataRegistry can index its TypeDefinitions by typeId ordinal in an
+ * array.</p>
+ *
+ * <p>Lookups with {@link #findType(String)} and {@link #findTypeId(String, String)}
+ * never assign or allocate, and return {@link #NONE} for unknown names.</p>
+ *
+ * @since 6.0.0
+ */
+public final class TypeOrdinals {
+
+    /** Ordinal returned for types that have not been assigned one */
+    public static final int NONE = -1;
+
+    private static final AtomicInteger nextType = new AtomicInteger();
+    private static final AtomicInteger nextTypeId = new AtomicInteger();
+
+    private static final Map<String, Integer> types = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, Integer>> typeIds = new ConcurrentHashMap<>();
+
+    private TypeOrdinals() {
+        // Utility class - no instances
+    }
+
+    /**
+     * Get the ordinal of a type name, assigning one if needed
+     *
+     * @param type The type name, e.g. "field"
+     * @return The ordinal, or NONE if type is null
+     */
+    public static int ofType(String type) {
+        if (type == null) return NONE;
+        Integer ordinal = types.get(type);
+        return ordinal != null ? ordinal : types.computeIfAbsent(type, t -> nextType.getAndIncrement());
+    }
+
+    /**
+     * Get the ordinal of a type/subType pair, assigning one if needed
+     *
+     * @param type The type name, e.g. "field"
+     * @param subType The subType name, e.g. "string"
+     * @return The ordinal, or NONE if type or subType is null
+     */
+    public static int ofTypeId(String type, String subType) {
+        if (type == null || subType == null) return NONE;
+        Map<String, Integer> bySubType = typeIds.get(type);
+        Integer ordinal = bySubType != null ? bySubType.get(subType) : null;
+        if (ordinal != null) return ordinal;
+
+        return typeIds.computeIfAbsent(type, t -> new ConcurrentHashMap<>())
+                .computeIfAbsent(subType, s -> nextTypeId.getAndIncrement());
+    }
+
+    /**
+     * Find the ordinal of a type name without assigning one
+     *
+     * @param type The type name
+     * @return The ordinal, or NONE if none was assigned
+     */
+    public static int findType(String type) {
+        Integer ordinal = type != null ? types.get(type) : null;
+        return ordinal != null ? ordinal : NONE;
+    }
+
+    /**
+     * Find the ordinal of a type/subType pair without assigning one
+     *
+     * @param type The type name
+     * @param subType The subType name
+     * @return The ordinal, or NONE if none was assigned
+     */
+    public static int findTypeId(String type, String subType) {
+        if (type == null || subType == null) return NONE;
+        Map<String, Integer> bySubType = typeIds.get(type);
+        Integer ordinal = bySubType != null ? bySubType.get(subType) : null;
+        return ordinal != null ? ordinal : NONE;
+    }
+
+    /**
+     * Number of type ordinals assigned so far, an upper bound for BitSet sizes
+     *
+     * @return The type ordinal count
+     */
+    public static int typeCount() {
+        return nextType.get();
+    }
+
+    /**
+     * Number of type/subType ordinals assigned so far, an upper bound for array sizes
+     *
+     * @return The type/subType ordinal count
+     */
+    public static int typeIdCount() {
+        return nextTypeId.get();
+    }
+}
@@ -7,6 +7,7 @@
 package com.metaobjects.util;
 
 import com.metaobjects.MetaData;
+import com.metaobjects.cache.CacheKey;
 import com.metaobjects.MetaDataNotFoundException;
 import com.metaobjects.field.MetaField;
 import com.metaobjects.loader.MetaDataLoader;
@@ -29,15 +30,16 @@ public class MetaDataUtil {
   public final static String ATTR_OBJECT_REF = MetaObject.ATTR_OBJECT_REF;
   public final static String SEP = MetaDataLoader.PKG_SEPARATOR;
 
+  private static final CacheKey<String> CACHE_PACKAGE_FOR_METADATA = CacheKey.of("findPackageForMetaData()");
+  private static final CacheKey<MetaObject> CACHE_OBJECT_REF = CacheKey.of("getObjectRef()");
+
 
   /** Find an actual package traversing parents if needed */
   public static String findPackageForMetaData( MetaData d ) {
 
     synchronized ( d ) {
 
-      final String KEY = "findPackageForMetaData()";
-
-      String pkg = (String) d.getCacheValue(KEY);
+      String pkg = d.getCacheValue(CACHE_PACKAGE_FOR_METADATA);
 
       if (pkg == null) {
 
@@ -49,7 +51,7 @@ public class MetaDataUtil {
           pkg = p != null ? p.getPackage() : "";
         }
 
-        d.setCacheValue( KEY, pkg );
+        d.setCacheValue( CACHE_PACKAGE_FOR_METADATA, pkg );
       }
 
       return pkg;
@@ -65,9 +67,7 @@ public class MetaDataUtil {
 
     synchronized ( d ) {
 
-      final String KEY = "getObjectRef()";
-
-      MetaObject o = (MetaObject) d.getCacheValue(KEY);
+      MetaObject o = d.getCacheValue(CACHE_OBJECT_REF);
 
       if (o == null) {
 
@@ -76,14 +76,12 @@ public class MetaDataUtil {
 
             String name = expandPackageForMetaDataRef(findPackageForMetaData(d), objectRef);
 
-            try {
-              o = d.getLoader().getMetaObjectByName(name);
-            } catch (MetaDataNotFoundException e) {
-              throw MetaDataNotFoundException.forObject(name, d);
-            }
+            final String objectName = name;
+            o = d.getLoader().findMetaObjectByName(objectName)
+                    .orElseThrow(() -> MetaDataNotFoundException.forObject(objectName, d));
           }
 
-        d.setCacheValue(KEY, o);
+        d.setCacheValue(CACHE_OBJECT_REF, o);
       }
 
       return o;
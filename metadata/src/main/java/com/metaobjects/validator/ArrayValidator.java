@@ -5,6 +5,7 @@ import com.metaobjects.InvalidMetaDataException;
 import com.metaobjects.InvalidValueException;
 import com.metaobjects.attr.IntAttribute;
 import com.metaobjects.attr.MetaAttribute;
+import com.metaobjects.field.MetaField;
 import com.metaobjects.registry.MetaDataRegistry;
 
 import static com.metaobjects.validator.MetaValidator.TYPE_VALIDATOR;
@@ -45,11 +46,11 @@ public class ArrayValidator extends MetaValidator {
         });
     }
 
-    // Cache for frequently accessed size values
-    private Integer cachedMinSize;
-    private Integer cachedMaxSize;
-    private boolean minSizeCached = false;
-    private boolean maxSizeCached = false;
+    // Cache for frequently accessed size values, the volatile flags publish the values
+    private transient Integer cachedMinSize;
+    private transient Integer cachedMaxSize;
+    private transient volatile boolean minSizeCached = false;
+    private transient volatile boolean maxSizeCached = false;
 
     public ArrayValidator(String name) {
         super(SUBTYPE_ARRAY, name);
@@ -108,6 +109,13 @@ public class ArrayValidator extends MetaValidator {
         return cachedMaxSize;
     }
 
+    @Override
+    protected void invalidateCaches(String childName) {
+        minSizeCached = false;
+        maxSizeCached = false;
+        super.invalidateCaches(childName);
+    }
+
     /**
      * Validates the value of the field in the specified object
      */
@@ -133,4 +141,26 @@ public class ArrayValidator extends MetaValidator {
             }
         }
     }
+
+    @Override
+    public CompiledValidator compile(MetaField field) {
+        int minSize = getMinSize();
+        int maxSize = hasMaxSize() ? getMaxSize() : Integer.MAX_VALUE;
+        return CompiledValidator.of(SUBTYPE_ARRAY, value -> {
+            if (!(value instanceof Collection)) {
+                return "The value was not an array and the size must be at least "+ minSize;
+            }
+            int size = ((Collection<?>) value).size();
+            return size < minSize
+                    ? "Minimum array size is ("+ minSize+"), array was ("+size+")"
+                    : "Maximum array size is ("+ maxSize+"), array was ("+size+")";
+        }, (object, value) -> {
+            if ( value == null ) return true;
+            if (value instanceof Collection) {
+                int size = ((Collection<?>) value).size();
+                return size >= minSize && size <= maxSize;
+            }
+            return minSize <= 1;
+        });
+    }
 }
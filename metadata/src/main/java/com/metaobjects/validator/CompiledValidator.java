@@ -0,0 +1,102 @@
+package com.metaobjects.validator;
+
+import com.metaobjects.InvalidValueException;
+import com.metaobjects.field.MetaField;
+
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * A MetaValidator compiled for a field, with its attributes and messages read once,
+ * see {@link MetaValidator#compile(com.metaobjects.field.MetaField)}.  Implementations
+ * should not allocate when the value is valid, and {@link #isValid(Object, Object)}
+ * should not throw when it is not.  Compiled validators are shared, so they must be
+ * thread-safe.
+ *
+ * @since 6.0.0
+ */
+public interface CompiledValidator {
+
+    /**
+     * Error code of the violations, by default the subtype of the MetaValidator
+     * @return the error code
+     */
+    String getCode();
+
+    /**
+     * Whether the value of the field in the specified object is valid
+     * @param object the object containing the field to validate
+     * @param value the value to validate
+     * @return true if the value is valid
+     */
+    boolean isValid(Object object, Object value);
+
+    /**
+     * The message for an invalid value, formatted when it is asked for
+     * @param value the invalid value
+     * @return the error message
+     */
+    String getMessage(Object value);
+
+    /**
+     * Validates the value of the field in the specified object
+     * @param object the object containing the field to validate
+     * @param value the value to validate
+     * @throws InvalidValueException if the value is not valid
+     */
+    default void validate(Object object, Object value) {
+        if (!isValid(object, value)) {
+            throw new InvalidValueException(getMessage(value));
+        }
+    }
+
+    /**
+     * Validates the value of the field in the specified object, adding an error
+     * to the result rather than throwing
+     * @param field the field being validated
+     * @param object the object containing the field to validate
+     * @param value the value to validate
+     * @param result receives the error
+     * @return false if validation should stop, as the result is fail-fast
+     */
+    default boolean validate(MetaField field, Object object, Object value, ObjectValidationResult result) {
+        return isValid(object, value) || result.addError(field, this, value);
+    }
+
+    /**
+     * Create a compiled validator with a fixed message
+     * @param code the error code
+     * @param message the error message
+     * @param check returns whether the object and value are valid
+     * @return the compiled validator
+     */
+    static CompiledValidator of(String code, String message, BiPredicate<Object, Object> check) {
+        return of(code, v -> message, check);
+    }
+
+    /**
+     * Create a compiled validator
+     * @param code the error code
+     * @param message formats the error message for the invalid value
+     * @param check returns whether the object and value are valid
+     * @return the compiled validator
+     */
+    static CompiledValidator of(String code, Function<Object, String> message, BiPredicate<Object, Object> check) {
+        return new CompiledValidator() {
+            @Override
+            public String getCode() {
+                return code;
+            }
+
+            @Override
+            public boolean isValid(Object object, Object value) {
+                return check.test(object, value);
+            }
+
+            @Override
+            public String getMessage(Object value) {
+                return message.apply(value);
+            }
+        };
+    }
+}
@@ -77,6 +77,26 @@ public class LengthValidator extends MetaValidator
         }
     }
 
+    @Override
+    public CompiledValidator compile(MetaField field) {
+
+        int min = hasMetaAttr(ATTR_MIN)
+                ? Integer.parseInt(getMetaAttr(ATTR_MIN).getValueAsString())
+                : 0;
+
+        int max = hasMetaAttr(ATTR_MAX)
+                ? Integer.parseInt(getMetaAttr(ATTR_MAX).getValueAsString())
+                : getDefaultMax( field );
+
+        String msg = getMessage("A valid length between " + min + " and " + max + " must be entered");
+
+        return CompiledValidator.of(SUBTYPE_LENGTH, msg, (object, value) -> {
+            if (isBlankOrNull(value)) return true;
+            int len = value instanceof CharSequence ? ((CharSequence) value).length() : value.toString().length();
+            return len >= min && len <= max;
+        });
+    }
+
     /** Get the default max string size based on the MetaField DataType */
     protected int getDefaultMax( MetaField f ) {
         switch( f.getDataType() )
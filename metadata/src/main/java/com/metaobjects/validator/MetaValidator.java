@@ -7,6 +7,7 @@
 package com.metaobjects.validator;
 
 import com.metaobjects.InvalidMetaDataException;
+import com.metaobjects.InvalidValueException;
 import com.metaobjects.MetaData;
 import com.metaobjects.MetaDataNotFoundException;
 import com.metaobjects.attr.BooleanAttribute;
@@ -21,7 +22,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * MetaValidator that performs validations on a MetaField
+ * MetaValidator that performs validations on a MetaField.  Validators are shared by all
+ * threads using the metadata, so validate() and the compiled validators must not keep
+ * per-call state; lazily cached attributes have to be safely published.  The built-in
+ * validators are thread-safe.
  */
 public abstract class MetaValidator extends MetaData {
 
@@ -133,6 +137,53 @@ public abstract class MetaValidator extends MetaData {
      */
     public abstract void validate(Object object, Object value);
 
+    /**
+     * Compiles this validator for the field, reading its attributes and messages once.
+     * The default calls {@link #validate(Object, Object)} and catches its exception,
+     * keeping its message for the error; subclasses override this to avoid re-reading
+     * their attributes and throwing.
+     * @param field the field being validated
+     * @return the compiled validator
+     */
+    public CompiledValidator compile(MetaField field) {
+        return new CompiledValidator() {
+            @Override
+            public String getCode() {
+                return getSubType();
+            }
+
+            @Override
+            public boolean isValid(Object object, Object value) {
+                try {
+                    MetaValidator.this.validate(object, value);
+                    return true;
+                } catch (InvalidValueException e) {
+                    return false;
+                }
+            }
+
+            @Override
+            public boolean validate(MetaField field, Object object, Object value, ObjectValidationResult result) {
+                try {
+                    MetaValidator.this.validate(object, value);
+                    return true;
+                } catch (InvalidValueException e) {
+                    return result.addError(field, this, value, e.getMessage());
+                }
+            }
+
+            @Override
+            public String getMessage(Object value) {
+                return MetaValidator.this.getMessage("Invalid value");
+            }
+
+            @Override
+            public void validate(Object object, Object value) {
+                MetaValidator.this.validate(object, value);
+            }
+        };
+    }
+
     /////////////////////////////////////////////////////////////
     // HELPER METHODS
 
@@ -143,10 +194,26 @@ public abstract class MetaValidator extends MetaData {
      */
     public String getMessage(String defMsg) {
         String msg = defMsg;
-        try {
+        if (hasMetaAttr(ATTR_MSG)) {
             msg = getMetaAttr(ATTR_MSG).getValueAsString();
-        } catch (MetaDataNotFoundException ignoreException) {
         }
         return msg;
     }
+
+    /**
+     * Whether the value is null or its string form is blank, like
+     * GenericValidator.isBlankOrNull() but without creating the string for
+     * CharSequence, Number and Boolean values
+     * @param value the value to check
+     * @return true if blank or null
+     */
+    protected static boolean isBlankOrNull(Object value) {
+        if (value == null) return true;
+        if (value instanceof Number || value instanceof Boolean) return false;
+        CharSequence s = value instanceof CharSequence ? (CharSequence) value : value.toString();
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) > ' ') return false;
+        }
+        return true;
+    }
 }
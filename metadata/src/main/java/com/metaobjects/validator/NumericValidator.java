@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 
 import com.metaobjects.*;
+import com.metaobjects.field.MetaField;
 import com.metaobjects.registry.MetaDataRegistry;
 import org.apache.commons.validator.GenericValidator;
 
@@ -54,4 +55,17 @@ public class NumericValidator extends MetaValidator {
             }
         }
     }
+
+    @Override
+    public CompiledValidator compile(MetaField field) {
+        String msg = getMessage("The value is not a valid number");
+        return CompiledValidator.of(SUBTYPE_NUMERIC, msg, (object, value) -> {
+            if (isBlankOrNull(value)) return true;
+            CharSequence val = value instanceof CharSequence ? (CharSequence) value : value.toString();
+            for (int i = 0; i < val.length(); i++) {
+                if (val.charAt(i) < '0' || val.charAt(i) > '9') return false;
+            }
+            return true;
+        });
+    }
 }
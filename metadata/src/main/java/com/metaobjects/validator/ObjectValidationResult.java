@@ -0,0 +1,141 @@
+package com.metaobjects.validator;
+
+import com.metaobjects.field.MetaField;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reusable result of validating an object with its field validators, see
+ * {@link com.metaobjects.object.MetaObject#validate(Object, ValidationMode, ObjectValidationResult)}.
+ * Each error holds the field, the compiled validator and the invalid value; the code is
+ * that of the validator and the message is only formatted when it is asked for, unless
+ * the validator already had one.  The
+ * result is reset before each validation and keeps its storage, so a result reused by
+ * the same thread does not allocate once it has grown to the number of errors.
+ * It is not thread-safe.
+ *
+ * @since 6.0.0
+ */
+public final class ObjectValidationResult {
+
+    private static final int INITIAL_SIZE = 4;
+
+    private ValidationMode mode = ValidationMode.COLLECT_ALL;
+    private MetaField[] fields = new MetaField[INITIAL_SIZE];
+    private CompiledValidator[] validators = new CompiledValidator[INITIAL_SIZE];
+    private Object[] values = new Object[INITIAL_SIZE];
+    private String[] messages = new String[INITIAL_SIZE];
+    private int size = 0;
+
+    /**
+     * Clears the errors for a new validation
+     * @param mode whether to stop at the first error
+     */
+    public void reset(ValidationMode mode) {
+        if (mode == null) throw new IllegalArgumentException("Validation mode cannot be null");
+        this.mode = mode;
+        Arrays.fill(fields, 0, size, null);
+        Arrays.fill(validators, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        Arrays.fill(messages, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Adds an error for the value of the field
+     * @param field the field with the invalid value
+     * @param validator the validator that failed
+     * @param value the invalid value
+     * @return true if validation should continue with the next check
+     */
+    public boolean addError(MetaField field, CompiledValidator validator, Object value) {
+        return addError(field, validator, value, null);
+    }
+
+    /**
+     * Adds an error for the value of the field with a message already formatted,
+     * such as that of the exception thrown by a validator
+     * @param field the field with the invalid value
+     * @param validator the validator that failed
+     * @param value the invalid value
+     * @param message the error message, or null to have the validator format it
+     * @return true if validation should continue with the next check
+     */
+    public boolean addError(MetaField field, CompiledValidator validator, Object value, String message) {
+        if (size == fields.length) {
+            int n = size * 2;
+            fields = Arrays.copyOf(fields, n);
+            validators = Arrays.copyOf(validators, n);
+            values = Arrays.copyOf(values, n);
+            messages = Arrays.copyOf(messages, n);
+        }
+        fields[size] = field;
+        validators[size] = validator;
+        values[size] = value;
+        messages[size] = message;
+        size++;
+        return mode != ValidationMode.FAIL_FAST;
+    }
+
+    public ValidationMode getMode() {
+        return mode;
+    }
+
+    public boolean isValid() {
+        return size == 0;
+    }
+
+    public int getErrorCount() {
+        return size;
+    }
+
+    public MetaField getField(int i) {
+        return fields[checkIndex(i)];
+    }
+
+    public String getCode(int i) {
+        return validators[checkIndex(i)].getCode();
+    }
+
+    public Object getValue(int i) {
+        return values[checkIndex(i)];
+    }
+
+    /**
+     * The message of the error, formatted by its validator
+     */
+    public String getMessage(int i) {
+        checkIndex(i);
+        return messages[i] != null ? messages[i] : validators[i].getMessage(values[i]);
+    }
+
+    /**
+     * The messages of all errors, formatted by their validators
+     */
+    public List<String> getMessages() {
+        List<String> l = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            l.add(getMessage(i));
+        }
+        return l;
+    }
+
+    private int checkIndex(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Error index " + i + " out of " + size);
+        }
+        return i;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder b = new StringBuilder("ObjectValidationResult[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) b.append(", ");
+            b.append(fields[i].getName()).append(':').append(validators[i].getCode());
+        }
+        return b.append(']').toString();
+    }
+}
@@ -8,9 +8,13 @@ package com.metaobjects.validator;
 
 import com.metaobjects.*;
 import com.metaobjects.attr.StringAttribute;
+import com.metaobjects.cache.PatternCache;
+import com.metaobjects.field.MetaField;
 import com.metaobjects.registry.MetaDataRegistry;
 import org.apache.commons.validator.GenericValidator;
 
+import java.util.regex.Pattern;
+
 import static com.metaobjects.validator.MetaValidator.TYPE_VALIDATOR;
 import static com.metaobjects.validator.MetaValidator.SUBTYPE_BASE;
 
@@ -40,24 +44,54 @@ public class RegexValidator extends MetaValidator {
         });
     }
 
+    // Compiled mask, discarded when the attributes change
+    private transient volatile Pattern pattern = null;
+
     public RegexValidator(String name) {
         super(SUBTYPE_REGEX, name);
     }
 
+    /**
+     * Get the compiled mask, compiled once and shared with other metadata of the same mask
+     * @return the compiled pattern
+     */
+    public Pattern getPattern() {
+        Pattern p = pattern;
+        if (p == null) {
+            p = PatternCache.compile(getMetaAttr(ATTR_MASK).getValueAsString());
+            pattern = p;
+        }
+        return p;
+    }
+
+    @Override
+    protected void invalidateCaches(String childName) {
+        pattern = null;
+        super.invalidateCaches(childName);
+    }
+
     /**
      * Validates the value of the field in the specified object
      */
     public void validate(Object object, Object value)
     //throws MetaException
     {
-        String mask = getMetaAttr(ATTR_MASK).getValueAsString();
-        String msg = getMessage("Invalid value format");
-
         String val = (value == null) ? null : value.toString();
 
         if (!GenericValidator.isBlankOrNull(val)
-                && !GenericValidator.matchRegexp(val, mask)) {
-            throw new InvalidValueException(msg);
+                && !getPattern().matcher(val).matches()) {
+            throw new InvalidValueException(getMessage("Invalid value format"));
         }
     }
+
+    @Override
+    public CompiledValidator compile(MetaField field) {
+        Pattern pattern = getPattern();
+        String msg = getMessage("Invalid value format");
+        return CompiledValidator.of(SUBTYPE_REGEX, msg, (object, value) -> {
+            if (isBlankOrNull(value)) return true;
+            CharSequence val = value instanceof CharSequence ? (CharSequence) value : value.toString();
+            return pattern.matcher(val).matches();
+        });
+    }
 }
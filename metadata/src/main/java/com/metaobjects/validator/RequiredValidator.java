@@ -7,6 +7,7 @@
 package com.metaobjects.validator;
 
 import com.metaobjects.*;
+import com.metaobjects.field.MetaField;
 import com.metaobjects.registry.MetaDataRegistry;
 
 import org.apache.commons.validator.GenericValidator;
@@ -49,4 +50,10 @@ public class RequiredValidator extends MetaValidator
             throw new InvalidValueException(msg);
         }
     }
+
+    @Override
+    public CompiledValidator compile(MetaField field) {
+        String msg = getMessage("A value is required on field "+getParent().getShortName());
+        return CompiledValidator.of(SUBTYPE_REQUIRED, msg, (object, value) -> !isBlankOrNull(value));
+    }
 }
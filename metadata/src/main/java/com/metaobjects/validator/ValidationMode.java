@@ -0,0 +1,15 @@
+package com.metaobjects.validator;
+
+/**
+ * How validating an object reports the invalid values of its fields
+ *
+ * @since 6.0.0
+ */
+public enum ValidationMode {
+
+    /** Stop at the first invalid value */
+    FAIL_FAST,
+
+    /** Check every field and collect all invalid values */
+    COLLECT_ALL
+}
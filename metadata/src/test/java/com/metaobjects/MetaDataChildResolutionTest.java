@@ -0,0 +1,191 @@
+package com.metaobjects;
+
+import com.metaobjects.attr.MetaAttribute;
+import com.metaobjects.attr.StringAttribute;
+import com.metaobjects.field.IntegerField;
+import com.metaobjects.field.MetaField;
+import com.metaobjects.field.StringField;
+import com.metaobjects.object.pojo.PojoMetaObject;
+import com.metaobjects.registry.MetaDataRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for indexed child resolution in MetaData, covering local lookups,
+ * lookups through the super data chain, not-found handling, and the cached
+ * inheritance-resolved child views.
+ */
+public class MetaDataChildResolutionTest {
+
+    private PojoMetaObject base;
+    private PojoMetaObject derived;
+
+    @Before
+    public void setUp() {
+        MetaDataRegistry.getInstance();
+
+        base = new PojoMetaObject("Base");
+        base.addMetaField(new StringField("name"));
+        base.addMetaField(new IntegerField("count"));
+        base.addMetaAttr(StringAttribute.create("label", "Base Label"));
+
+        derived = new PojoMetaObject("Derived");
+        derived.setSuperData(base);
+        derived.addMetaField(new StringField("email"));
+    }
+
+    @Test
+    public void testLocalLookupByTypeAndName() {
+        MetaData d = base.getChildOfType(MetaField.TYPE_FIELD, "name");
+        assertEquals("name", d.getName());
+        assertTrue(d instanceof StringField);
+
+        assertNotNull(base.getChild("count", IntegerField.class));
+        assertNotNull(base.getChild("count", MetaField.class));
+    }
+
+    @Test
+    public void testTypeOrClassMismatchIsNotFound() {
+        assertFalse(base.hasChild("name", MetaAttribute.class));
+        assertFalse(base.hasChild("count", StringField.class));
+        assertFalse(base.hasChildOfType(MetaAttribute.TYPE_ATTR, "name"));
+    }
+
+    @Test
+    public void testLookupThroughSuperData() {
+        assertNotNull(derived.getChild("email", MetaField.class));
+        assertSame(base.getChild("name", MetaField.class), derived.getChild("name", MetaField.class));
+        assertSame(base.getChildOfType(MetaField.TYPE_FIELD, "count"), derived.getChildOfType(MetaField.TYPE_FIELD, "count"));
+
+        assertNull(derived.getChild("name", MetaField.class, false, false));
+    }
+
+    @Test
+    public void testLocalChildOverridesSuperData() {
+        StringField override = new StringField("name");
+        derived.addMetaField(override);
+
+        assertSame(override, derived.getChild("name", MetaField.class));
+        assertNotSame(override, base.getChild("name", MetaField.class));
+    }
+
+    @Test
+    public void testAttributeLookupThroughSuperData() {
+        assertTrue(derived.hasMetaAttr("label"));
+        assertFalse(derived.hasMetaAttr("label", false));
+        assertEquals("Base Label", derived.getMetaAttr("label").getValueAsString());
+    }
+
+    @Test
+    public void testNotFound() {
+        assertNull(derived.getChild("missing", MetaField.class, true, false));
+
+        try {
+            derived.getChild("missing", MetaField.class);
+            fail("Expected MetaDataNotFoundException");
+        } catch (MetaDataNotFoundException e) {
+            assertEquals("missing", e.getName());
+        }
+    }
+
+    @Test
+    public void testChildViewIsCachedAndImmutable() {
+        List<MetaField> fields = derived.getChildren(MetaField.class);
+        assertEquals(3, fields.size());
+        assertEquals("email", fields.get(0).getName());
+        assertSame(fields, derived.getMetaFields());
+        assertSame(fields, derived.getChildren(MetaField.class));
+
+        try {
+            fields.add(new StringField("other"));
+            fail("Expected child view to be immutable");
+        } catch (UnsupportedOperationException expected) {
+        }
+    }
+
+    @Test
+    public void testChildViewInvalidatedByChanges() {
+        List<MetaField> before = derived.getChildren(MetaField.class);
+
+        // Change on the super data
+        base.addMetaField(new StringField("title"));
+        List<MetaField> afterSuperAdd = derived.getChildren(MetaField.class);
+        assertNotSame(before, afterSuperAdd);
+        assertEquals(4, afterSuperAdd.size());
+        assertEquals(1, derived.getMetaFields(false).size());
+
+        // Local override replaces the inherited field in the view
+        derived.addMetaField(new IntegerField("title"));
+        List<MetaField> afterOverride = derived.getChildren(MetaField.class);
+        assertEquals(4, afterOverride.size());
+        assertTrue(afterOverride.contains(derived.getChild("title", MetaField.class, false, false)));
+
+        // Deleting from the super data
+        base.deleteChild(base.getChild("count", MetaField.class));
+        assertEquals(3, derived.getMetaFields().size());
+
+        // Replacing the super data
+        derived.setSuperData(null);
+        assertEquals(2, derived.getMetaFields().size());
+    }
+
+    @Test
+    public void testNegativeLookupsDoNotThrow() {
+        assertFalse(derived.hasMetaField("missing"));
+        assertFalse(derived.findMetaField("missing").isPresent());
+        assertFalse(derived.hasMetaAttr("missing"));
+        assertFalse(derived.hasChild("missing", MetaField.class));
+        assertFalse(derived.hasRelationship("missing"));
+        assertFalse(derived.findIdentity("missing").isPresent());
+
+        // Misses are not cached, so the added child is found
+        derived.addMetaField(new StringField("missing"));
+        assertTrue(derived.hasMetaField("missing"));
+        assertEquals("missing", derived.getMetaField("missing").getName());
+    }
+
+    @Test
+    public void testFieldFoundThroughSuperObject() {
+        assertTrue(derived.hasMetaField("name"));
+        assertSame(base.getMetaField("name"), derived.getMetaField("name"));
+    }
+
+    @Test
+    public void testFindMetaFieldIsLocal() {
+        assertTrue(derived.findMetaField("email").isPresent());
+        assertFalse(derived.findMetaField("name").isPresent());
+        assertTrue(base.findMetaField("name").isPresent());
+    }
+
+    @Test
+    public void testMissesAreNotCached() {
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(derived.hasMetaField("missing" + i));
+            assertFalse(derived.hasRelationship("missing" + i));
+            assertFalse(derived.findIdentity("missing" + i).isPresent());
+        }
+        assertTrue(derived.getCache().size() < 1000);
+    }
+
+    @Test
+    public void testNotFoundExceptionsHaveStackTraces() {
+        try {
+            derived.getMetaField("missing");
+            fail("Expected MetaDataNotFoundException");
+        } catch (MetaDataNotFoundException e) {
+            assertEquals("missing", e.getName());
+            assertTrue(e.getStackTrace().length > 0);
+        }
+
+        try {
+            derived.getChild("missing", MetaField.class);
+            fail("Expected MetaDataNotFoundException");
+        } catch (MetaDataNotFoundException e) {
+            assertTrue(e.getStackTrace().length > 0);
+        }
+    }
+}
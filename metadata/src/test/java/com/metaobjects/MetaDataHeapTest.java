@@ -0,0 +1,158 @@
+package com.metaobjects;
+
+import com.metaobjects.attr.MetaAttribute;
+import com.metaobjects.attr.StringAttribute;
+import com.metaobjects.cache.CacheKey;
+import com.metaobjects.cache.CacheStrategy;
+import com.metaobjects.collections.IndexedMetaDataCollection;
+import com.metaobjects.field.StringField;
+import com.metaobjects.registry.MetaDataRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * Heap footprint of MetaData nodes, checking that leaf nodes do not allocate a
+ * cache, child indices or child views when they are read.
+ */
+public class MetaDataHeapTest {
+
+    private static final CacheKey<String> KEY = CacheKey.of("heapTest()");
+
+    private static final AtomicInteger cachesCreated = new AtomicInteger();
+
+    /** Attribute that counts the caches it creates */
+    private static class CountingAttribute extends StringAttribute {
+        CountingAttribute(String name) {
+            super(name);
+        }
+
+        @Override
+        protected CacheStrategy createCache() {
+            cachesCreated.incrementAndGet();
+            return super.createCache();
+        }
+    }
+
+    @Before
+    public void setUp() {
+        MetaDataRegistry.getInstance();
+        cachesCreated.set(0);
+    }
+
+    @Test
+    public void testReadsDoNotAllocateCache() {
+        CountingAttribute attr = new CountingAttribute("label");
+
+        assertNull(attr.getCacheValue(KEY));
+        assertNull(attr.getCacheValue(KEY, "arg"));
+        assertNull(attr.getCacheValue("legacy"));
+        assertFalse(attr.hasCacheValue("legacy"));
+        assertFalse(attr.getCacheValue("legacy", String.class).isPresent());
+        assertNull(attr.removeCacheValue("legacy"));
+        attr.flushCaches();
+        assertEquals(0, cachesCreated.get());
+
+        assertEquals("v", attr.useCache(KEY, () -> "v"));
+        assertEquals("v", attr.useCache(KEY, () -> "other"));
+        assertEquals(1, cachesCreated.get());
+    }
+
+    @Test
+    public void testEmptyChildrenReads() {
+        StringAttribute attr = new StringAttribute("label");
+
+        assertTrue(attr.getChildren().isEmpty());
+        assertTrue(attr.getChildren(MetaAttribute.class).isEmpty());
+        assertFalse(attr.hasMetaAttr("missing"));
+
+        IndexedMetaDataCollection c = new IndexedMetaDataCollection();
+        assertTrue(c.isEmpty());
+        assertFalse(c.iterator().hasNext());
+        assertNull(c.getByTypeAndName(MetaAttribute.TYPE_ATTR, "x"));
+        assertTrue(c.findByType(MetaAttribute.TYPE_ATTR).isEmpty());
+        assertTrue(c.findByClass(StringAttribute.class).isEmpty());
+        assertNull(c.removeByName("x"));
+        assertFalse(c.remove(attr));
+        assertTrue(c.getStats().isConsistent());
+        c.clear();
+        c.rebuildIndices();
+
+        assertTrue(c.add(attr));
+        assertSame(attr, c.getByTypeAndName(MetaAttribute.TYPE_ATTR, "label"));
+        assertEquals(1, c.size());
+
+        IndexedMetaDataCollection frozen = new IndexedMetaDataCollection();
+        frozen.freeze();
+        assertTrue(frozen.isEmpty());
+    }
+
+    @Test
+    public void testFreezeWhileShared() throws InterruptedException {
+        for (int round = 0; round < 200; round++) {
+            IndexedMetaDataCollection c = new IndexedMetaDataCollection();
+            StringAttribute attr = StringAttribute.create("label", "x");
+            c.add(attr);
+
+            // Reads racing with freeze() neither fail nor miss the child
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            Thread reader = new Thread(() -> {
+                try {
+                    while (!c.isFrozen()) {
+                        assertSame(attr, c.getByName("label"));
+                        assertSame(attr, c.getByTypeAndName(MetaAttribute.TYPE_ATTR, "label"));
+                        assertEquals(1, c.findByType(MetaAttribute.TYPE_ATTR).size());
+                    }
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            });
+            reader.start();
+            c.freeze();
+            reader.join();
+            assertNull(failure.get());
+            assertSame(attr, c.getByName("label"));
+        }
+    }
+
+    @Test
+    public void testLeafChildrenReadsDoNotAllocate() {
+        java.lang.management.ThreadMXBean tmx = ManagementFactory.getThreadMXBean();
+        if (!(tmx instanceof com.sun.management.ThreadMXBean)) return;
+        com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) tmx;
+        if (!mx.isThreadAllocatedMemorySupported() || !mx.isThreadAllocatedMemoryEnabled()) return;
+
+        StringAttribute attr = new StringAttribute("label");
+        for (int i = 0; i < 20_000; i++) {
+            attr.getChildren();
+            attr.getChildren(MetaAttribute.class);
+        }
+
+        int n = 100_000;
+        long tid = Thread.currentThread().getId();
+        long before = mx.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < n; i++) {
+            attr.getChildren();
+            attr.getChildren(MetaAttribute.class);
+        }
+        long allocated = mx.getThreadAllocatedBytes(tid) - before;
+
+        assertTrue("Allocated " + allocated + " bytes for " + n + " reads", allocated < n);
+    }
+
+    @Test
+    public void testLeafWithSuperDataChildren() {
+        StringField parent = new StringField("parent");
+        parent.addMetaAttr(StringAttribute.create("label", "x"));
+        StringField child = new StringField("child");
+        child.setSuperData(parent);
+
+        assertTrue(child.getChildren(MetaAttribute.class, false).isEmpty());
+        assertEquals(1, child.getChildren(MetaAttribute.class, true).size());
+    }
+}
@@ -0,0 +1,175 @@
+package com.metaobjects.cache;
+
+import com.metaobjects.field.MetaField;
+import com.metaobjects.field.StringField;
+import com.metaobjects.object.pojo.PojoMetaObject;
+import com.metaobjects.registry.MetaDataRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for typed CacheKey slots on MetaData and HybridCache.
+ */
+public class CacheKeyTest {
+
+    private static final CacheKey<String> UPPER = CacheKey.of("upper()");
+    private static final CacheKey<String> UPPER_OTHER = CacheKey.of("upper()");
+    private static final CacheKey<String> NOTHING = CacheKey.of("nothing()");
+    private static final CacheKey<String> BY_NAME = CacheKey.byChildName("byName()");
+
+    private PojoMetaObject object;
+
+    @Before
+    public void setUp() {
+        MetaDataRegistry.getInstance();
+
+        object = new PojoMetaObject("CacheTest");
+        object.addMetaField(new StringField("name"));
+    }
+
+    @Test
+    public void testKeysAreComparedByIdentity() {
+        object.setCacheValue(UPPER, "A");
+
+        assertEquals("A", object.getCacheValue(UPPER));
+        assertNull(object.getCacheValue(UPPER_OTHER));
+    }
+
+    @Test
+    public void testUseCacheWithArgument() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertEquals("ABC", object.useCache(UPPER, "abc", a -> { calls.incrementAndGet(); return a.toUpperCase(); }));
+        assertEquals("ABC", object.useCache(UPPER, "abc", a -> { calls.incrementAndGet(); return a.toUpperCase(); }));
+        assertEquals("XYZ", object.useCache(UPPER, "xyz", a -> { calls.incrementAndGet(); return a.toUpperCase(); }));
+        assertEquals(2, calls.get());
+
+        assertEquals("ABC", object.getCacheValue(UPPER, "abc"));
+        assertNull(object.getCacheValue(UPPER, "def"));
+    }
+
+    @Test
+    public void testNullResultIsCached() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertNull(object.useCache(NOTHING, () -> { calls.incrementAndGet(); return null; }));
+        assertNull(object.useCache(NOTHING, () -> { calls.incrementAndGet(); return null; }));
+        assertEquals(1, calls.get());
+        assertNull(object.getCacheValue(NOTHING));
+    }
+
+    @Test
+    public void testFlushedWhenChildrenChange() {
+        MetaField name = object.getMetaField("name");
+        object.setCacheValue(UPPER, "A");
+        assertSame(name, object.getMetaField("name"));
+
+        object.addMetaField(new StringField("other"));
+
+        assertNull(object.getCacheValue(UPPER));
+        assertEquals("other", object.getMetaField("other").getName());
+    }
+
+    @Test
+    public void testChildNameScopedEntriesSurviveOtherChanges() {
+        AtomicInteger calls = new AtomicInteger();
+        object.useCache(BY_NAME, "name", n -> { calls.incrementAndGet(); return n; });
+        object.useCache(BY_NAME, "other", n -> { calls.incrementAndGet(); return null; });
+        object.setCacheValue(UPPER, "A");
+
+        object.addMetaField(new StringField("other"));
+
+        assertEquals("name", object.getCacheValue(BY_NAME, "name"));
+        assertNull(object.getCacheValue(BY_NAME, "other"));
+        assertNull(object.getCacheValue(UPPER));
+
+        object.useCache(BY_NAME, "other", n -> { calls.incrementAndGet(); return n; });
+        assertEquals("other", object.getCacheValue(BY_NAME, "other"));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void testInvalidationPropagatesToSubData() {
+        PojoMetaObject sub = new PojoMetaObject("CacheTestSub");
+        sub.setSuperObject(object);
+        PojoMetaObject subSub = new PojoMetaObject("CacheTestSubSub");
+        subSub.setSuperObject(sub);
+
+        sub.setCacheValue(UPPER, "S");
+        subSub.setCacheValue(UPPER, "SS");
+        subSub.useCache(BY_NAME, "extra", n -> null);
+        subSub.useCache(BY_NAME, "name", n -> n);
+
+        object.addMetaField(new StringField("extra"));
+
+        assertNull(sub.getCacheValue(UPPER));
+        assertNull(subSub.getCacheValue(UPPER));
+        assertEquals("name", subSub.getCacheValue(BY_NAME, "name"));
+        assertEquals("extra", subSub.getMetaField("extra").getName());
+    }
+
+    @Test
+    public void testSuperDataKeepsCacheWhenSubDataChanges() {
+        PojoMetaObject sub = new PojoMetaObject("CacheTestSub");
+        sub.setSuperObject(object);
+        object.setCacheValue(UPPER, "A");
+
+        sub.addMetaField(new StringField("subOnly"));
+
+        assertEquals("A", object.getCacheValue(UPPER));
+    }
+
+    @Test
+    public void testReplacedSuperDataNoLongerInvalidates() {
+        PojoMetaObject sub = new PojoMetaObject("CacheTestSub");
+        sub.setSuperObject(object);
+        sub.setSuperObject(null);
+        sub.setCacheValue(UPPER, "S");
+
+        object.addMetaField(new StringField("other"));
+
+        assertEquals("S", sub.getCacheValue(UPPER));
+    }
+
+    @Test
+    public void testInvalidateKeepsUnaffectedEntries() {
+        for (CacheStrategy cache : new CacheStrategy[] { new HybridCache(), new ConcurrentCache(), new BoundedCache(8) }) {
+            cache.put("legacy", "L");
+            cache.put(UPPER, "U");
+            cache.put(BY_NAME, "a", "A");
+            cache.put(BY_NAME, "b", "B");
+
+            cache.invalidate("a");
+
+            assertNull(cache.get("legacy"));
+            assertNull(cache.get(UPPER));
+            assertNull(cache.get(BY_NAME, "a"));
+            assertEquals("B", cache.get(BY_NAME, "b"));
+            assertEquals(1, cache.size());
+
+            cache.invalidate(null);
+            assertTrue(cache.isEmpty());
+        }
+    }
+
+    @Test
+    public void testHybridCacheStats() {
+        HybridCache cache = new HybridCache();
+        assertNull(cache.get(UPPER, "a"));
+        cache.put(UPPER, "a", "A");
+        assertEquals("A", cache.get(UPPER, "a"));
+
+        CacheStrategy.CacheStats stats = cache.getStats().orElseThrow();
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+        assertEquals(1, cache.size());
+        assertTrue(cache.keySet().contains("upper(){a}"));
+
+        cache.clear();
+        assertTrue(cache.isEmpty());
+    }
+}
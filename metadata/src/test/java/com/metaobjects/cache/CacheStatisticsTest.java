@@ -0,0 +1,154 @@
+package com.metaobjects.cache;
+
+import com.metaobjects.field.StringField;
+import com.metaobjects.loader.MetaDataLoader;
+import com.metaobjects.object.MetaObject;
+import com.metaobjects.object.mapped.MappedMetaObject;
+import com.metaobjects.registry.ServiceRegistryFactory;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the per-loader CacheStatistics, their JMX MBean and the
+ * CacheMetricsReporter SPI.
+ */
+public class CacheStatisticsTest {
+
+    private MetaDataLoader loader = null;
+
+    /** Reporter that remembers the statistics it was given */
+    private static class TestReporter implements CacheMetricsReporter {
+        final List<CacheStatistics> registered = new ArrayList<>();
+
+        @Override
+        public void register(CacheStatistics stats) {
+            registered.add(stats);
+        }
+
+        @Override
+        public void unregister(CacheStatistics stats) {
+            registered.remove(stats);
+        }
+    }
+
+    @After
+    public void destroyLoader() {
+        if (loader != null && !loader.isDestroyed()) loader.destroy();
+    }
+
+    private MetaObject createLoader(String name, boolean statsEnabled) {
+        loader = MetaDataLoader.createManual(false, name);
+        loader.getLoaderOptions().setCacheStatsEnabled(statsEnabled);
+        loader.init();
+
+        MappedMetaObject foo = MappedMetaObject.create("foo");
+        foo.addMetaField(StringField.create("bar", null));
+        foo.addMetaField(StringField.create("baz", null));
+        loader.addChild(foo);
+        return loader.getMetaObjectByName("foo");
+    }
+
+    @Test
+    public void testFamilyOf() {
+        assertEquals("getMetaField()", CacheStatistics.familyOf(CacheKey.of("getMetaField()")));
+        assertEquals("getMetaField()", CacheStatistics.familyOf("getMetaField(name)"));
+        assertEquals("QuickCache-", CacheStatistics.familyOf("QuickCache-foo"));
+        assertEquals("getterMethod", CacheStatistics.familyOf("getterMethod{bar}"));
+        assertEquals("plain", CacheStatistics.familyOf("plain"));
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        createLoader("cache-stats-off", false);
+        assertNull(loader.getCacheStatistics());
+    }
+
+    @Test
+    public void testAggregatesByFamily() {
+        MetaObject mo = createLoader("cache-stats-family", true);
+        CacheStatistics stats = loader.getCacheStatistics();
+        assertNotNull(stats);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("bar", mo.getMetaField("bar").getName());
+            assertTrue(mo.hasMetaField("baz"));
+            loader.getMetaDataByName(MetaObject.class, "foo");
+        }
+
+        Map<String, CacheStrategy.CacheStats> families = stats.getFamilyStats();
+        CacheStrategy.CacheStats fields = families.get("getMetaField()");
+        assertNotNull(families.keySet().toString(), fields);
+        // The first lookup of each name misses and loads, the repeats hit
+        assertEquals(fields.toString(), 2, fields.missCount());
+        assertEquals(fields.toString(), 2, fields.loadCount());
+        assertEquals(fields.toString(), 8, fields.hitCount());
+        assertEquals(fields.toString(), 0.8, fields.hitRate(), 0.0001);
+        assertTrue(families.containsKey("QuickCache"));
+
+        assertEquals(stats.getHitCount(), stats.getTotalStats().hitCount());
+        assertEquals(Long.valueOf(fields.hitCount()), stats.getHitCountsByFamily().get("getMetaField()"));
+
+        stats.reset();
+        assertEquals(0, stats.getHitCount());
+        assertEquals(0, stats.getMissCount());
+    }
+
+    @Test
+    public void testCachesCreatedBeforeInitRecord() {
+        loader = MetaDataLoader.createManual(false, "cache-stats-early");
+        loader.getLoaderOptions().setCacheStatsEnabled(true);
+        loader.setCacheValue("early", "value");
+
+        loader.init();
+        assertEquals("value", loader.getCacheValue("early", String.class).orElse(null));
+
+        CacheStrategy.CacheStats early = loader.getCacheStatistics().getFamilyStats().get("early");
+        assertNotNull(early);
+        assertEquals(early.toString(), 1, early.hitCount());
+    }
+
+    @Test
+    public void testJmxRegistration() throws Exception {
+        MetaObject mo = createLoader("cache-stats-jmx", true);
+        mo.getMetaField("bar");
+        mo.getMetaField("bar");
+
+        ObjectName name = loader.getCacheStatistics().getObjectName();
+        assertNotNull(name);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        assertTrue(server.isRegistered(name));
+        assertEquals("cache-stats-jmx", server.getAttribute(name, "LoaderName"));
+        assertTrue((Long) server.getAttribute(name, "HitCount") > 0);
+        assertNotNull(server.getAttribute(name, "HitCountsByFamily"));
+
+        loader.destroy();
+        assertFalse(server.isRegistered(name));
+        assertNull(loader.getCacheStatistics());
+    }
+
+    @Test
+    public void testMetricsReporter() {
+        TestReporter reporter = new TestReporter();
+        ServiceRegistryFactory.getDefault().registerService(CacheMetricsReporter.class, reporter);
+        try {
+            createLoader("cache-stats-reporter", true);
+            assertEquals(1, reporter.registered.size());
+            assertSame(loader.getCacheStatistics(), reporter.registered.get(0));
+
+            loader.destroy();
+            assertTrue(reporter.registered.isEmpty());
+        } finally {
+            ServiceRegistryFactory.getDefault().unregisterService(CacheMetricsReporter.class, reporter);
+        }
+    }
+}
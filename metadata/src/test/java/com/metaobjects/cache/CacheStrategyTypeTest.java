@@ -0,0 +1,196 @@
+package com.metaobjects.cache;
+
+import com.metaobjects.field.StringField;
+import com.metaobjects.loader.LoaderOptions;
+import com.metaobjects.loader.MetaDataLoader;
+import com.metaobjects.object.MetaObject;
+import com.metaobjects.object.mapped.MappedMetaObject;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the ConcurrentCache, BoundedCache and WeakValueCache strategies and
+ * their selection through LoaderOptions.
+ */
+public class CacheStrategyTypeTest {
+
+    private static final CacheKey<String> UPPER = CacheKey.of("upper()");
+
+    private MetaDataLoader loader = null;
+
+    @After
+    public void destroyLoader() {
+        if (loader != null) loader.destroy();
+    }
+
+    @Test
+    public void testConcurrentCache() {
+        ConcurrentCache cache = new ConcurrentCache();
+        cache.put("a", "A");
+        cache.put(UPPER, "U");
+        cache.put(UPPER, "x", "X");
+
+        assertEquals("A", cache.get("a", String.class).orElse(null));
+        assertEquals("U", cache.get(UPPER));
+        assertEquals("X", cache.get(UPPER, "x"));
+        assertNull(cache.get(UPPER, "y"));
+        assertEquals(3, cache.size());
+        assertTrue(cache.keySet().contains("upper(){x}"));
+
+        CacheStrategy.CacheStats stats = cache.getStats().orElseThrow();
+        assertEquals(3, stats.hitCount());
+        assertEquals(1, stats.missCount());
+
+        assertEquals("A", cache.remove("a"));
+        assertFalse(cache.containsKey("a"));
+
+        cache.clear();
+        assertTrue(cache.isEmpty());
+    }
+
+    @Test
+    public void testBoundedCacheEvicts() {
+        BoundedCache cache = new BoundedCache(4);
+        for (int i = 0; i < 100; i++) {
+            cache.put(UPPER, i, "v" + i);
+            assertTrue("size " + cache.size(), cache.size() <= 4);
+        }
+
+        assertEquals(96, cache.getStats().orElseThrow().evictionCount());
+        assertEquals("v99", cache.get(UPPER, 99));
+        assertNull(cache.get(UPPER, 0));
+    }
+
+    @Test
+    public void testBoundedCacheKeepsReferencedEntries() {
+        BoundedCache cache = new BoundedCache(3);
+        cache.put("hot", "H");
+        for (int i = 0; i < 20; i++) {
+            assertEquals("H", cache.get("hot"));
+            cache.put("cold" + i, i);
+        }
+        assertEquals("H", cache.get("hot"));
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void testBoundedCacheReplace() {
+        BoundedCache cache = new BoundedCache(2);
+        for (int i = 0; i < 10; i++) {
+            cache.put("a", i);
+        }
+        cache.put("b", "B");
+        assertEquals(9, cache.get("a"));
+        assertEquals("B", cache.get("b"));
+        assertEquals(0, cache.getStats().orElseThrow().evictionCount());
+    }
+
+    @Test
+    public void testBoundedCacheChurnDoesNotGrowClock() {
+        BoundedCache cache = new BoundedCache(4);
+        for (int i = 0; i < 10_000; i++) {
+            cache.put("a", i);
+            cache.put(UPPER, "x", i);
+            cache.remove("a");
+            cache.invalidate(null);
+        }
+        assertTrue("queue " + cache.getQueueLength(), cache.getQueueLength() <= 2 * 4 + 1);
+        assertEquals(0, cache.size());
+
+        cache.put("b", "B");
+        assertEquals("B", cache.get("b"));
+    }
+
+        @Test(expected = IllegalArgumentException.class)
+    public void testBoundedCacheInvalidSize() {
+        new BoundedCache(0);
+    }
+
+    @Test
+    public void testWeakValueCacheHoldsReachableValues() {
+        WeakValueCache cache = new WeakValueCache();
+        Object value = new Object();
+        cache.put(UPPER, "a", value);
+
+        System.gc();
+        assertSame(value, cache.get(UPPER, "a"));
+    }
+
+    @Test
+    public void testParse() {
+        assertEquals(CacheStrategyType.BOUNDED, CacheStrategyType.parse(" bounded "));
+        assertEquals(CacheStrategyType.WEAK, CacheStrategyType.parse("WEAK"));
+        assertTrue(CacheStrategyType.CONCURRENT.newCache(1) instanceof ConcurrentCache);
+        assertTrue(CacheStrategyType.HYBRID.newCache(1) instanceof HybridCache);
+        assertEquals(8, ((BoundedCache) CacheStrategyType.BOUNDED.newCache(8)).getMaxSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseUnknown() {
+        CacheStrategyType.parse("lru");
+    }
+
+    @Test
+    public void testLoaderOptions() {
+        LoaderOptions options = LoaderOptions.create(false, false, true);
+        assertEquals(CacheStrategyType.HYBRID, options.getCacheStrategy());
+        assertTrue(options.newCache() instanceof HybridCache);
+
+        options.setCacheStrategy(CacheStrategyType.BOUNDED).setCacheMaxSize(16);
+        assertEquals(16, ((BoundedCache) options.newCache()).getMaxSize());
+        assertNotEquals(LoaderOptions.create(false, false, true), options);
+        assertTrue(options.toString().contains("cacheStrategy=BOUNDED"));
+    }
+
+    @Test
+    public void testBoundedStrategyPerLoader() {
+        loader = MetaDataLoader.createManual(false, "cache-bounded");
+        loader.getLoaderOptions()
+                .setCacheStrategy(CacheStrategyType.BOUNDED)
+                .setCacheMaxSize(2);
+        loader.init();
+
+        MappedMetaObject foo = MappedMetaObject.create("foo");
+        foo.addMetaField(StringField.create("bar", null));
+        loader.addChild(foo);
+
+        MetaObject mo = loader.getMetaObjectByName("foo");
+        for (int i = 0; i < 10; i++) {
+            mo.useCache(UPPER, i, a -> "v" + a);
+        }
+
+        int cached = 0;
+        for (int i = 0; i < 10; i++) {
+            if (mo.getCacheValue(UPPER, i) != null) cached++;
+        }
+        assertTrue("cached " + cached, cached <= 2);
+        assertEquals("bar", mo.getMetaField("bar").getName());
+    }
+
+    @Test
+    public void testCachesCreatedBeforeAttachUseLoaderStrategy() {
+        loader = MetaDataLoader.createManual(false, "cache-attach");
+        loader.getLoaderOptions().setCacheStrategy(CacheStrategyType.BOUNDED).setCacheMaxSize(2);
+        loader.init();
+
+        MappedMetaObject foo = MappedMetaObject.create("foo");
+        StringField bar = StringField.create("bar", null);
+        foo.addMetaField(bar);
+        for (int i = 0; i < 10; i++) {
+            bar.useCache(UPPER, i, a -> "v" + a);
+        }
+        assertEquals("v9", bar.getCacheValue(UPPER, 9));
+
+        loader.addChild(foo);
+        for (int i = 0; i < 10; i++) {
+            bar.useCache(UPPER, i, a -> "v" + a);
+        }
+        int cached = 0;
+        for (int i = 0; i < 10; i++) {
+            if (bar.getCacheValue(UPPER, i) != null) cached++;
+        }
+        assertTrue("cached " + cached, cached <= 2);
+    }
+}
@@ -0,0 +1,122 @@
+package com.metaobjects.cache;
+
+import com.metaobjects.InvalidValueException;
+import com.metaobjects.attr.StringAttribute;
+import com.metaobjects.field.StringField;
+import com.metaobjects.object.mapped.MappedMetaObject;
+import com.metaobjects.registry.MetaDataRegistry;
+import com.metaobjects.validator.RegexValidator;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the shared PatternCache and the patterns held by RegexValidator.
+ */
+public class PatternCacheTest {
+
+    private static final String EMAIL = "^[\\w._%+-]+@[\\w.-]+\\.[A-Za-z]{2,}$";
+    private static final String PHONE = "^\\(?\\d{3}\\)?[-. ]?\\d{3}[-. ]?\\d{4}$";
+
+    @Before
+    public void setUp() {
+        MetaDataRegistry.getInstance();
+    }
+
+    @Test
+    public void testSharedPattern() {
+        Pattern p = PatternCache.compile(EMAIL);
+        assertSame(p, PatternCache.compile(EMAIL));
+        assertEquals(EMAIL, p.pattern());
+        assertTrue(PatternCache.size() <= PatternCache.MAX_SIZE);
+    }
+
+    @Test
+    public void testBounded() {
+        // A cache of its own, so the shared patterns are not evicted
+        BoundedCache patterns = new BoundedCache(8);
+        for (int i = 0; i < 16; i++) {
+            patterns.put("bounded" + i, Pattern.compile("bounded" + i));
+        }
+        assertTrue(patterns.size() <= 8);
+    }
+
+    @Test
+    public void testValidatorPattern() {
+        StringField email = new StringField("email");
+        RegexValidator v = new RegexValidator("regex");
+        v.addMetaAttr(StringAttribute.create(RegexValidator.ATTR_MASK, EMAIL));
+        email.addChild(v);
+
+        Pattern p = v.getPattern();
+        assertSame(p, v.getPattern());
+        v.validate(null, "someone@example.com");
+        try {
+            v.validate(null, "not an email");
+            fail("Expected InvalidValueException");
+        } catch (InvalidValueException expected) {
+        }
+
+        // Replacing the mask discards the compiled pattern
+        v.deleteChild(v.getMetaAttr(RegexValidator.ATTR_MASK));
+        v.addMetaAttr(StringAttribute.create(RegexValidator.ATTR_MASK, PHONE));
+        assertEquals(PHONE, v.getPattern().pattern());
+        v.validate(null, "555-123-4567");
+    }
+
+    @Test
+    public void testFieldValidationFollowsMask() {
+        MappedMetaObject mo = MappedMetaObject.create("Contact");
+        StringField contact = new StringField("contact");
+        RegexValidator v = new RegexValidator("regex");
+        v.addMetaAttr(StringAttribute.create(RegexValidator.ATTR_MASK, EMAIL));
+        contact.addChild(v);
+        mo.addMetaField(contact);
+
+        Object o = mo.newInstance();
+        contact.setString(o, "555-123-4567");
+        assertInvalid(contact, o);
+
+        // The field's compiled validator picks up the replaced mask
+        v.deleteChild(v.getMetaAttr(RegexValidator.ATTR_MASK));
+        v.addMetaAttr(StringAttribute.create(RegexValidator.ATTR_MASK, PHONE));
+        contact.performValidation(o);
+
+        contact.setString(o, "someone@example.com");
+        assertInvalid(contact, o);
+    }
+
+    @Test
+    public void testMaskChangedInPlace() {
+        MappedMetaObject mo = MappedMetaObject.create("Phone");
+        StringField phone = new StringField("phone");
+        RegexValidator v = new RegexValidator("regex");
+        v.addMetaAttr(StringAttribute.create(RegexValidator.ATTR_MASK, EMAIL));
+        phone.addChild(v);
+        mo.addMetaField(phone);
+
+        Object o = mo.newInstance();
+        phone.setString(o, "555-123-4567");
+        assertInvalid(phone, o);
+
+        // Setting the value of the mask discards the pattern and the field's compiled validator
+        v.getMetaAttr(RegexValidator.ATTR_MASK).setValueAsString(PHONE);
+        assertEquals(PHONE, v.getPattern().pattern());
+        phone.performValidation(o);
+        mo.performValidation(o);
+
+        ((StringAttribute) v.getMetaAttr(RegexValidator.ATTR_MASK)).setValue(EMAIL);
+        assertInvalid(phone, o);
+    }
+
+    private static void assertInvalid(StringField field, Object o) {
+        try {
+            field.performValidation(o);
+            fail("Expected InvalidValueException");
+        } catch (InvalidValueException expected) {
+        }
+    }
+}
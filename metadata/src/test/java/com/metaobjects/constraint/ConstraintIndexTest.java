@@ -0,0 +1,84 @@
+package com.metaobjects.constraint;
+
+import com.metaobjects.registry.MetaDataRegistry;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the constraints indexed by type in MetaDataRegistry for ConstraintEnforcer
+ */
+public class ConstraintIndexTest {
+
+    @Test
+    public void testParsedPlacementPatterns() {
+        PlacementConstraint pc = new PlacementConstraint("index.test.parsed", "Parsed pattern",
+            "field", "string", "attr", "int", "maxLength", true);
+        assertEquals("field", pc.getParentType());
+        assertEquals("attr", pc.getChildType());
+
+        @SuppressWarnings("deprecation")
+        PlacementConstraint any = new PlacementConstraint("index.test.any", "Any parent", "*", "attr.*", true);
+        assertEquals("*", any.getParentType());
+
+        @SuppressWarnings("deprecation")
+        PlacementConstraint invalid = new PlacementConstraint("index.test.invalid", "Invalid", "field", "attr.int", true);
+        assertNull(invalid.getParentType());
+        assertFalse(invalid.appliesTo(null, null));
+    }
+
+    @Test
+    public void testParsedAttributeName() {
+        CustomConstraint array = new CustomConstraint("identity.primary.fields.array", "Array",
+            "identity", "primary", (md, v) -> true, null);
+        assertTrue(array.isAttributeConstraint());
+        assertEquals("fields", array.getAttributeName());
+        assertEquals("identity", array.getTargetType());
+        assertEquals("primary", array.getTargetSubType());
+
+        CustomConstraint shortId = new CustomConstraint("fields.enum", "Enum", md -> true, (md, v) -> true);
+        assertTrue(shortId.isAttributeConstraint());
+        assertNull(shortId.getAttributeName());
+        assertNull(shortId.getTargetType());
+
+        CustomConstraint name = new CustomConstraint("object.naming", "Naming", md -> true, (md, v) -> true);
+        assertFalse(name.isAttributeConstraint());
+    }
+
+    @Test
+    public void testRegistryIndex() {
+        MetaDataRegistry registry = MetaDataRegistry.getInstance();
+        int before = registry.getPlacementConstraints("idxParent", "idxChild").size();
+
+        PlacementConstraint specific = new PlacementConstraint("index.test.specific", "Specific",
+            "idxParent", "*", "idxChild", "*", null, true);
+        PlacementConstraint other = new PlacementConstraint("index.test.other", "Other parent",
+            "idxOther", "*", "idxChild", "*", null, true);
+        CustomConstraint custom = new CustomConstraint("index.test.custom", "Custom",
+            "idxChild", "sub", (md, v) -> true, null);
+        CustomConstraint untargeted = new CustomConstraint("index.test.untargeted", "Untargeted",
+            md -> false, (md, v) -> true);
+        registry.addConstraint(specific);
+        registry.addConstraint(other);
+        registry.addConstraint(custom);
+        registry.addConstraint(untargeted);
+
+        // Rebuilt after the constraints changed
+        List<PlacementConstraint> placements = registry.getPlacementConstraints("idxParent", "idxChild");
+        assertEquals(before + 1, placements.size());
+        assertTrue(placements.contains(specific));
+        assertFalse(placements.contains(other));
+        assertSame(placements, registry.getPlacementConstraints("idxParent", "idxChild"));
+
+        List<CustomConstraint> customs = registry.getCustomConstraints("idxChild", "sub");
+        assertTrue(customs.contains(custom));
+        assertTrue(customs.contains(untargeted));
+        assertTrue(customs.indexOf(custom) < customs.indexOf(untargeted));
+
+        customs = registry.getCustomConstraints("idxChild", "other");
+        assertFalse(customs.contains(custom));
+        assertTrue(customs.contains(untargeted));
+    }
+}
@@ -1,6 +1,7 @@
 package com.metaobjects.loader;
 
 import com.metaobjects.InvalidMetaDataException;
+import com.metaobjects.MetaData;
 import com.metaobjects.attr.IntAttribute;
 import com.metaobjects.attr.MetaAttribute;
 import com.metaobjects.attr.StringAttribute;
@@ -9,6 +10,7 @@ import com.metaobjects.field.MetaField;
 import com.metaobjects.field.StringField;
 import com.metaobjects.object.MetaObject;
 import com.metaobjects.object.mapped.MappedMetaObject;
+import com.metaobjects.object.pojo.PojoMetaObject;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.junit.After;
@@ -18,7 +20,11 @@ import org.junit.Test;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class MetaDataLoaderTest {
 
@@ -91,6 +97,69 @@ public class MetaDataLoaderTest {
         assertNotSame( "o == o2", o, o2 );
     }
 
+    public static class Item {
+    }
+
+    @Test
+    public void testGetMetaObjectFor() throws ClassNotFoundException {
+
+        MetaObject foo = loader.getMetaObjectByName( "foo" );
+        MappedMetaObject foo2 = MappedMetaObject.create("foo2");
+        loader.addChild(foo2);
+
+        assertSame( "foo instance", foo, loader.getMetaObjectFor( foo.newInstance() ));
+        assertSame( "foo2 instance", foo2, loader.getMetaObjectFor( foo2.newInstance() ));
+        assertNull( "unknown object", loader.getMetaObjectFor( new Item() ));
+
+        PojoMetaObject item = PojoMetaObject.create("item");
+        item.addMetaAttr( StringAttribute.create( MetaObject.ATTR_OBJECT, Item.class.getName() ));
+        loader.addChild(item);
+
+        assertSame( "item instance", item, loader.getMetaObjectFor( new Item() ));
+        assertTrue( "new item", loader.newObjectInstance( Item.class ) instanceof Item );
+        assertSame( "first MetaObject of the class", foo, loader.getMetaObjectFor( foo.newInstance() ));
+    }
+
+    public static class Other {
+    }
+
+    @Test
+    public void testObjectIndexFollowsObjectAttr() throws ClassNotFoundException {
+
+        PojoMetaObject item = PojoMetaObject.create("item");
+        item.addMetaAttr( StringAttribute.create( MetaObject.ATTR_OBJECT, Item.class.getName() ));
+        loader.addChild(item);
+        assertSame( "item instance", item, loader.getMetaObjectFor( new Item() ));
+
+        // Replacing @object on the added MetaObject moves it to the new class
+        item.addMetaAttr( StringAttribute.create( MetaObject.ATTR_OBJECT, Other.class.getName() ));
+        assertNull( "old class", loader.getMetaObjectFor( new Item() ));
+        assertSame( "new class", item, loader.getMetaObjectFor( new Other() ));
+        assertTrue( "new instance", loader.newObjectInstance( Other.class ) instanceof Other );
+    }
+
+    @Test
+    public void testObjectIndexFollowsObjectValue() throws ClassNotFoundException {
+
+        PojoMetaObject item = PojoMetaObject.create("item");
+        item.addMetaAttr( StringAttribute.create( MetaObject.ATTR_OBJECT, Item.class.getName() ));
+        loader.addChild(item);
+        assertSame( "item instance", item, loader.getMetaObjectFor( new Item() ));
+        assertTrue( "item created", item.newInstance() instanceof Item );
+
+        // Setting the value of @object in place moves it to the new class
+        item.getMetaAttr( MetaObject.ATTR_OBJECT ).setValueAsString( Other.class.getName() );
+        assertNull( "old class", loader.getMetaObjectFor( new Item() ));
+        assertSame( "new class", item, loader.getMetaObjectFor( new Other() ));
+        assertTrue( "new instance", loader.newObjectInstance( Other.class ) instanceof Other );
+        assertTrue( "new created", item.newInstance() instanceof Other );
+    }
+
+    @Test(expected = ClassNotFoundException.class)
+    public void testNewObjectInstanceNotFound() throws ClassNotFoundException {
+        loader.newObjectInstance( Item.class );
+    }
+
     @Test
     public void testModelOverlay() {
 
@@ -190,4 +259,51 @@ public class MetaDataLoaderTest {
         try { defVal.addChild( StringAttribute.create("bad", "attr")); } catch( Exception e ) {ex=e;}
         assertEquals( "Exception on add MetaAttribute to MetaAttribute", true, ex.getClass().isAssignableFrom(InvalidMetaDataException.class ));
     }
+
+    @Test
+    public void testFreeze() {
+
+        MetaObject foo = loader.getMetaObjectByName( "foo" );
+        MetaField bar = foo.getMetaField( "bar" );
+        assertFalse( "not frozen", loader.isFrozen() );
+
+        loader.freeze();
+
+        assertTrue( "loader frozen", loader.isFrozen() );
+        assertEquals( "FROZEN phase", LoadingState.Phase.FROZEN, loader.getLoadingState().getCurrentPhase() );
+        assertTrue( "still initialized", loader.isInitialized() );
+        assertTrue( "foo frozen", foo.isFrozen() );
+        assertTrue( "foo.bar.length frozen", bar.getMetaAttr( "length" ).isFrozen() );
+
+        // Reads are unchanged
+        assertEquals( "find foo", foo, loader.getMetaObjectByName( "foo" ));
+        assertEquals( "foo.bar.length=10", 10, (int) foo.getMetaField("bar").getMetaAttr( "length").getValue() );
+        assertEquals( "foo.bar=5", 5, (int) ((Map) foo.newInstance()).get( "bar" ));
+        assertSame( "fixed children", foo.getChildren(), foo.getChildren() );
+        assertSame( "fixed inherited children", foo.getChildren( MetaData.class, true ), foo.getChildren( MetaData.class, true ));
+        assertEquals( "inherited children", foo.getChildren(), foo.getChildren( MetaData.class, true ));
+
+        // Mutation is rejected
+        Exception ex = null;
+        try { loader.addChild( MappedMetaObject.create("foo2")); } catch( Exception e ) {ex=e;}
+        assertEquals( "Exception on add to frozen loader", IllegalStateException.class, ex.getClass() );
+
+        ex = null;
+        try { foo.addMetaField( StringField.create("baz", "error")); } catch( Exception e ) {ex=e;}
+        assertEquals( "Exception on add to frozen object", IllegalStateException.class, ex.getClass() );
+
+        ex = null;
+        try { bar.deleteChild( bar.getMetaAttr( "abc" )); } catch( Exception e ) {ex=e;}
+        assertEquals( "Exception on delete from frozen field", IllegalStateException.class, ex.getClass() );
+
+        ex = null;
+        try { bar.getMetaAttr( "abc" ).setValueAsString( "xyz" ); } catch( Exception e ) {ex=e;}
+        assertEquals( "Exception on set frozen attribute", IllegalStateException.class, ex.getClass() );
+
+        // Overloads of frozen metadata are new, modifiable copies
+        MetaField barField = bar.overload();
+        assertFalse( "overload not frozen", barField.isFrozen() );
+        barField.addMetaAttr( IntAttribute.create( "length", 11 ));
+        assertEquals( "overload.length=11", "11", barField.getMetaAttr( "length").getValueAsString());
+    }
 }
@@ -0,0 +1,149 @@
+package com.metaobjects.object;
+
+import com.metaobjects.attr.StringAttribute;
+import com.metaobjects.field.IntegerField;
+import com.metaobjects.field.MetaField;
+import com.metaobjects.field.StringField;
+import com.metaobjects.loader.LoaderOptions;
+import com.metaobjects.loader.MetaDataLoader;
+import com.metaobjects.loader.simple.SimpleLoader;
+import com.metaobjects.object.mapped.MappedMetaObject;
+import com.metaobjects.registry.MetaDataRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the stable field indexes of MetaObject.
+ */
+public class FieldIndexTest {
+
+    private MappedMetaObject parent;
+    private MappedMetaObject child;
+    private MetaField a;
+    private MetaField b;
+    private MetaField childB;
+    private MetaField c;
+
+    @Before
+    public void setUp() {
+        MetaDataRegistry.getInstance();
+        parent = MappedMetaObject.create("Parent");
+        a = new StringField("a");
+        b = new IntegerField("b");
+        parent.addMetaField(a);
+        parent.addMetaField(b);
+
+        child = MappedMetaObject.create("Child");
+        child.setSuperObject(parent);
+        c = new StringField("c");
+        childB = new IntegerField("b");
+        child.addMetaField(c);
+        child.addMetaField(childB);
+    }
+
+    @Test
+    public void testInheritedIndexes() {
+        assertEquals(2, parent.getFieldCount());
+        assertEquals(3, child.getFieldCount());
+
+        assertSame(a, child.getFieldByIndex(0));
+        assertSame(childB, child.getFieldByIndex(1));
+        assertSame(c, child.getFieldByIndex(2));
+
+        assertEquals(0, a.getIndex());
+        assertEquals(1, b.getIndex());
+        assertEquals(1, childB.getIndex());
+        assertEquals(2, c.getIndex());
+
+        assertEquals(-1, child.getFieldIndex(b));
+        assertEquals(-1, new StringField("loose").getIndex());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIndexOutOfRange() {
+        parent.getFieldByIndex(2);
+    }
+
+    @Test
+    public void testReassignedWhenFieldsChange() {
+        assertEquals(2, c.getIndex());
+        parent.addMetaField(new StringField("d"));
+
+        assertEquals(3, parent.getFieldCount());
+        assertEquals(4, child.getFieldCount());
+        assertEquals("d", child.getFieldByIndex(2).getName());
+        assertEquals(3, c.getIndex());
+        assertEquals(child.getFieldsByIndex(), child.getObjectAccessor(Object.class).getMetaFields());
+        assertEquals(3, child.getSlotLayout().indexOf(c));
+    }
+
+    @Test
+    public void testIndexClearedWhenFieldRemoved() {
+        assertEquals(2, c.getIndex());
+        child.deleteChild(c);
+        assertEquals(-1, c.getIndex());
+        assertEquals(1, childB.getIndex());
+    }
+
+    @Test
+    public void testBaseInitAssignsIndexesAfterLoading() {
+        MetaDataLoader loader = new MetaDataLoader(LoaderOptions.create(false, false, false),
+                MetaDataLoader.SUBTYPE_MANUAL, "fieldindex-hook") {
+            @Override
+            protected void loadMetaData() {
+                MappedMetaObject mo = MappedMetaObject.create("Loaded");
+                mo.addMetaField(new StringField("x"));
+                mo.addMetaField(new StringField("y"));
+                addChild(mo);
+            }
+        };
+        loader.init();
+        try {
+            MetaObject mo = loader.getMetaObjectByName("Loaded");
+            assertEquals(1, mo.getMetaField("y").getIndex());
+            assertSame(mo.getMetaField("y"), mo.getFieldByIndex(1));
+        } finally {
+            loader.destroy();
+        }
+    }
+
+    @Test
+    public void testLoaderAssignsIndexes() {
+        MetaDataLoader loader = SimpleLoader.createManual("fieldindex", Arrays.asList(
+                "com/draagon/meta/loader/simple/fruitbasket-proxy-metadata.json"));
+
+        for (MetaObject mo : loader.getChildren(MetaObject.class)) {
+            assertEquals(mo.getName(), mo.getMetaFields().size(), mo.getFieldCount());
+            for (int i = 0; i < mo.getFieldCount(); i++) {
+                MetaField f = mo.getFieldByIndex(i);
+                assertEquals(mo.getName() + "." + f.getName(), i, f.getIndex());
+                assertEquals(i, mo.getFieldIndex(f));
+            }
+        }
+    }
+
+    @Test
+    public void testUnrelatedAttributeKeepsIndex() {
+        java.util.List<MetaField> parentFields = parent.getFieldsByIndex();
+        java.util.List<MetaField> childFields = child.getFieldsByIndex();
+        SlotLayout layout = child.getSlotLayout();
+
+        // A new attribute on the object or its super object is not a field
+        parent.addMetaAttr(StringAttribute.create(MetaObject.ATTR_DESCRIPTION, "parent"));
+        child.addMetaAttr(StringAttribute.create(MetaObject.ATTR_DESCRIPTION, "child"));
+        assertSame(parentFields, parent.getFieldsByIndex());
+        assertSame(childFields, child.getFieldsByIndex());
+        assertSame(layout, child.getSlotLayout());
+        assertEquals(2, c.getIndex());
+
+        // A field added to the super object is
+        parent.addMetaField(new StringField("d"));
+        assertNotSame(childFields, child.getFieldsByIndex());
+        assertNotSame(layout, child.getSlotLayout());
+        assertEquals(4, child.getFieldCount());
+    }
+}
@@ -0,0 +1,97 @@
+package com.metaobjects.object;
+
+import com.metaobjects.attr.StringAttribute;
+import com.metaobjects.field.IntegerField;
+import com.metaobjects.field.LongField;
+import com.metaobjects.field.MetaField;
+import com.metaobjects.field.StringField;
+import com.metaobjects.object.mapped.MappedMetaObject;
+import com.metaobjects.registry.MetaDataRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the compiled mapping plans of MetaObjectMapper.
+ */
+public class MetaObjectMapperTest {
+
+    private MappedMetaObject dto;
+    private MappedMetaObject entity;
+
+    @Before
+    public void setUp() {
+        MetaDataRegistry.getInstance();
+        dto = MappedMetaObject.create("OrderDto");
+        dto.addMetaField(new StringField("id"));
+        dto.addMetaField(new StringField("customer"));
+        dto.addMetaField(new IntegerField("quantity"));
+        dto.addMetaField(new StringField("note"));
+
+        entity = MappedMetaObject.create("Order");
+        entity.addMetaField(new LongField("id"));
+        MetaField name = new StringField("customerName");
+        name.addMetaAttr(StringAttribute.create(MetaField.ATTR_MAP_FROM, "customer"));
+        entity.addMetaField(name);
+        entity.addMetaField(new IntegerField("quantity"));
+        entity.addMetaField(new StringField("status"));
+    }
+
+    private Object newDto(String id, String customer, Integer quantity) {
+        Object o = dto.newInstance();
+        dto.getMetaField("id").setObject(o, id);
+        dto.getMetaField("customer").setObject(o, customer);
+        dto.getMetaField("quantity").setObject(o, quantity);
+        return o;
+    }
+
+    @Test
+    public void testMap() {
+        MetaObjectMapper mapper = dto.getMapper(entity);
+        assertSame(mapper, dto.getMapper(entity));
+        assertEquals(3, mapper.getMappedFields().size());
+
+        Map<?, ?> o = (Map<?, ?>) mapper.map(newDto("42", "acme", 3));
+        assertEquals(Long.valueOf(42), o.get("id"));
+        assertEquals("acme", o.get("customerName"));
+        assertEquals(Integer.valueOf(3), o.get("quantity"));
+        assertNull(o.get("status"));
+    }
+
+    @Test
+    public void testRecompiledWhenFieldsChange() {
+        MetaObjectMapper mapper = dto.getMapper(entity);
+        entity.addMetaField(new StringField("note"));
+
+        MetaObjectMapper mapper2 = dto.getMapper(entity);
+        assertNotSame(mapper, mapper2);
+        assertEquals(4, mapper2.getMappedFields().size());
+
+        Object from = newDto("1", "a", 1);
+        dto.getMetaField("note").setObject(from, "rush");
+        assertEquals("rush", ((Map<?, ?>) mapper2.map(from)).get("note"));
+    }
+
+    @Test
+    public void testMapAll() {
+        List<Object> from = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            from.add(newDto(String.valueOf(i), "c" + i, i));
+        }
+
+        MetaObjectMapper mapper = dto.getMapper(entity);
+        List<Object> sequential = mapper.mapAll(from);
+        List<Object> parallel = mapper.mapAll(from, true);
+
+        assertEquals(from.size(), parallel.size());
+        for (int i = 0; i < from.size(); i++) {
+            assertEquals(Long.valueOf(i), ((Map<?, ?>) parallel.get(i)).get("id"));
+            assertEquals(sequential.get(i), parallel.get(i));
+        }
+    }
+}
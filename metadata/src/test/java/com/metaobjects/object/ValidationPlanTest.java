@@ -0,0 +1,327 @@
+package com.metaobjects.object;
+
+import com.metaobjects.InvalidValueException;
+import com.metaobjects.attr.StringAttribute;
+import com.metaobjects.field.ClassField;
+import com.metaobjects.field.MetaField;
+import com.metaobjects.field.StringField;
+import com.metaobjects.object.mapped.MappedMetaObject;
+import com.metaobjects.registry.MetaDataRegistry;
+import com.metaobjects.validator.CompiledValidator;
+import com.metaobjects.validator.LengthValidator;
+import com.metaobjects.validator.MetaValidator;
+import com.metaobjects.validator.NumericValidator;
+import com.metaobjects.validator.ObjectValidationResult;
+import com.metaobjects.validator.RegexValidator;
+import com.metaobjects.validator.RequiredValidator;
+import com.metaobjects.validator.ValidationMode;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the compiled validation of MetaObject.performValidation() and validate().
+ */
+public class ValidationPlanTest {
+
+    private MappedMetaObject mo;
+    private MetaField name;
+    private MetaField zip;
+    private MetaField code;
+
+    @Before
+    public void setUp() {
+        MetaDataRegistry.getInstance();
+        mo = MappedMetaObject.create("Address");
+
+        name = new StringField("name");
+        name.addChild(new RequiredValidator("required"));
+        LengthValidator length = new LengthValidator("length");
+        length.addMetaAttr(StringAttribute.create(LengthValidator.ATTR_MAX, "10"));
+        name.addChild(length);
+
+        zip = new StringField("zip");
+        zip.addChild(new NumericValidator("numeric"));
+
+        code = new StringField("code");
+        RegexValidator regex = new RegexValidator("regex");
+        regex.addMetaAttr(StringAttribute.create(RegexValidator.ATTR_MASK, "[A-Z]{2}"));
+        code.addChild(regex);
+
+        mo.addMetaField(name);
+        mo.addMetaField(zip);
+        mo.addMetaField(code);
+        mo.addMetaField(new StringField("note"));
+    }
+
+    private Object newAddress(String n, String z, String c) {
+        Object o = mo.newInstance();
+        name.setString(o, n);
+        zip.setString(o, z);
+        code.setString(o, c);
+        return o;
+    }
+
+    private void assertInvalid(Object o) {
+        try {
+            mo.performValidation(o);
+            fail("Expected InvalidValueException");
+        } catch (InvalidValueException expected) {
+        }
+    }
+
+    @Test
+    public void testValidation() {
+        mo.performValidation(newAddress("home", "12345", "NY"));
+        mo.performValidation(newAddress("home", null, null));
+
+        assertInvalid(newAddress(null, "12345", "NY"));
+        assertInvalid(newAddress("  ", "12345", "NY"));
+        assertInvalid(newAddress("a very long name", "12345", "NY"));
+        assertInvalid(newAddress("home", "12a45", "NY"));
+        assertInvalid(newAddress("home", "12345", "ny"));
+    }
+
+    @Test
+    public void testValidatorAddedLater() {
+        Object o = newAddress("home", "12345", "NY");
+        mo.performValidation(o);
+
+        MetaField note = mo.getMetaField("note");
+        note.addChild(new RequiredValidator("required"));
+        assertTrue(note.hasDefaultValidators());
+        assertInvalid(o);
+    }
+
+    @Test
+    public void testMaskReplacedLater() {
+        Object o = newAddress("home", "12345", "NY");
+        code.performValidation(o);
+
+        RegexValidator regex = (RegexValidator) code.getValidator("regex");
+        regex.deleteChild(regex.getMetaAttr(RegexValidator.ATTR_MASK));
+        regex.addMetaAttr(StringAttribute.create(RegexValidator.ATTR_MASK, "[0-9]{2}"));
+        try {
+            code.performValidation(o);
+            fail("Expected InvalidValueException");
+        } catch (InvalidValueException expected) {
+        }
+        assertInvalid(o);
+
+        code.setString(o, "12");
+        code.performValidation(o);
+        mo.performValidation(o);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testStoredValueIsConverted() {
+        List<Object> seen = new ArrayList<>();
+        mo.getMetaField("note").addChild(new RequiredValidator("required") {
+            @Override
+            public CompiledValidator compile(MetaField field) {
+                return CompiledValidator.of(SUBTYPE_REQUIRED, "required", (object, value) -> seen.add(value));
+            }
+        });
+
+        Object o = newAddress("home", "12345", "NY");
+        ((Map<String, Object>) o).put("note", 42);
+        mo.performValidation(o);
+        assertTrue(mo.validate(o, ValidationMode.COLLECT_ALL).isValid());
+        assertEquals(List.of("42", "42"), seen);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFieldReadsItsOwnValue() {
+        List<Object> seen = new ArrayList<>();
+        ClassField type = new ClassField("type");
+        type.addChild(new RequiredValidator("required") {
+            @Override
+            public CompiledValidator compile(MetaField field) {
+                return CompiledValidator.of(SUBTYPE_REQUIRED, "required", (object, value) -> seen.add(value));
+            }
+        });
+        mo.addMetaField(type);
+        assertFalse(type.hasPlainValidation());
+        assertTrue(name.hasPlainValidation());
+
+        // ClassField turns the stored name into the Class
+        Object o = newAddress("home", "12345", "NY");
+        ((Map<String, Object>) o).put("type", String.class.getName());
+        mo.performValidation(o);
+        assertTrue(mo.validate(o, ValidationMode.COLLECT_ALL).isValid());
+        assertEquals(List.of(String.class, String.class), seen);
+    }
+
+    @Test
+    public void testFieldValidatesItself() {
+        mo.addMetaField(new StringField("checked") {
+            @Override
+            protected void performValidation(Object obj, Object val) {
+                if (val == null) throw new InvalidValueException("checked is missing");
+            }
+        });
+
+        Object o = newAddress("home", "12345", "NY");
+        assertInvalid(o);
+        mo.getMetaField("checked").setString(o, "yes");
+        mo.performValidation(o);
+    }
+
+    @Test
+    public void testNoAllocationWhenValid() {
+        java.lang.management.ThreadMXBean tmx = ManagementFactory.getThreadMXBean();
+        if (!(tmx instanceof com.sun.management.ThreadMXBean)) return;
+        com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) tmx;
+        if (!mx.isThreadAllocatedMemorySupported() || !mx.isThreadAllocatedMemoryEnabled()) return;
+
+        // The regex matcher allocates, so leave the code out
+        Object o = newAddress("home", "12345", null);
+        for (int i = 0; i < 20_000; i++) {
+            mo.performValidation(o);
+        }
+
+        int n = 100_000;
+        long tid = Thread.currentThread().getId();
+        long before = mx.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < n; i++) {
+            mo.performValidation(o);
+        }
+        long allocated = mx.getThreadAllocatedBytes(tid) - before;
+
+        assertTrue("Allocated " + allocated + " bytes for " + n + " validations", allocated < n);
+    }
+
+    @Test
+    public void testCollectAll() {
+        ObjectValidationResult r = mo.validate(newAddress(null, "12a45", "ny"), ValidationMode.COLLECT_ALL);
+        assertFalse(r.isValid());
+        assertEquals(3, r.getErrorCount());
+        assertSame(name, r.getField(0));
+        assertEquals(RequiredValidator.SUBTYPE_REQUIRED, r.getCode(0));
+        assertEquals("A value is required on field name", r.getMessage(0));
+        assertSame(zip, r.getField(1));
+        assertEquals(NumericValidator.SUBTYPE_NUMERIC, r.getCode(1));
+        assertEquals("12a45", r.getValue(1));
+        assertSame(code, r.getField(2));
+        assertEquals(RegexValidator.SUBTYPE_REGEX, r.getCode(2));
+        assertEquals(3, r.getMessages().size());
+
+        assertTrue(mo.validate(newAddress("home", "12345", "NY"), ValidationMode.COLLECT_ALL).isValid());
+    }
+
+    @Test
+    public void testUncompiledValidatorMessage() {
+        // Reads its object, and keeps the value of the note in its message
+        mo.getMetaField("note").addChild(new MetaValidator(RequiredValidator.SUBTYPE_REQUIRED, "custom") {
+            @Override
+            public void validate(Object object, Object value) {
+                if (mo.getMetaField("name").getString(object) == null || value == null) {
+                    throw new InvalidValueException("Note [" + value + "] is missing");
+                }
+            }
+        });
+
+        Object o = newAddress("home", "12345", "NY");
+        ObjectValidationResult r = mo.validate(o, ValidationMode.COLLECT_ALL);
+        assertEquals(1, r.getErrorCount());
+        assertEquals("Note [null] is missing", r.getMessage(0));
+        assertEquals(List.of("Note [null] is missing"), r.getMessages());
+
+        mo.getMetaField("note").setString(o, "hi");
+        assertTrue(mo.validate(o, ValidationMode.COLLECT_ALL).isValid());
+    }
+
+    @Test
+    public void testFailFastAndReuse() {
+        ObjectValidationResult r = new ObjectValidationResult();
+        assertFalse(mo.validate(newAddress(null, "12a45", "ny"), ValidationMode.FAIL_FAST, r));
+        assertEquals(1, r.getErrorCount());
+        assertSame(name, r.getField(0));
+
+        assertTrue(mo.validate(newAddress("home", "12345", "NY"), ValidationMode.COLLECT_ALL, r));
+        assertEquals(0, r.getErrorCount());
+        try {
+            r.getField(0);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException expected) {
+        }
+    }
+
+    @Test
+    public void testNoAllocationWhenInvalid() {
+        java.lang.management.ThreadMXBean tmx = ManagementFactory.getThreadMXBean();
+        if (!(tmx instanceof com.sun.management.ThreadMXBean)) return;
+        com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) tmx;
+        if (!mx.isThreadAllocatedMemorySupported() || !mx.isThreadAllocatedMemoryEnabled()) return;
+
+        Object o = newAddress(null, "12a45", null);
+        ObjectValidationResult r = new ObjectValidationResult();
+        for (int i = 0; i < 20_000; i++) {
+            mo.validate(o, ValidationMode.COLLECT_ALL, r);
+        }
+
+        int n = 100_000;
+        long tid = Thread.currentThread().getId();
+        long before = mx.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < n; i++) {
+            mo.validate(o, ValidationMode.COLLECT_ALL, r);
+        }
+        long allocated = mx.getThreadAllocatedBytes(tid) - before;
+
+        assertEquals(2, r.getErrorCount());
+        assertTrue("Allocated " + allocated + " bytes for " + n + " validations", allocated < n);
+    }
+
+    @Test
+    public void testValidateAll() {
+        List<Object> objs = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            objs.add(i % 10 == 0 ? newAddress("home", "1" + i + "x", "NY") : newAddress("home", String.valueOf(i), "NY"));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<ObjectValidationResult> results = mo.validateAll(objs, executor);
+            assertEquals(objs.size(), results.size());
+            for (int i = 0; i < objs.size(); i++) {
+                ObjectValidationResult r = results.get(i);
+                assertEquals("object " + i, i % 10 != 0, r.isValid());
+                if (!r.isValid()) assertEquals("1" + i + "x", r.getValue(0));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testValidateAllStopsAfterFailures() {
+        List<Object> objs = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            objs.add(newAddress(null, "12345", "NY"));
+        }
+
+        // Run the tasks one at a time on this thread to make the cancellation exact
+        List<ObjectValidationResult> results = mo.validateAll(objs, Runnable::run, 5);
+        assertEquals(objs.size(), results.size());
+        int validated = 0;
+        for (ObjectValidationResult r : results) {
+            if (r != null) {
+                assertFalse(r.isValid());
+                validated++;
+            }
+        }
+        assertEquals(5, validated);
+        assertNotNull(results.get(0));
+        assertNull(results.get(objs.size() - 1));
+    }
+}
@@ -0,0 +1,154 @@
+package com.metaobjects.object.mapped;
+
+import com.metaobjects.attr.StringAttribute;
+import com.metaobjects.field.BooleanField;
+import com.metaobjects.field.DoubleField;
+import com.metaobjects.field.IntegerField;
+import com.metaobjects.field.MetaField;
+import com.metaobjects.field.StringField;
+import com.metaobjects.object.MetaObject;
+import com.metaobjects.object.SlotLayout;
+import com.metaobjects.registry.MetaDataRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the slot storage of SlotMappedObject.
+ */
+public class SlotMappedObjectTest {
+
+    private MappedMetaObject mo;
+    private MetaField name;
+    private MetaField count;
+    private MetaField price;
+    private MetaField active;
+
+    @Before
+    public void setUp() {
+        MetaDataRegistry.getInstance();
+        mo = MappedMetaObject.create("Slotted");
+        mo.addMetaAttr(StringAttribute.create(MetaObject.ATTR_OBJECT, SlotMappedObject.class.getName()));
+        name = new StringField("name");
+        count = new IntegerField("count");
+        price = new DoubleField("price");
+        active = new BooleanField("active");
+        mo.addMetaField(name);
+        mo.addMetaField(count);
+        mo.addMetaField(price);
+        mo.addMetaField(active);
+    }
+
+    @Test
+    public void testLayout() {
+        SlotLayout layout = mo.getSlotLayout();
+        assertSame(layout, mo.getSlotLayout());
+        assertEquals(4, layout.getSlotCount());
+        assertEquals(3, layout.getPrimitiveCount());
+        assertEquals(1, layout.indexOf("count"));
+        assertEquals(-1, layout.indexOf("missing"));
+
+        mo.addMetaField(new StringField("extra"));
+        assertNotSame(layout, mo.getSlotLayout());
+        assertEquals(5, mo.getSlotLayout().getSlotCount());
+    }
+
+    @Test
+    public void testFieldAccess() {
+        Object o = mo.newInstance();
+        assertTrue(o instanceof SlotMappedObject);
+
+        name.setString(o, "widget");
+        count.setInt(o, 3);
+        price.setDoubleValue(o, 9.5);
+        active.setBooleanValue(o, true);
+
+        assertEquals("widget", name.getString(o));
+        assertEquals(Integer.valueOf(3), count.getInt(o));
+        assertEquals(3, count.getIntValue(o));
+        assertEquals(9.5, price.getDoubleValue(o), 0.0);
+        assertEquals(Double.valueOf(9.5), price.getDouble(o));
+        assertTrue(active.getBooleanValue(o));
+
+        count.setIntValue(o, 1000);
+        assertEquals(Integer.valueOf(1000), ((Map<?, ?>) o).get("count"));
+    }
+
+    @Test
+    public void testSlotOfFieldByIndex() {
+        SlotLayout layout = mo.getSlotLayout();
+        assertEquals(count.getIndex(), layout.indexOf(count));
+        assertEquals(3, layout.indexOf(active));
+
+        // A field with the same name that is not in the layout resolves by name
+        assertEquals(1, layout.indexOf(new IntegerField("count")));
+        assertEquals(-1, layout.indexOf(new IntegerField("missing")));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testIntOverflowIsRejected() {
+        MetaField total = new com.metaobjects.field.LongField("total");
+        mo.addMetaField(total);
+        Object o = mo.newInstance();
+        total.setLongValue(o, 1L << 40);
+        total.getIntValue(o);
+    }
+
+    @Test
+    public void testMapView() {
+        SlotMappedObject o = (SlotMappedObject) mo.newInstance();
+        assertTrue(o.isEmpty());
+        assertFalse(o.containsKey("name"));
+
+        o.put("name", "a");
+        o.put("count", 2);
+        o.put("name2", "other");
+        o.put("price", null);
+
+        assertEquals(4, o.size());
+        assertTrue(o.containsKey("price"));
+        assertNull(o.get("price"));
+        assertEquals("other", o.get("name2"));
+
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("name", "a");
+        expected.put("count", 2);
+        expected.put("name2", "other");
+        expected.put("price", null);
+        assertEquals(expected, new HashMap<>(o));
+        assertEquals(expected.hashCode(), o.entrySet().hashCode());
+
+        // Values of another type than the field are kept as they are
+        o.put("count", "7");
+        assertEquals("7", o.get("count"));
+        assertEquals(7, count.getIntValue(o));
+
+        Iterator<Map.Entry<String, Object>> it = o.entrySet().iterator();
+        while (it.hasNext()) {
+            if (it.next().getKey().equals("name")) it.remove();
+        }
+        assertFalse(o.containsKey("name"));
+        assertEquals("7", o.remove("count"));
+        assertEquals(2, o.size());
+
+        o.clear();
+        assertTrue(o.isEmpty());
+    }
+
+    @Test
+    public void testEquals() {
+        Object a = mo.newInstance();
+        Object b = mo.newInstance();
+        count.setIntValue(a, 5);
+        count.setInt(b, 5);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        name.setString(b, "x");
+        assertNotEquals(a, b);
+    }
+}
@@ -0,0 +1,141 @@
+package com.metaobjects.object.pojo;
+
+import com.metaobjects.InvalidValueException;
+import com.metaobjects.field.BooleanField;
+import com.metaobjects.field.IntegerField;
+import com.metaobjects.field.StringField;
+import com.metaobjects.object.DefaultObjectAccessor;
+import com.metaobjects.object.ObjectAccessor;
+import com.metaobjects.object.mapped.MappedMetaObject;
+import com.metaobjects.registry.MetaDataRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the index based ObjectAccessors of MetaObject.
+ */
+public class ObjectAccessorTest {
+
+    public static class Person {
+        private String name;
+        private Integer age;
+        private Boolean active;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+
+        public Integer getAge() { return age; }
+        public void setAge(Integer age) {
+            if (age != null && age < 0) throw new IllegalStateException("negative age");
+            this.age = age;
+        }
+
+        public Boolean isActive() { return active; }
+        public void setActive(Boolean active) { this.active = active; }
+    }
+
+    private PojoMetaObject mo;
+
+    @Before
+    public void setUp() {
+        MetaDataRegistry.getInstance();
+        mo = PojoMetaObject.create("Person");
+        mo.addMetaField(new StringField("name"));
+        mo.addMetaField(new IntegerField("age"));
+        mo.addMetaField(new BooleanField("active"));
+    }
+
+    @Test
+    public void testGetSetAndCopy() {
+        ObjectAccessor a = mo.getObjectAccessor(Person.class);
+        assertTrue(a instanceof PojoObjectAccessor);
+        assertSame(a, mo.getObjectAccessor(Person.class));
+        assertEquals(3, a.getFieldCount());
+        assertEquals("name", a.getMetaFields().get(0).getName());
+
+        Person p = new Person();
+        a.set(0, p, "Ann");
+        a.setInt(1, p, 42);
+        a.setBoolean(2, p, true);
+        assertEquals("Ann", p.getName());
+        assertEquals(42, a.getInt(1, p));
+        assertTrue(a.getBoolean(2, p));
+
+        Person copy = new Person();
+        a.copy(p, copy);
+        assertEquals("Ann", copy.getName());
+        assertEquals(Integer.valueOf(42), copy.getAge());
+        assertTrue(copy.isActive());
+    }
+
+    @Test
+    public void testSetterTypeChecks() {
+        ObjectAccessor a = mo.getObjectAccessor(Person.class);
+        try {
+            a.set(1, new Person(), "x");
+            fail("Expected InvalidValueException");
+        } catch (InvalidValueException expected) {}
+        a.set(1, new Person(), null);
+    }
+
+    @Test
+    public void testRebuiltWhenFieldsChange() {
+        ObjectAccessor a = mo.getObjectAccessor(Person.class);
+        mo.addMetaField(new StringField("nickname"));
+        ObjectAccessor b = mo.getObjectAccessor(Person.class);
+        assertNotSame(a, b);
+        assertEquals(4, b.getFieldCount());
+    }
+
+    @Test
+    public void testMappedObjectUsesDefaultAccessor() {
+        MappedMetaObject mapped = MappedMetaObject.create("Mapped");
+        mapped.addMetaField(new StringField("name"));
+
+        ObjectAccessor a = mapped.getObjectAccessor(HashMap.class);
+        assertTrue(a instanceof DefaultObjectAccessor);
+
+        Map<String, Object> m = new HashMap<>();
+        a.set(0, m, "Bob");
+        assertEquals("Bob", m.get("name"));
+        assertEquals("Bob", a.get(0, m));
+    }
+
+    @Test
+    public void testMatchesMetaObjectValues() {
+        ObjectAccessor a = mo.getObjectAccessor(Person.class);
+        Person p = new Person();
+        p.setName("Ann");
+        p.setAge(42);
+        p.setActive(Boolean.FALSE);
+
+        for (int i = 0; i < a.getFieldCount(); i++) {
+            assertEquals(mo.getValue(a.getMetaFields().get(i), p), a.get(i, p));
+        }
+        assertEquals(42L, a.getLong(1, p));
+        assertFalse(a.getBoolean(2, p));
+    }
+
+    @Test
+    public void testSetterExceptionIsNotWrapped() {
+        ObjectAccessor a = mo.getObjectAccessor(Person.class);
+        Person p = new Person();
+        try {
+            a.set(1, p, -1);
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            assertEquals("negative age", e.getMessage());
+        }
+        try {
+            a.setInt(1, p, -1);
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            assertNull(p.getAge());
+        }
+    }
+}
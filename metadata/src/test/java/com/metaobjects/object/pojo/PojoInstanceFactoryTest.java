@@ -0,0 +1,144 @@
+package com.metaobjects.object.pojo;
+
+import com.metaobjects.attr.StringAttribute;
+import com.metaobjects.field.IntegerField;
+import com.metaobjects.field.MetaField;
+import com.metaobjects.field.StringField;
+import com.metaobjects.object.MetaObject;
+import com.metaobjects.object.MetaObjectAware;
+import com.metaobjects.object.mapped.MappedMetaObject;
+import com.metaobjects.object.mapped.MappedObject;
+import com.metaobjects.registry.MetaDataRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the instance factory and default values of MetaObject.newInstance().
+ */
+public class PojoInstanceFactoryTest {
+
+    public static class Item {
+        private String name;
+        private Integer qty;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+
+        public Integer getQty() { return qty; }
+        public void setQty(Integer qty) { this.qty = qty; }
+    }
+
+    public static class AwareItem extends Item implements MetaObjectAware {
+        private MetaObject mo;
+
+        private AwareItem() {}
+
+        @Override public MetaObject getMetaData() { return mo; }
+        @Override public void setMetaData(MetaObject mo) { this.mo = mo; }
+    }
+
+    public static class FailingItem extends Item {
+        public FailingItem() { throw new IllegalStateException("fail"); }
+    }
+
+    public static class CheckedItem extends Item {
+        public CheckedItem() throws IOException { throw new IOException("fail"); }
+    }
+
+    private PojoMetaObject mo;
+
+    @Before
+    public void setUp() {
+        MetaDataRegistry.getInstance();
+        mo = create("Item", Item.class);
+    }
+
+    private PojoMetaObject create(String name, Class<?> c) {
+        PojoMetaObject m = PojoMetaObject.create(name);
+        m.addMetaAttr(StringAttribute.create(MetaObject.ATTR_OBJECT, c.getName()));
+        MetaField n = new StringField("name");
+        n.addMetaAttr(StringAttribute.create(MetaField.ATTR_DEFAULT_VALUE, "none"));
+        m.addMetaField(n);
+        MetaField q = new IntegerField("qty");
+        q.addMetaAttr(StringAttribute.create(MetaField.ATTR_DEFAULT_VALUE, "5"));
+        m.addMetaField(q);
+        return m;
+    }
+
+    @Test
+    public void testNewInstanceWithDefaults() {
+        Supplier<Object> f = mo.getInstanceFactory();
+        assertSame(f, mo.getInstanceFactory());
+
+        Item i = (Item) mo.newInstance();
+        assertEquals("none", i.getName());
+        assertEquals(Integer.valueOf(5), i.getQty());
+
+        Item plain = (Item) f.get();
+        assertNull(plain.getName());
+        assertNotSame(i, mo.newInstance());
+    }
+
+    @Test
+    public void testPrivateConstructorAndAttach() {
+        PojoMetaObject aware = create("AwareItem", AwareItem.class);
+        AwareItem i = (AwareItem) aware.newInstance();
+        assertSame(aware, i.getMetaData());
+        assertEquals("none", i.getName());
+    }
+
+    @Test
+    public void testMetaObjectConstructor() {
+        MappedMetaObject mapped = MappedMetaObject.create("Mapped");
+        MetaField n = new StringField("name");
+        n.addMetaAttr(StringAttribute.create(MetaField.ATTR_DEFAULT_VALUE, "x"));
+        mapped.addMetaField(n);
+
+        MappedObject o = (MappedObject) mapped.newInstance();
+        assertSame(mapped, o.getMetaData());
+        assertEquals("x", o.get("name"));
+    }
+
+    @Test
+    public void testFactoryRebuiltWhenChanged() {
+        // Fields and other attributes do not change the object class
+        Supplier<Object> f = mo.getInstanceFactory();
+        MetaField extra = new StringField("extra");
+        mo.addMetaField(extra);
+        mo.addMetaAttr(StringAttribute.create(MetaObject.ATTR_DESCRIPTION, "An item"));
+        assertSame(f, mo.getInstanceFactory());
+
+        mo.getMetaAttr(MetaObject.ATTR_OBJECT).setValueAsString(AwareItem.class.getName());
+        assertNotSame(f, mo.getInstanceFactory());
+        assertTrue(mo.newInstance() instanceof AwareItem);
+    }
+
+    @Test
+    public void testConstructorFailureIsWrapped() {
+        PojoMetaObject failing = create("FailingItem", FailingItem.class);
+        try {
+            failing.newInstance();
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Could not instantiate"));
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void testCheckedConstructorFailureIsWrapped() {
+        PojoMetaObject checked = create("CheckedItem", CheckedItem.class);
+        try {
+            checked.newInstance();
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Could not instantiate"));
+            assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.metaobjects.object.pojo;
+
+import com.metaobjects.field.BooleanField;
+import com.metaobjects.field.DoubleField;
+import com.metaobjects.field.IntegerField;
+import com.metaobjects.field.LongField;
+import com.metaobjects.field.MetaField;
+import com.metaobjects.field.StringField;
+import com.metaobjects.object.mapped.MappedMetaObject;
+import com.metaobjects.object.mapped.MappedObject;
+import com.metaobjects.registry.MetaDataRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the primitive getters and setters of MetaField.
+ */
+public class PojoPrimitiveValueTest {
+
+    public static class Stats {
+        private int count;
+        private long total;
+        private double average;
+        private boolean valid;
+        private Integer boxed;
+        private String text;
+
+        public int getCount() { return count; }
+        public void setCount(int count) {
+            if (count < 0) throw new IllegalStateException("negative count");
+            this.count = count;
+        }
+
+        public long getTotal() { return total; }
+        public void setTotal(long total) { this.total = total; }
+
+        public double getAverage() { return average; }
+        public void setAverage(double average) { this.average = average; }
+
+        public boolean isValid() { return valid; }
+        public void setValid(boolean valid) { this.valid = valid; }
+
+        public Integer getBoxed() { return boxed; }
+        public void setBoxed(Integer boxed) { this.boxed = boxed; }
+
+        public String getText() { return text; }
+        public void setText(String text) { this.text = text; }
+    }
+
+    private PojoMetaObject mo;
+    private MetaField count;
+    private MetaField total;
+    private MetaField average;
+    private MetaField valid;
+
+    @Before
+    public void setUp() {
+        MetaDataRegistry.getInstance();
+        mo = PojoMetaObject.create("Stats");
+        count = new IntegerField("count");
+        total = new LongField("total");
+        average = new DoubleField("average");
+        valid = new BooleanField("valid");
+        mo.addMetaField(count);
+        mo.addMetaField(total);
+        mo.addMetaField(average);
+        mo.addMetaField(valid);
+        mo.addMetaField(new IntegerField("boxed"));
+        mo.addMetaField(new StringField("text"));
+    }
+
+    @Test
+    public void testPrimitiveGetAndSet() {
+        Stats s = new Stats();
+        count.setIntValue(s, 1000);
+        total.setLongValue(s, 1L << 40);
+        average.setDoubleValue(s, 2.5);
+        valid.setBooleanValue(s, true);
+
+        assertEquals(1000, s.getCount());
+        assertEquals(1000, count.getIntValue(s));
+        assertEquals(1L << 40, total.getLongValue(s));
+        assertEquals(2.5, average.getDoubleValue(s), 0.0);
+        assertTrue(valid.getBooleanValue(s));
+
+        // Widening to a wider primitive getter or setter
+        assertEquals(1000L, count.getLongValue(s));
+        assertEquals(1000.0, count.getDoubleValue(s), 0.0);
+        total.setIntValue(s, 7);
+        assertEquals(7L, s.getTotal());
+    }
+
+    @Test
+    public void testPrimitiveSetterIsUsedBySetValue() {
+        Stats s = new Stats();
+        mo.setValue(count, s, 5);
+        assertEquals(5, s.getCount());
+        assertEquals(5, count.getInt(s).intValue());
+
+        // The Integer field matched setCount(int), so it cannot be set to null
+        assertEquals(int.class, mo.getValueAccessor(count, Stats.class).getSetterType());
+        try {
+            mo.setValue(count, s, null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals(5, s.getCount());
+        }
+    }
+
+    @Test
+    public void testPrimitiveSetterExceptionKeepsType() {
+        try {
+            count.setIntValue(new Stats(), -1);
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            assertEquals("negative count", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testBoxedAndConvertedFields() {
+        Stats s = new Stats();
+        MetaField boxed = mo.getMetaField("boxed");
+        assertEquals(0, boxed.getIntValue(s));
+        boxed.setIntValue(s, 300);
+        assertEquals(Integer.valueOf(300), s.getBoxed());
+        assertEquals(300, boxed.getIntValue(s));
+
+        MetaField text = mo.getMetaField("text");
+        text.setIntValue(s, 12);
+        assertEquals("12", s.getText());
+        assertEquals(12, text.getIntValue(s));
+    }
+
+    @Test
+    public void testMappedObject() {
+        MappedMetaObject mapped = MappedMetaObject.create("Mapped");
+        MetaField n = new IntegerField("n");
+        mapped.addMetaField(n);
+        MappedObject o = new MappedObject(mapped);
+        assertEquals(0, n.getIntValue(o));
+        n.setIntValue(o, 9);
+        assertEquals(9, n.getIntValue(o));
+    }
+
+    @Test
+    public void testNoAllocationPerAccess() {
+        java.lang.management.ThreadMXBean tmx = ManagementFactory.getThreadMXBean();
+        if (!(tmx instanceof com.sun.management.ThreadMXBean)) return;
+        com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) tmx;
+        if (!mx.isThreadAllocatedMemorySupported() || !mx.isThreadAllocatedMemoryEnabled()) return;
+
+        Stats s = new Stats();
+        long sum = 0;
+        for (int i = 0; i < 20_000; i++) {
+            count.setIntValue(s, i + 1000);
+            sum += count.getIntValue(s) + total.getLongValue(s);
+        }
+
+        int n = 100_000;
+        long tid = Thread.currentThread().getId();
+        long before = mx.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < n; i++) {
+            count.setIntValue(s, i + 1000);
+            total.setLongValue(s, i + 100_000L);
+            sum += count.getIntValue(s) + total.getLongValue(s);
+        }
+        long allocated = mx.getThreadAllocatedBytes(tid) - before;
+
+        assertTrue(sum > 0);
+        // Boxing would allocate at least 16 bytes per access
+        assertTrue("Allocated " + allocated + " bytes for " + n + " iterations", allocated < n);
+    }
+}
@@ -0,0 +1,127 @@
+package com.metaobjects.object.pojo;
+
+import com.metaobjects.InvalidValueException;
+import com.metaobjects.field.BooleanField;
+import com.metaobjects.field.IntegerField;
+import com.metaobjects.field.MetaField;
+import com.metaobjects.field.StringField;
+import com.metaobjects.registry.MetaDataRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the generated getter and setter accessors of PojoMetaObject.
+ */
+public class PojoValueAccessorTest {
+
+    public static class Person {
+        private String name;
+        private Integer age;
+        private boolean active;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+
+        public Integer getAge() { return age; }
+        public void setAge(Integer age) {
+            if (age != null && age < 0) throw new IllegalStateException("negative age");
+            this.age = age;
+        }
+
+        public boolean isActive() { return active; }
+
+        public String getReadOnly() { return "ro"; }
+
+        public String getChecked() throws java.io.IOException { throw new java.io.IOException("checked"); }
+        public void setChecked(String checked) {}
+    }
+
+    private PojoMetaObject mo;
+    private MetaField name;
+    private MetaField age;
+
+    @Before
+    public void setUp() {
+        MetaDataRegistry.getInstance();
+        mo = PojoMetaObject.create("Person");
+        name = new StringField("name");
+        age = new IntegerField("age");
+        mo.addMetaField(name);
+        mo.addMetaField(age);
+        mo.addMetaField(new BooleanField("active"));
+        mo.addMetaField(new StringField("readOnly"));
+        mo.addMetaField(new StringField("checked"));
+    }
+
+    @Test
+    public void testGetAndSet() {
+        Person p = new Person();
+        mo.setValue(name, p, "Ann");
+        mo.setValue(age, p, 42);
+
+        assertEquals("Ann", p.getName());
+        assertEquals("Ann", mo.getValue(name, p));
+        assertEquals(42, mo.getValue(age, p));
+        assertEquals(Boolean.FALSE, mo.getValue(mo.getMetaField("active"), p));
+
+        mo.setValue(name, p, null);
+        assertNull(mo.getValue(name, p));
+    }
+
+    @Test
+    public void testAccessorIsHeldPerClass() {
+        PojoValueAccessor a = mo.getValueAccessor(name, Person.class);
+        assertSame(a, mo.getValueAccessor(name, Person.class));
+        assertSame(a, name.getValueAccessor(Person.class, (f, c) -> null));
+        assertEquals(String.class, a.getSetterType());
+
+        // Changing the field's children discards its accessors
+        name.addMetaAttr(com.metaobjects.attr.StringAttribute.create("label", "Name"));
+        assertNotSame(a, mo.getValueAccessor(name, Person.class));
+    }
+
+    @Test
+    public void testMissingSetterFailsOnUse() {
+        Person p = new Person();
+        MetaField readOnly = mo.getMetaField("readOnly");
+        assertEquals("ro", mo.getValue(readOnly, p));
+        try {
+            mo.setValue(readOnly, p, "x");
+            fail("Expected NoSuchMethodError");
+        } catch (NoSuchMethodError e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("setReadOnly"));
+        }
+    }
+
+    @Test(expected = InvalidValueException.class)
+    public void testWrongValueType() {
+        mo.setValue(age, new Person(), "not a number");
+    }
+
+    @Test
+    public void testSetterExceptionPropagatesUnchanged() {
+        try {
+            mo.setValue(age, new Person(), -1);
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            assertEquals("negative age", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testCheckedGetterExceptionIsWrapped() {
+        try {
+            mo.getValue(mo.getMetaField("checked"), new Person());
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) {
+            assertTrue(e.getCause() instanceof java.io.IOException);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullObject() {
+        mo.getValue(name, null);
+    }
+}
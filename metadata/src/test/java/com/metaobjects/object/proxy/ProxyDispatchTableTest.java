@@ -0,0 +1,132 @@
+package com.metaobjects.object.proxy;
+
+import com.metaobjects.field.IntegerField;
+import com.metaobjects.field.MetaField;
+import com.metaobjects.field.StringField;
+import com.metaobjects.object.MetaObject;
+import com.metaobjects.object.MetaObjectAware;
+import com.metaobjects.object.SlotObject;
+import com.metaobjects.registry.MetaDataRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the dispatch table of the proxies of a ProxyMetaObject.
+ */
+public class ProxyDispatchTableTest {
+
+    public interface Widget extends MetaObjectAware {
+        String getName();
+        void setName(String name);
+        Integer getCount();
+        void setCount(Integer count);
+        String getMissing();
+    }
+
+    /** Reads string values upper-cased */
+    public static class UpperProxyObject extends ProxyObject {
+        public UpperProxyObject(MetaObject metaObject) {
+            super(metaObject);
+        }
+
+        @Override
+        public Object _getValueByName(String name) {
+            Object v = super._getValueByName(name);
+            return v instanceof String ? ((String) v).toUpperCase() : v;
+        }
+    }
+
+    private ProxyMetaObject mo;
+    private MetaField name;
+    private MetaField count;
+
+    @Before
+    public void setUp() {
+        MetaDataRegistry.getInstance();
+        mo = (ProxyMetaObject) ProxyMetaObject.create("Widget", Widget.class);
+        name = new StringField("name");
+        count = new IntegerField("count");
+        mo.addMetaField(name);
+        mo.addMetaField(count);
+    }
+
+    @Test
+    public void testGetAndSet() {
+        Widget w = (Widget) mo.newInstance();
+        w.setName("gear");
+        w.setCount(4);
+
+        assertEquals("gear", w.getName());
+        assertEquals(Integer.valueOf(4), w.getCount());
+        assertEquals("gear", name.getString(w));
+        assertSame(mo, w.getMetaData());
+
+        count.setInt(w, 7);
+        assertEquals(Integer.valueOf(7), w.getCount());
+
+        Object po = ((ProxyObjectHandler) Proxy.getInvocationHandler(w)).getProxyObject();
+        assertTrue(po instanceof SlotObject);
+        assertEquals(Integer.valueOf(7), ((SlotObject) po).getSlotValues().get(mo.getSlotLayout().indexOf(count)));
+    }
+
+    @Test
+    public void testTableShared() {
+        ProxyDispatchTable table = mo.getDispatchTable(Widget.class, ProxyObject.class);
+        Widget a = (Widget) mo.newInstance();
+        Widget b = (Widget) mo.newInstance();
+        a.setName("a");
+        b.setName("b");
+        assertEquals("a", a.getName());
+        assertEquals("b", b.getName());
+        assertSame(table, mo.getDispatchTable(Widget.class, ProxyObject.class));
+
+        mo.addMetaField(new StringField("color"));
+        assertNotSame(table, mo.getDispatchTable(Widget.class, ProxyObject.class));
+    }
+
+    @Test
+    public void testFieldAddedAfterProxyCreated() {
+        Widget w = (Widget) mo.newInstance();
+        w.setName("gear");
+        assertEquals("gear", w.getName());
+
+        mo.addMetaField(new StringField("missing"));
+        assertNull(w.getMissing());
+        assertEquals("gear", w.getName());
+        w.setCount(3);
+        assertEquals(Integer.valueOf(3), w.getCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingField() {
+        ((Widget) mo.newInstance()).getMissing();
+    }
+
+    @Test
+    public void testOverriddenValueAccess() {
+        ProxyMetaObject upper = (ProxyMetaObject) ProxyMetaObject.create("UpperWidget", Widget.class, UpperProxyObject.class);
+        MetaField f = new StringField("name");
+        upper.addMetaField(f);
+        upper.addMetaField(new IntegerField("count"));
+
+        Widget w = (Widget) upper.newInstance();
+        w.setName("gear");
+        assertEquals("GEAR", w.getName());
+        assertEquals("GEAR", f.getString(w));
+
+        f.setString(w, "cog");
+        assertEquals("COG", w.getName());
+    }
+
+    @Test
+    public void testProxyObjectMethods() {
+        Widget a = (Widget) mo.newInstance();
+        a.setName("same");
+        assertTrue(a.toString().contains("same"));
+        assertEquals(a.hashCode(), a.hashCode());
+    }
+}
@@ -0,0 +1,165 @@
+package com.metaobjects.registry;
+
+import com.metaobjects.MetaData;
+import com.metaobjects.MetaDataNotFoundException;
+import com.metaobjects.loader.LoaderOptions;
+import com.metaobjects.loader.MetaDataLoader;
+import com.metaobjects.object.MetaObject;
+import com.metaobjects.object.mapped.MappedMetaObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the lookups of MetaDataLoaderRegistry across loaders.
+ */
+public class MetaDataLoaderRegistryTest {
+
+    private MetaDataLoaderRegistry registry;
+    private MetaDataLoader shared;
+    private MetaDataLoader tenant;
+
+    @Before
+    public void setUp() {
+        registry = new MetaDataLoaderRegistry();
+        shared = newLoader("registry-shared", "Address");
+        tenant = newLoader("registry-tenant", "Customer");
+        registry.registerLoader(shared);
+        registry.registerLoader(tenant);
+    }
+
+    @After
+    public void tearDown() {
+        registry.clear();
+        shared.destroy();
+        tenant.destroy();
+    }
+
+    private static MetaDataLoader newLoader(String name, String objectName) {
+        MetaDataLoader loader = MetaDataLoader.createManual(false, name).init();
+        loader.addChild(MappedMetaObject.create(objectName));
+        return loader;
+    }
+
+    @Test
+    public void testFindByName() throws MetaDataNotFoundException {
+        assertSame(shared.getMetaObjectByName("Address"), registry.findMetaObjectByName("Address"));
+        assertSame(tenant.getMetaObjectByName("Customer"), registry.findMetaObjectByName("Customer"));
+        assertFalse(registry.findMetaObjectByNameOptional("Missing").isPresent());
+    }
+
+    @Test
+    public void testAddedAfterRegister() throws MetaDataNotFoundException {
+        MetaObject order = MappedMetaObject.create("Order");
+        tenant.addChild(order);
+        assertSame(order, registry.findMetaObjectByName("Order"));
+    }
+
+    @Test
+    public void testRemovedAfterFound() throws MetaDataNotFoundException {
+        MetaObject customer = registry.findMetaObjectByName("Customer");
+        tenant.deleteChild(customer);
+        assertFalse(registry.findMetaObjectByNameOptional("Customer").isPresent());
+
+        // Found again once the same name is added to another loader
+        MetaObject moved = MappedMetaObject.create("Customer");
+        shared.addChild(moved);
+        assertSame(moved, registry.findMetaObjectByName("Customer"));
+    }
+
+    @Test
+    public void testMissThenAdded() throws MetaDataNotFoundException {
+        assertFalse(registry.findMetaObjectByNameOptional("Order").isPresent());
+        assertFalse(registry.findMetaObjectByNameOptional("Order").isPresent());
+
+        MetaObject order = MappedMetaObject.create("Order");
+        shared.addChild(order);
+        assertSame(order, registry.findMetaObjectByName("Order"));
+    }
+
+    @Test
+    public void testFindMetaDataByName() throws MetaDataNotFoundException {
+        assertSame(shared.getMetaObjectByName("Address"), registry.findMetaDataByName(MetaObject.class, "Address"));
+
+        MetaObject order = MappedMetaObject.create("Order");
+        tenant.addChild(order);
+        assertSame(order, registry.findMetaDataByName(MetaObject.class, "Order"));
+
+        tenant.deleteChild(order);
+        try {
+            registry.findMetaDataByName(MetaObject.class, "Order");
+            fail("Deleted MetaObject was found");
+        } catch (MetaDataNotFoundException expected) {
+        }
+    }
+
+    @Test
+    public void testMissDoesNotScanLoaders() throws MetaDataNotFoundException {
+        CountingLoader counting = new CountingLoader("registry-counting");
+        counting.init();
+        counting.addChild(MappedMetaObject.create("Invoice"));
+        registry.registerLoader(counting);
+        try {
+            assertFalse(registry.findMetaObjectByNameOptional("Missing").isPresent());
+            counting.scans = 0;
+            assertFalse(registry.findMetaObjectByNameOptional("Missing").isPresent());
+            assertFalse(registry.findMetaObjectByNameOptional("Other").isPresent());
+            assertEquals(0, counting.scans);
+
+            MetaObject missing = MappedMetaObject.create("Missing");
+            counting.addChild(missing);
+            assertSame(missing, registry.findMetaObjectByName("Missing"));
+        } finally {
+            registry.unregisterLoader(counting);
+            counting.destroy();
+        }
+    }
+
+    /** Counts the scans of its children */
+    private static class CountingLoader extends MetaDataLoader {
+        int scans;
+
+        CountingLoader(String name) {
+            super(LoaderOptions.create(false, false, false), SUBTYPE_MANUAL, name);
+        }
+
+        @Override
+        public <T extends MetaData> List<T> getChildren(Class<T> c, boolean includeParentData) {
+            scans++;
+            return super.getChildren(c, includeParentData);
+        }
+    }
+
+    @Test(expected = MetaDataNotFoundException.class)
+    public void testUnregister() throws MetaDataNotFoundException {
+        assertNotNull(registry.findMetaObjectByName("Customer"));
+        assertTrue(registry.unregisterLoader(tenant));
+        assertSame(shared.getMetaObjectByName("Address"), registry.findMetaObjectByName("Address"));
+        registry.findMetaObjectByName("Customer");
+    }
+
+    @Test
+    public void testFindLoader() throws MetaDataNotFoundException {
+        MetaObject customer = tenant.getMetaObjectByName("Customer");
+        Object o = customer.newInstance();
+
+        assertSame(tenant, registry.findLoader(o));
+        assertSame(customer, registry.findMetaObject(o));
+        assertSame(customer, registry.findMetaObjectOptional(o).orElse(null));
+        assertNull(registry.findLoader(new Object()));
+        assertFalse(registry.findMetaObjectOptional(new Object()).isPresent());
+
+        registry.unregisterLoader(tenant);
+        assertNull(registry.findLoader(o));
+        assertFalse(registry.findMetaObjectOptional(o).isPresent());
+        try {
+            registry.findMetaObject(o);
+            fail("MetaObject of an unregistered loader was returned");
+        } catch (MetaDataNotFoundException expected) {
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.metaobjects.registry;
+
+import com.metaobjects.MetaDataTypeId;
+import com.metaobjects.attr.MetaAttribute;
+import com.metaobjects.attr.StringAttribute;
+import com.metaobjects.field.MetaField;
+import com.metaobjects.field.StringField;
+import com.metaobjects.object.pojo.PojoMetaObject;
+import org.junit.Test;
+
+import java.util.BitSet;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the dense type ordinals carried by MetaDataTypeId and MetaData.
+ */
+public class TypeOrdinalsTest extends SharedRegistryTestBase {
+
+    @Test
+    public void testOrdinalsAreStableAndDense() {
+        int field = TypeOrdinals.ofType(MetaField.TYPE_FIELD);
+        assertEquals(field, TypeOrdinals.ofType(MetaField.TYPE_FIELD));
+        assertEquals(field, TypeOrdinals.findType(MetaField.TYPE_FIELD));
+        assertTrue(field >= 0 && field < TypeOrdinals.typeCount());
+
+        int stringField = TypeOrdinals.ofTypeId(MetaField.TYPE_FIELD, StringField.SUBTYPE_STRING);
+        assertEquals(stringField, new MetaDataTypeId("FIELD", "String").ordinal());
+        assertTrue(stringField < TypeOrdinals.typeIdCount());
+
+        assertEquals(TypeOrdinals.NONE, TypeOrdinals.findType("no-such-type-ordinal"));
+        assertEquals(TypeOrdinals.NONE, TypeOrdinals.findTypeId(MetaField.TYPE_FIELD, "no-such-subtype"));
+        assertEquals(TypeOrdinals.NONE, TypeOrdinals.ofType(null));
+    }
+
+    @Test
+    public void testProbingUnknownTypeDoesNotAssign() {
+        int count = TypeOrdinals.typeIdCount();
+        MetaDataTypeId unknown = new MetaDataTypeId("no-such-probe-type", "none");
+        assertNull(getSharedRegistry().getTypeDefinition(unknown));
+        assertEquals(TypeOrdinals.NONE, unknown.findOrdinal());
+        assertEquals(count, TypeOrdinals.typeIdCount());
+        assertEquals(TypeOrdinals.NONE, TypeOrdinals.findTypeId("no-such-probe-type", "none"));
+
+        MetaDataTypeId id = new MetaDataTypeId(MetaField.TYPE_FIELD, StringField.SUBTYPE_STRING);
+        assertEquals(id.ordinal(), id.findOrdinal());
+        assertEquals(id, new MetaDataTypeId("Field", "STRING"));
+        assertEquals(id.hashCode(), new MetaDataTypeId("Field", "STRING").hashCode());
+        assertTrue(MetaDataTypeId.class.isRecord());
+    }
+
+    @Test
+    public void testMetaDataCarriesOrdinals() {
+        StringField f = new StringField("name");
+        StringAttribute a = new StringAttribute("label");
+
+        assertEquals(f.getTypeId().ordinal(), f.getTypeIdOrdinal());
+        assertTrue(f.isType(TypeOrdinals.findType(MetaField.TYPE_FIELD)));
+        assertFalse(f.isType(TypeOrdinals.findType(MetaAttribute.TYPE_ATTR)));
+        assertFalse(f.isType(TypeOrdinals.NONE));
+
+        BitSet types = new BitSet();
+        types.set(a.getTypeOrdinal());
+        assertTrue(a.isAnyType(types));
+        assertFalse(f.isAnyType(types));
+    }
+
+    @Test
+    public void testTypeDefinitionByOrdinal() {
+        MetaDataRegistry registry = getSharedRegistry();
+        StringField f = new StringField("name");
+
+        TypeDefinition def = registry.getTypeDefinition(f.getTypeIdOrdinal());
+        assertNotNull(def);
+        assertSame(def, registry.getTypeDefinition(MetaField.TYPE_FIELD, StringField.SUBTYPE_STRING));
+        assertSame(def, registry.getTypeDefinition(f.getTypeId()));
+        assertSame(def, registry.getTypeDefinition("Field", "STRING"));
+        assertNull(registry.getTypeDefinition(TypeOrdinals.NONE));
+        assertNull(registry.getTypeDefinition(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testChildFilteringByType() {
+        PojoMetaObject o = new PojoMetaObject("OrdinalTest");
+        o.addMetaField(new StringField("name"));
+        o.addMetaAttr(StringAttribute.create("label", "x"));
+
+        assertEquals(1, o.getChildrenOfType(MetaField.TYPE_FIELD, false).size());
+        assertEquals(1, o.getChildrenOfType(MetaAttribute.TYPE_ATTR, false).size());
+        assertTrue(o.getChildrenOfType("no-such-type-filter", false).isEmpty());
+    }
+}